@@ -0,0 +1,68 @@
+package com.ridehub.route.benchmark;
+
+import com.ridehub.route.service.HierarchicalTimingWheel;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hold expiry bookkeeping done for every created lock: scheduling a deadline on the wheel
+ * and advancing the wheel one tick with a steady population of pending holds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HierarchicalTimingWheelBenchmark {
+
+    private static final long TICK_MS = 1000;
+
+    @Param({ "10000", "100000" })
+    public int pendingHolds;
+
+    private HierarchicalTimingWheel<Long> wheel;
+    private long nowMs;
+    private long nextKey;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        nowMs = System.currentTimeMillis();
+        wheel = new HierarchicalTimingWheel<>(TICK_MS, 6, 4, nowMs);
+        for (nextKey = 0; nextKey < pendingHolds; nextKey++) {
+            wheel.schedule(nextKey, randomDeadline());
+        }
+    }
+
+    @Benchmark
+    public void schedule() {
+        wheel.schedule(nextKey++ % pendingHolds, randomDeadline());
+    }
+
+    @Benchmark
+    public List<Long> tick() {
+        nowMs += TICK_MS;
+        List<Long> due = wheel.advance(nowMs);
+        for (Long key : due) {
+            wheel.schedule(key, randomDeadline()); // keep the population steady
+        }
+        return due;
+    }
+
+    private long randomDeadline() {
+        return nowMs + ThreadLocalRandom.current().nextLong(30_000, 600_000); // 30s..10min holds
+    }
+}
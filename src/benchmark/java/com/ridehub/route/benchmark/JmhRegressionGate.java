@@ -0,0 +1,99 @@
+package com.ridehub.route.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fails the build when a JMH run regresses against a baseline run of the same benchmarks on
+ * the same machine, both in JMH's JSON format ({@code -rf json}).
+ * <p>
+ * A benchmark regresses when its score is worse than the baseline's by more than the allowed
+ * fraction, in the direction of its mode: lower for throughput, higher for times. Its
+ * normalized allocation ({@code gc.alloc.rate.norm}, from {@code -prof gc}) regresses when it
+ * grows by more than the same fraction. Benchmarks missing from either run are not compared.
+ * <p>
+ * Arguments: baseline file, result file, allowed regression (for example {@code 0.10}).
+ */
+public final class JmhRegressionGate {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private JmhRegressionGate() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: JmhRegressionGate <baseline.json> <result.json> <allowed-regression>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> result = read(Path.of(args[1]));
+        double allowed = Double.parseDouble(args[2]);
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : result.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            double scoreBefore = before.path("primaryMetric").path("score").asDouble();
+            double scoreAfter = after.path("primaryMetric").path("score").asDouble();
+            double scoreChange = change(scoreBefore, scoreAfter, higherIsBetter);
+            String unit = after.path("primaryMetric").path("scoreUnit").asText();
+            regressions += report(entry.getKey(), "score", scoreBefore, scoreAfter, unit, scoreChange, allowed);
+
+            JsonNode allocationBefore = before.path("secondaryMetrics").path(ALLOCATION);
+            JsonNode allocationAfter = after.path("secondaryMetrics").path(ALLOCATION);
+            if (!allocationBefore.isMissingNode() && !allocationAfter.isMissingNode()) {
+                double bytesBefore = allocationBefore.path("score").asDouble();
+                double bytesAfter = allocationAfter.path("score").asDouble();
+                regressions += report(entry.getKey(), "allocation", bytesBefore, bytesAfter, "B/op",
+                    change(bytesBefore, bytesAfter, false), allowed);
+            }
+        }
+        if (regressions > 0) {
+            System.err.printf("%d regression(s) beyond %.0f%%%n", regressions, allowed * 100);
+            System.exit(1);
+        }
+        System.out.println("No regressions beyond " + Math.round(allowed * 100) + "%");
+    }
+
+    /**
+     * The relative change from a baseline value, positive when worse.
+     */
+    static double change(double before, double after, boolean higherIsBetter) {
+        if (before == 0) {
+            return higherIsBetter || after == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        double relative = (after - before) / before;
+        return higherIsBetter ? -relative : relative;
+    }
+
+    private static int report(String benchmark, String metric, double before, double after, String unit, double change,
+        double allowed) {
+        boolean regressed = change > allowed;
+        System.out.printf("%s %-60s %-10s %14.3f -> %14.3f %-8s %+7.1f%%%n", regressed ? "FAIL" : "ok  ", benchmark, metric,
+            before, after, unit, change * 100);
+        return regressed ? 1 : 0;
+    }
+
+    /**
+     * The runs of a result file by benchmark and parameters.
+     */
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> runs = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            Map<String, String> params = new TreeMap<>();
+            run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            runs.put(run.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString()), run);
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,132 @@
+package com.ridehub.route.benchmark;
+
+import com.ridehub.route.domain.Route;
+import com.ridehub.route.domain.Schedule;
+import com.ridehub.route.domain.ScheduleTimeSlot;
+import com.ridehub.route.repository.TripRepositoryWithBulkOperations.TripSlotDate;
+import com.ridehub.route.service.ScheduleCalendar;
+import com.ridehub.route.service.TripPlanner;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Planning phase of trip generation, without the database: compiling schedule calendars and
+ * planning the trips of all schedules over the horizon against the existing trips, on a
+ * synthetic network of ten schedules per route, four slots per schedule, half of the planned
+ * trips already generated and a week of trips of a retired slot per route left to orphan.
+ * <p>
+ * Run with {@code -prof gc} (the default {@code jmh.args}) for the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TripPlanningBenchmark {
+
+    private static final int SCHEDULES_PER_ROUTE = 10;
+    private static final int SLOTS_PER_SCHEDULE = 4;
+    private static final LocalDate TODAY = LocalDate.of(2031, 1, 6);
+
+    @Param({ "100", "1000", "10000" })
+    public int schedules;
+
+    @Param({ "7", "30" })
+    public int horizonDays;
+
+    private final ZoneId zone = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    private List<Schedule> network;
+    private Map<Long, ScheduleCalendar> calendars;
+    private Set<TripSlotDate> existing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        network = new ArrayList<>(schedules);
+        long slotId = 1;
+        for (long id = 1; id <= schedules; id++) {
+            Route route = new Route().id((id - 1) / SCHEDULES_PER_ROUTE + 1);
+            Schedule schedule = new Schedule()
+                .id(id)
+                .scheduleCode("SCH-" + id)
+                .daysOfWeek(randomDaysOfWeek(random))
+                .startDate(TODAY.minusDays(random.nextInt(30)))
+                .route(route);
+            for (int slot = 0; slot < SLOTS_PER_SCHEDULE; slot++) {
+                LocalTime departure = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+                schedule.addTimeSlots(
+                    new ScheduleTimeSlot()
+                        .id(slotId++)
+                        .slotCode("SLOT-" + slotId)
+                        .departureTime(departure)
+                        .arrivalTime(departure.plusMinutes(90 + random.nextInt(600)))
+                        .bufferMinutes(30)
+                );
+            }
+            network.add(schedule);
+        }
+        calendars = compileCalendars();
+
+        existing = new HashSet<>();
+        for (Schedule schedule : network) {
+            for (TripPlanner.PlannedTrip trip : TripPlanner.tripsOf(schedule, calendars.get(schedule.getId()), TODAY, TODAY.plusDays(horizonDays), zone)) {
+                if (random.nextBoolean()) {
+                    existing.add(trip.key());
+                }
+            }
+        }
+        for (long routeId = 1; routeId <= (schedules - 1) / SCHEDULES_PER_ROUTE + 1; routeId++) {
+            for (int day = 0; day < 7; day++) {
+                existing.add(new TripSlotDate(routeId, -routeId, TODAY.plusDays(day)));
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Long, ScheduleCalendar> compileCalendars() {
+        Map<Long, ScheduleCalendar> compiled = new HashMap<>(network.size() * 2);
+        for (Schedule schedule : network) {
+            compiled.put(schedule.getId(), ScheduleCalendar.of(schedule.getDaysOfWeek(), List.of()));
+        }
+        return compiled;
+    }
+
+    @Benchmark
+    public TripPlanner.TripPlan plan() {
+        return TripPlanner.plan(network, schedule -> calendars.get(schedule.getId()), TODAY, schedule -> TODAY.plusDays(horizonDays), existing, zone);
+    }
+
+    private static String randomDaysOfWeek(Random random) {
+        StringJoiner days = new StringJoiner(",");
+        for (int day = 1; day <= 7; day++) {
+            if (random.nextInt(10) < 7) {
+                days.add(Integer.toString(day));
+            }
+        }
+        return days.length() == 0 ? "1" : days.toString();
+    }
+}
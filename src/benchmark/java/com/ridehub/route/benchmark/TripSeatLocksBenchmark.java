@@ -0,0 +1,76 @@
+package com.ridehub.route.benchmark;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.service.TripSeatLocks;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Lock step of {@code tryHold}: taking the trip stripe for a transaction, spinning for
+ * {@code workTokens} inside it and releasing it on completion, with all threads on one trip
+ * or each on its own. Measures stripe contention only; the conflict query and the lock
+ * inserts the stripe guards are measured against MySQL by {@code SeatLockQueryBenchmarkIT}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TripSeatLocksBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Locks {
+
+        final TripSeatLocks tripSeatLocks = new TripSeatLocks(new ApplicationProperties());
+        final AtomicLong nextTrip = new AtomicLong();
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        @Param({ "true", "false" })
+        public boolean sameTrip;
+
+        @Param({ "200" })
+        public int workTokens;
+
+        Long tripId;
+
+        @Setup(Level.Trial)
+        public void setUp(Locks locks) {
+            tripId = sameTrip ? 1L : locks.nextTrip.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    public boolean lockForTransaction(Locks locks, Caller caller) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            boolean locked = locks.tripSeatLocks.lockForTransaction(caller.tripId);
+            Blackhole.consumeCPU(caller.workTokens); // fixed stand-in for the time the stripe is held
+            return locked;
+        } finally {
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
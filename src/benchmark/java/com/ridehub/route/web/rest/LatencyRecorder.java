@@ -0,0 +1,75 @@
+package com.ridehub.route.web.rest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Latencies of one operation, in nanoseconds.
+ */
+final class LatencyRecorder {
+
+    private final List<long[]> chunks = new ArrayList<>();
+    private final ThreadLocal<long[]> current = new ThreadLocal<>();
+    private final ThreadLocal<int[]> position = ThreadLocal.withInitial(() -> new int[1]);
+
+    <T> T time(Supplier<T> call) {
+        long t0 = System.nanoTime();
+        T result = call.get();
+        record(System.nanoTime() - t0);
+        return result;
+    }
+
+    private void record(long nanos) {
+        long[] chunk = current.get();
+        int[] pos = position.get();
+        if (chunk == null || pos[0] == chunk.length) {
+            chunk = new long[4096];
+            Arrays.fill(chunk, -1);
+            synchronized (chunks) {
+                chunks.add(chunk);
+            }
+            current.set(chunk);
+            pos[0] = 0;
+        }
+        chunk[pos[0]++] = nanos;
+    }
+
+    private long[] sorted() {
+        synchronized (chunks) {
+            return chunks.stream().flatMapToLong(Arrays::stream).filter(n -> n >= 0).sorted().toArray();
+        }
+    }
+
+    long count() {
+        return sorted().length;
+    }
+
+    /**
+     * Time spent in the recorded calls, for callers that time a single thread.
+     */
+    double totalSeconds() {
+        return Arrays.stream(sorted()).sum() / 1e9;
+    }
+
+    String summary(String name, double elapsedSec) {
+        long[] all = sorted();
+        if (all.length == 0) {
+            return String.format("%-8s n=0", name);
+        }
+        return String.format(
+            "%-8s n=%d  %.0f ops/s  p50=%.2fms  p99=%.2fms  max=%.2fms",
+            name,
+            all.length,
+            all.length / elapsedSec,
+            percentile(all, 0.50) / 1e6,
+            percentile(all, 0.99) / 1e6,
+            all[all.length - 1] / 1e6
+        );
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
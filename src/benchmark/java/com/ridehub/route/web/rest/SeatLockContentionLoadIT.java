@@ -0,0 +1,204 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.service.SeatLockService;
+import com.ridehub.route.service.dto.request.CancelGroupRequestDTO;
+import com.ridehub.route.service.dto.request.ConfirmGroupRequestDTO;
+import com.ridehub.route.service.dto.request.SeatHoldRequestDTO;
+import com.ridehub.route.service.dto.response.SeatHoldResponseDTO;
+import com.ridehub.route.service.dto.response.SeatLockActionResponseDTO;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Contention load test for the seat-lock hot path, run with the {@code benchmark} profile.
+ * <p>
+ * {@code benchmark.users} threads sell out trips of {@code benchmark.seats} seats, round
+ * after round, for {@code benchmark.durationSec}: each user holds up to {@code benchmark.seatsPerHold}
+ * random seats that look free, then confirms the hold with probability {@code benchmark.confirmRatio} or
+ * cancels it. Reports throughput and p50/p99 latency of hold, confirm and cancel, and fails
+ * on any double hold: a seat handed to a second group while the first still owned it, or
+ * more than one active lock per seat in {@code seat_lock} after a round.
+ */
+@IntegrationTest
+class SeatLockContentionLoadIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeatLockContentionLoadIT.class);
+
+    private final int users = Integer.getInteger("benchmark.users", 32);
+    private final int seats = Integer.getInteger("benchmark.seats", 40);
+    private final int seatsPerHold = Integer.getInteger("benchmark.seatsPerHold", 2);
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("benchmark.durationSec", 20));
+    private final double confirmRatio = Double.parseDouble(System.getProperty("benchmark.confirmRatio", "0.3"));
+
+    @Autowired
+    private SeatLockService seatLockService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void usersFightingOverSeatsNeverDoubleHold() throws Exception {
+        SeatLockTestTrips trips = new SeatLockTestTrips(em, transactionManager);
+        LatencyRecorder hold = new LatencyRecorder();
+        LatencyRecorder confirm = new LatencyRecorder();
+        LatencyRecorder cancel = new LatencyRecorder();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong violations = new AtomicLong();
+
+        Instant end = Instant.now().plus(duration);
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        try {
+            while (Instant.now().isBefore(end)) {
+                Long tripId = trips.create();
+                Round round = new Round(tripId);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int u = 0; u < users; u++) {
+                    int user = u;
+                    futures.add(
+                        pool.submit(() -> {
+                            start.await();
+                            while (!round.isSoldOut() && Instant.now().isBefore(end)) {
+                                attempt(round, user, hold, confirm, cancel, rejected, violations);
+                            }
+                            return null;
+                        })
+                    );
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                violations.addAndGet(countActiveDuplicates(trips, tripId));
+            }
+        } finally {
+            pool.shutdownNow();
+            trips.deleteAll();
+        }
+        double elapsedSec = (System.nanoTime() - started) / 1e9;
+
+        LOG.info(
+            "\nSeat-lock contention: {} users, {} seats x {} trips, {} seats per hold, {}s\n{}\n{}\n{}\nrejected holds: {}, double-hold violations: {}",
+            users,
+            seats,
+            trips.ids().size(),
+            seatsPerHold,
+            String.format("%.1f", elapsedSec),
+            hold.summary("hold", elapsedSec),
+            confirm.summary("confirm", elapsedSec),
+            cancel.summary("cancel", elapsedSec),
+            rejected.get(),
+            violations.get()
+        );
+        assertThat(violations.get()).as("double-hold violations").isZero();
+        assertThat(hold.count()).isPositive();
+    }
+
+    private void attempt(
+        Round round,
+        int user,
+        LatencyRecorder hold,
+        LatencyRecorder confirm,
+        LatencyRecorder cancel,
+        AtomicLong rejected,
+        AtomicLong violations
+    ) {
+        // like a seat map, users pick among the seats that look free; racing users pick the same ones
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> free = round.seatNos.stream().filter(seat -> !round.owners.containsKey(seat)).collect(Collectors.toList());
+        if (free.isEmpty()) {
+            Thread.onSpinWait();
+            return;
+        }
+        Collections.shuffle(free, random);
+        List<String> wanted = free.subList(0, Math.min(seatsPerHold, free.size()));
+        String group = "load-" + user + "-" + round.nextGroup.incrementAndGet();
+
+        SeatHoldRequestDTO req = new SeatHoldRequestDTO();
+        req.setTripId(round.tripId);
+        req.setSeatNumbers(wanted);
+        req.setLockGroupId(group);
+        req.setIdemKey(group);
+        req.setHoldTtlSec(180);
+        SeatHoldResponseDTO held = hold.time(() -> seatLockService.tryHold(req));
+        if (!"HELD".equals(held.getStatus())) {
+            rejected.incrementAndGet();
+            return;
+        }
+        for (String seat : held.getHeldSeats()) {
+            String owner = round.owners.putIfAbsent(seat, group);
+            if (owner != null) {
+                LOG.error("Seat {} of trip {} held by {} while owned by {}", seat, round.tripId, group, owner);
+                violations.incrementAndGet();
+            }
+        }
+
+        if (random.nextDouble() < confirmRatio) {
+            SeatLockActionResponseDTO result = confirm.time(() -> seatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, group)));
+            if ("CONFIRMED".equals(result.getStatus())) {
+                round.sold.addAndGet(held.getHeldSeats().size()); // sold seats keep their owner
+            }
+        } else {
+            // release ownership first: a hold racing with the cancel must not count as a violation
+            held.getHeldSeats().forEach(seat -> round.owners.remove(seat, group));
+            cancel.time(() -> seatLockService.cancelGroup(new CancelGroupRequestDTO(group, null)));
+        }
+    }
+
+    private long countActiveDuplicates(SeatLockTestTrips trips, Long tripId) {
+        Instant now = Instant.now();
+        Map<String, Long> activePerSeat = trips
+            .locks(tripId)
+            .stream()
+            .filter(l -> l.getStatus() == LockStatus.COMMITTED || (l.getStatus() == LockStatus.HELD && l.getExpiresAt().isAfter(now)))
+            .collect(Collectors.groupingBy(SeatLock::getSeatNo, Collectors.counting()));
+        return activePerSeat.values().stream().filter(count -> count > 1).count();
+    }
+
+    private final class Round {
+
+        final Long tripId;
+        final List<String> seatNos;
+        final Map<String, String> owners = new ConcurrentHashMap<>();
+        final AtomicInteger sold = new AtomicInteger();
+        final AtomicLong nextGroup = new AtomicLong();
+
+        Round(Long tripId) {
+            this.tripId = tripId;
+            this.seatNos = IntStream.rangeClosed(1, seats).mapToObj(i -> "L" + i).toList();
+        }
+
+        boolean isSoldOut() {
+            return sold.get() >= seats;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.service.SeatLockQueryService;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Single-threaded latency of the two database steps of {@code tryHold} against a Testcontainers
+ * MySQL, run with the {@code benchmark} profile: the conflict query
+ * ({@link SeatLockQueryService#findConflictingSeatNos}) and the creation of the lock rows
+ * ({@link SeatLockRepository#saveAll}).
+ * <p>
+ * The trip starts with {@code benchmark.locks} rows, a mix of COMMITTED, unexpired HELD and EXPIRED.
+ * Each iteration checks {@code benchmark.seatsPerHold} random seats, then creates HELD rows for them
+ * in a transaction that is rolled back, so every iteration sees the same table. Reports p50/p99
+ * latency of each step after {@code benchmark.warmup} unrecorded iterations.
+ */
+@IntegrationTest
+class SeatLockQueryBenchmarkIT {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeatLockQueryBenchmarkIT.class);
+
+    private final int locks = Integer.getInteger("benchmark.locks", 400);
+    private final int seatsPerHold = Integer.getInteger("benchmark.seatsPerHold", 2);
+    private final int iterations = Integer.getInteger("benchmark.iterations", 2000);
+    private final int warmup = Integer.getInteger("benchmark.warmup", 200);
+
+    @Autowired
+    private SeatLockQueryService seatLockQueryService;
+
+    @Autowired
+    private SeatLockRepository seatLockRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeatLockTestTrips trips;
+
+    @BeforeEach
+    void setUp() {
+        trips = new SeatLockTestTrips(em, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        trips.deleteAll();
+    }
+
+    @Test
+    void conflictQueryAndLockCreation() {
+        Long tripId = trips.create();
+        Instant now = Instant.now();
+        trips
+            .tx()
+            .executeWithoutResult(tx -> {
+                List<SeatLock> seed = new ArrayList<>();
+                for (int i = 0; i < locks; i++) {
+                    LockStatus status = LockStatus.values()[i % LockStatus.values().length];
+                    Instant expiresAt = status == LockStatus.EXPIRED ? now.minusSeconds(60) : now.plusSeconds(3600);
+                    seed.add(lock(tripId, "Q" + i, "seed-" + (i % 50), status, expiresAt));
+                }
+                seatLockRepository.saveAll(seed);
+            });
+
+        run(tripId, "warmup-", warmup, new LatencyRecorder(), new LatencyRecorder());
+        LatencyRecorder conflicts = new LatencyRecorder();
+        LatencyRecorder inserts = new LatencyRecorder();
+        run(tripId, "bench-", iterations, conflicts, inserts);
+
+        LOG.info(
+            "\nSeat-lock queries: {} rows on the trip, {} seats per hold, {} iterations\n{}\n{}",
+            locks,
+            seatsPerHold,
+            iterations,
+            conflicts.summary("conflict", conflicts.totalSeconds()),
+            inserts.summary("saveAll", inserts.totalSeconds())
+        );
+        assertThat(conflicts.count()).isEqualTo(iterations);
+        assertThat(inserts.count()).isEqualTo(iterations);
+    }
+
+    private void run(Long tripId, String groupPrefix, int count, LatencyRecorder conflicts, LatencyRecorder inserts) {
+        for (int i = 0; i < count; i++) {
+            String group = groupPrefix + i;
+            Set<String> seats = randomSeats();
+            Set<String> taken = conflicts.time(() -> seatLockQueryService.findConflictingSeatNos(tripId, seats, Instant.now(), group));
+            List<SeatLock> created = inserts.time(() -> insertRolledBack(tripId, seats, group));
+            assertThat(taken).isSubsetOf(seats);
+            assertThat(created).hasSize(seats.size());
+        }
+    }
+
+    private Set<String> randomSeats() {
+        return ThreadLocalRandom.current()
+            .ints(0, locks)
+            .distinct()
+            .limit(Math.min(seatsPerHold, locks))
+            .mapToObj(i -> "Q" + i)
+            .collect(Collectors.toSet());
+    }
+
+    private List<SeatLock> insertRolledBack(Long tripId, Set<String> seats, String group) {
+        return trips
+            .tx()
+            .execute(status -> {
+                List<SeatLock> toSave = new ArrayList<>();
+                Instant now = Instant.now();
+                seats.forEach(seat -> toSave.add(lock(tripId, seat, group, LockStatus.HELD, now.plusSeconds(180))));
+                List<SeatLock> saved = seatLockRepository.saveAll(toSave);
+                seatLockRepository.flush();
+                status.setRollbackOnly();
+                return saved;
+            });
+    }
+
+    private SeatLock lock(Long tripId, String seat, String group, LockStatus status, Instant expiresAt) {
+        Instant now = Instant.now();
+        return new SeatLock()
+            .seatNo(seat)
+            .status(status)
+            .expiresAt(expiresAt)
+            .idempotencyKey(group + ":" + seat)
+            .lockGroupId(group)
+            .createdAt(now)
+            .updatedAt(now)
+            .isDeleted(false)
+            .trip(em.getReference(Trip.class, tripId));
+    }
+}
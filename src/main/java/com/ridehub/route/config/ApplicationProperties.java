@@ -1,5 +1,6 @@
 package com.ridehub.route.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +14,30 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final SeatLock seatLock = new SeatLock();
+
+    private final AutoSchedule autoSchedule = new AutoSchedule();
+
+    private final JobLock jobLock = new JobLock();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public SeatLock getSeatLock() {
+        return seatLock;
+    }
+
+    public AutoSchedule getAutoSchedule() {
+        return autoSchedule;
+    }
+
+    public JobLock getJobLock() {
+        return jobLock;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +52,271 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class SeatLock {
+
+        private String engine = "jpa";
+
+        private int lockStripes = 256;
+
+        private long lockTimeoutMs = 5_000;
+
+        private final Sweeper sweeper = new Sweeper();
+
+        private final Stream stream = new Stream();
+
+        private final ExpiryNotifier expiryNotifier = new ExpiryNotifier();
+
+        public String getEngine() {
+            return engine;
+        }
+
+        public void setEngine(String engine) {
+            this.engine = engine;
+        }
+
+        public int getLockStripes() {
+            return lockStripes;
+        }
+
+        public void setLockStripes(int lockStripes) {
+            this.lockStripes = lockStripes;
+        }
+
+        public long getLockTimeoutMs() {
+            return lockTimeoutMs;
+        }
+
+        public void setLockTimeoutMs(long lockTimeoutMs) {
+            this.lockTimeoutMs = lockTimeoutMs;
+        }
+
+        public Sweeper getSweeper() {
+            return sweeper;
+        }
+
+        public Stream getStream() {
+            return stream;
+        }
+
+        public ExpiryNotifier getExpiryNotifier() {
+            return expiryNotifier;
+        }
+
+        public static class Sweeper {
+
+            private boolean enabled = true;
+
+            private long intervalMs = 60_000;
+
+            private int batchSize = 500;
+
+            private int maxBatches = 20;
+
+            private Duration archiveAfter = Duration.ofDays(7);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getIntervalMs() {
+                return intervalMs;
+            }
+
+            public void setIntervalMs(long intervalMs) {
+                this.intervalMs = intervalMs;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public int getMaxBatches() {
+                return maxBatches;
+            }
+
+            public void setMaxBatches(int maxBatches) {
+                this.maxBatches = maxBatches;
+            }
+
+            public Duration getArchiveAfter() {
+                return archiveAfter;
+            }
+
+            public void setArchiveAfter(Duration archiveAfter) {
+                this.archiveAfter = archiveAfter;
+            }
+        }
+
+        public static class Stream {
+
+            private long coalesceMs = 250;
+
+            private long heartbeatMs = 15_000;
+
+            private long timeoutMs = 1_800_000;
+
+            private int maxSubscribers = 10_000;
+
+            private int sendThreads = 4;
+
+            private long sendTimeoutMs = 5_000;
+
+            public long getCoalesceMs() {
+                return coalesceMs;
+            }
+
+            public void setCoalesceMs(long coalesceMs) {
+                this.coalesceMs = coalesceMs;
+            }
+
+            public long getHeartbeatMs() {
+                return heartbeatMs;
+            }
+
+            public void setHeartbeatMs(long heartbeatMs) {
+                this.heartbeatMs = heartbeatMs;
+            }
+
+            public long getTimeoutMs() {
+                return timeoutMs;
+            }
+
+            public void setTimeoutMs(long timeoutMs) {
+                this.timeoutMs = timeoutMs;
+            }
+
+            public int getMaxSubscribers() {
+                return maxSubscribers;
+            }
+
+            public void setMaxSubscribers(int maxSubscribers) {
+                this.maxSubscribers = maxSubscribers;
+            }
+
+            public int getSendThreads() {
+                return sendThreads;
+            }
+
+            public void setSendThreads(int sendThreads) {
+                this.sendThreads = sendThreads;
+            }
+
+            public long getSendTimeoutMs() {
+                return sendTimeoutMs;
+            }
+
+            public void setSendTimeoutMs(long sendTimeoutMs) {
+                this.sendTimeoutMs = sendTimeoutMs;
+            }
+        }
+
+        public static class ExpiryNotifier {
+
+            private boolean enabled = true;
+
+            private long tickMs = 1_000;
+
+            private Duration startupCatchUp = Duration.ofMinutes(5);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getTickMs() {
+                return tickMs;
+            }
+
+            public void setTickMs(long tickMs) {
+                this.tickMs = tickMs;
+            }
+
+            public Duration getStartupCatchUp() {
+                return startupCatchUp;
+            }
+
+            public void setStartupCatchUp(Duration startupCatchUp) {
+                this.startupCatchUp = startupCatchUp;
+            }
+        }
+    }
+
+    public static class AutoSchedule {
+
+        private int batchSize = 500;
+
+        private int parallelism = 4;
+
+        private int horizonDays = 7;
+
+        private long regenerationIntervalMs = 60_000;
+
+        private int eventBatchSize = 1000;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getHorizonDays() {
+            return horizonDays;
+        }
+
+        public void setHorizonDays(int horizonDays) {
+            this.horizonDays = horizonDays;
+        }
+
+        public long getRegenerationIntervalMs() {
+            return regenerationIntervalMs;
+        }
+
+        public void setRegenerationIntervalMs(long regenerationIntervalMs) {
+            this.regenerationIntervalMs = regenerationIntervalMs;
+        }
+
+        public int getEventBatchSize() {
+            return eventBatchSize;
+        }
+
+        public void setEventBatchSize(int eventBatchSize) {
+            this.eventBatchSize = eventBatchSize;
+        }
+    }
+
+    public static class JobLock {
+
+        private Duration lease = Duration.ofMinutes(5);
+
+        public Duration getLease() {
+            return lease;
+        }
+
+        public void setLease(Duration lease) {
+            this.lease = lease;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -0,0 +1,190 @@
+package com.ridehub.route.domain;
+
+import com.ridehub.route.domain.enumeration.AutoScheduleJobStatus;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A manually triggered trip generation run and its progress.
+ * <p>
+ * Created by {@code AutoScheduleJobService}; progress is then written with
+ * {@code AutoScheduleJobRepository}'s bulk updates from the partition threads.
+ */
+@Entity
+@Table(name = "auto_schedule_job")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class AutoScheduleJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16, nullable = false)
+    private AutoScheduleJobStatus status;
+
+    @Column(name = "instance")
+    private String instance;
+
+    @Column(name = "schedules_total")
+    private Integer schedulesTotal;
+
+    @Column(name = "schedules_done", nullable = false)
+    private Integer schedulesDone;
+
+    @Column(name = "trips_created", nullable = false)
+    private Integer tripsCreated;
+
+    @Column(name = "errors", nullable = false)
+    private Integer errors;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AutoScheduleJobStatus getStatus() {
+        return this.status;
+    }
+
+    public void setStatus(AutoScheduleJobStatus status) {
+        this.status = status;
+    }
+
+    public String getInstance() {
+        return this.instance;
+    }
+
+    public void setInstance(String instance) {
+        this.instance = instance;
+    }
+
+    public Integer getSchedulesTotal() {
+        return this.schedulesTotal;
+    }
+
+    public void setSchedulesTotal(Integer schedulesTotal) {
+        this.schedulesTotal = schedulesTotal;
+    }
+
+    public Integer getSchedulesDone() {
+        return this.schedulesDone;
+    }
+
+    public void setSchedulesDone(Integer schedulesDone) {
+        this.schedulesDone = schedulesDone;
+    }
+
+    public Integer getTripsCreated() {
+        return this.tripsCreated;
+    }
+
+    public void setTripsCreated(Integer tripsCreated) {
+        this.tripsCreated = tripsCreated;
+    }
+
+    public Integer getErrors() {
+        return this.errors;
+    }
+
+    public void setErrors(Integer errors) {
+        this.errors = errors;
+    }
+
+    public String getLastError() {
+        return this.lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return this.createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return this.startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return this.finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return this.updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AutoScheduleJob)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((AutoScheduleJob) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AutoScheduleJob{" +
+            "id=" + getId() +
+            ", status='" + getStatus() + "'" +
+            ", instance='" + getInstance() + "'" +
+            ", schedulesTotal=" + getSchedulesTotal() +
+            ", schedulesDone=" + getSchedulesDone() +
+            ", tripsCreated=" + getTripsCreated() +
+            ", errors=" + getErrors() +
+            ", lastError='" + getLastError() + "'" +
+            ", createdAt='" + getCreatedAt() + "'" +
+            ", startedAt='" + getStartedAt() + "'" +
+            ", finishedAt='" + getFinishedAt() + "'" +
+            ", updatedAt='" + getUpdatedAt() + "'" +
+            "}";
+    }
+}
@@ -44,6 +44,14 @@ public class Route implements Serializable {
     @Column(name = "base_fare", precision = 21, scale = 2, nullable = false)
     private BigDecimal baseFare;
 
+    /**
+     * Days ahead that trips are generated for; null for the application default.
+     */
+    @Min(value = 1)
+    @Max(value = 366)
+    @Column(name = "horizon_days")
+    private Integer horizonDays;
+
     @NotNull
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
@@ -132,6 +140,19 @@ public class Route implements Serializable {
         this.baseFare = baseFare;
     }
 
+    public Integer getHorizonDays() {
+        return this.horizonDays;
+    }
+
+    public Route horizonDays(Integer horizonDays) {
+        this.setHorizonDays(horizonDays);
+        return this;
+    }
+
+    public void setHorizonDays(Integer horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
     public Instant getCreatedAt() {
         return this.createdAt;
     }
@@ -281,6 +302,7 @@ public class Route implements Serializable {
             ", routeCode='" + getRouteCode() + "'" +
             ", distanceKm=" + getDistanceKm() +
             ", baseFare=" + getBaseFare() +
+            ", horizonDays=" + getHorizonDays() +
             ", createdAt='" + getCreatedAt() + "'" +
             ", updatedAt='" + getUpdatedAt() + "'" +
             ", isDeleted='" + getIsDeleted() + "'" +
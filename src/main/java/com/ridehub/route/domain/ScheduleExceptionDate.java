@@ -0,0 +1,91 @@
+package com.ridehub.route.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A date a schedule does not run on although its days of week say it does, such as a public holiday.
+ */
+@Entity
+@Immutable
+@Table(name = "schedule_exception_date")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ScheduleExceptionDate implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate exceptionDate;
+
+    @Column(name = "description")
+    private String description;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getScheduleId() {
+        return this.scheduleId;
+    }
+
+    public void setScheduleId(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+
+    public LocalDate getExceptionDate() {
+        return this.exceptionDate;
+    }
+
+    public void setExceptionDate(LocalDate exceptionDate) {
+        this.exceptionDate = exceptionDate;
+    }
+
+    public String getDescription() {
+        return this.description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScheduleExceptionDate)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((ScheduleExceptionDate) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ScheduleExceptionDate{" +
+            "id=" + getId() +
+            ", scheduleId=" + getScheduleId() +
+            ", exceptionDate='" + getExceptionDate() + "'" +
+            ", description='" + getDescription() + "'" +
+            "}";
+    }
+}
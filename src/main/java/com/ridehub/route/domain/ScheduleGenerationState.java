@@ -0,0 +1,94 @@
+package com.ridehub.route.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Last date the trips of a schedule were generated through; {@code null} while the schedule
+ * has to be regenerated.
+ * <p>
+ * Rows are only written by {@code ScheduleGenerationStateRepository}'s bulk statements.
+ */
+@Entity
+@Immutable
+@Table(name = "schedule_generation_state")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ScheduleGenerationState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    @Column(name = "generated_through")
+    private LocalDate generatedThrough;
+
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getScheduleId() {
+        return this.scheduleId;
+    }
+
+    public void setScheduleId(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+
+    public LocalDate getGeneratedThrough() {
+        return this.generatedThrough;
+    }
+
+    public void setGeneratedThrough(LocalDate generatedThrough) {
+        this.generatedThrough = generatedThrough;
+    }
+
+    public Integer getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return this.updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScheduleGenerationState)) {
+            return false;
+        }
+        return getScheduleId() != null && getScheduleId().equals(((ScheduleGenerationState) o).getScheduleId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ScheduleGenerationState{" +
+            "scheduleId=" + getScheduleId() +
+            ", generatedThrough='" + getGeneratedThrough() + "'" +
+            ", version=" + getVersion() +
+            ", updatedAt='" + getUpdatedAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,128 @@
+package com.ridehub.route.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Lease of a scheduled job, held by one application instance at a time, and the outcome of its last run.
+ * <p>
+ * Rows are only written by {@code ScheduledJobLockRepository}'s conditional updates.
+ */
+@Entity
+@Immutable
+@Table(name = "scheduled_job_lock")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ScheduledJobLock implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "last_run_by")
+    private String lastRunBy;
+
+    @Column(name = "last_started_at")
+    private Instant lastStartedAt;
+
+    @Column(name = "last_finished_at")
+    private Instant lastFinishedAt;
+
+    @Column(name = "last_status", length = 16)
+    private String lastStatus;
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLockedBy() {
+        return this.lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public Instant getLockedUntil() {
+        return this.lockedUntil;
+    }
+
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public String getLastRunBy() {
+        return this.lastRunBy;
+    }
+
+    public void setLastRunBy(String lastRunBy) {
+        this.lastRunBy = lastRunBy;
+    }
+
+    public Instant getLastStartedAt() {
+        return this.lastStartedAt;
+    }
+
+    public void setLastStartedAt(Instant lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public Instant getLastFinishedAt() {
+        return this.lastFinishedAt;
+    }
+
+    public void setLastFinishedAt(Instant lastFinishedAt) {
+        this.lastFinishedAt = lastFinishedAt;
+    }
+
+    public String getLastStatus() {
+        return this.lastStatus;
+    }
+
+    public void setLastStatus(String lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScheduledJobLock)) {
+            return false;
+        }
+        return getName() != null && getName().equals(((ScheduledJobLock) o).getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ScheduledJobLock{" +
+            "name='" + getName() + "'" +
+            ", lockedBy='" + getLockedBy() + "'" +
+            ", lockedUntil='" + getLockedUntil() + "'" +
+            ", lastRunBy='" + getLastRunBy() + "'" +
+            ", lastStartedAt='" + getLastStartedAt() + "'" +
+            ", lastFinishedAt='" + getLastFinishedAt() + "'" +
+            ", lastStatus='" + getLastStatus() + "'" +
+            "}";
+    }
+}
@@ -49,6 +49,10 @@ public class SeatLock implements Serializable {
     @Column(name = "idempotency_key", length = 80, unique = true)
     private String idempotencyKey;
 
+    @Size(max = 64)
+    @Column(name = "lock_group_id", length = 64)
+    private String lockGroupId;
+
     @Column(name = "booking_id")
     private Long bookingId;
 
@@ -154,6 +158,19 @@ public class SeatLock implements Serializable {
         this.idempotencyKey = idempotencyKey;
     }
 
+    public String getLockGroupId() {
+        return this.lockGroupId;
+    }
+
+    public SeatLock lockGroupId(String lockGroupId) {
+        this.setLockGroupId(lockGroupId);
+        return this;
+    }
+
+    public void setLockGroupId(String lockGroupId) {
+        this.lockGroupId = lockGroupId;
+    }
+
     public Long getBookingId() {
         return this.bookingId;
     }
@@ -274,6 +291,7 @@ public class SeatLock implements Serializable {
             ", status='" + getStatus() + "'" +
             ", expiresAt='" + getExpiresAt() + "'" +
             ", idempotencyKey='" + getIdempotencyKey() + "'" +
+            ", lockGroupId='" + getLockGroupId() + "'" +
             ", bookingId=" + getBookingId() +
             ", createdAt='" + getCreatedAt() + "'" +
             ", updatedAt='" + getUpdatedAt() + "'" +
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
@@ -36,6 +37,13 @@ public class Trip implements Serializable {
     @Column(name = "departure_time", nullable = false)
     private Instant departureTime;
 
+    /**
+     * Service date of a trip generated from a schedule, unique per route and time slot;
+     * null for trips created by hand. Only set on insert.
+     */
+    @Column(name = "departure_date", updatable = false)
+    private LocalDate departureDate;
+
     @NotNull
     @Column(name = "arrival_time", nullable = false)
     private Instant arrivalTime;
@@ -126,6 +134,19 @@ public class Trip implements Serializable {
         this.departureTime = departureTime;
     }
 
+    public LocalDate getDepartureDate() {
+        return this.departureDate;
+    }
+
+    public Trip departureDate(LocalDate departureDate) {
+        this.setDepartureDate(departureDate);
+        return this;
+    }
+
+    public void setDepartureDate(LocalDate departureDate) {
+        this.departureDate = departureDate;
+    }
+
     public Instant getArrivalTime() {
         return this.arrivalTime;
     }
@@ -308,6 +329,7 @@ public class Trip implements Serializable {
             "id=" + getId() +
             ", tripCode='" + getTripCode() + "'" +
             ", departureTime='" + getDepartureTime() + "'" +
+            ", departureDate='" + getDepartureDate() + "'" +
             ", arrivalTime='" + getArrivalTime() + "'" +
             ", occasionFactor=" + getOccasionFactor() +
             ", createdAt='" + getCreatedAt() + "'" +
@@ -0,0 +1,104 @@
+package com.ridehub.route.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Seat capacity of a trip and the number of its HELD and COMMITTED seat locks.
+ * <p>
+ * A read model: rows are only written by {@code TripOccupancyRepository}'s bulk statements.
+ */
+@Entity
+@Immutable
+@Table(name = "trip_occupancy")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TripOccupancy implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "trip_id")
+    private Long tripId;
+
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity;
+
+    @Column(name = "held", nullable = false)
+    private Integer held;
+
+    @Column(name = "committed", nullable = false)
+    private Integer committed;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getTripId() {
+        return this.tripId;
+    }
+
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    public Integer getCapacity() {
+        return this.capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getHeld() {
+        return this.held;
+    }
+
+    public void setHeld(Integer held) {
+        this.held = held;
+    }
+
+    public Integer getCommitted() {
+        return this.committed;
+    }
+
+    public void setCommitted(Integer committed) {
+        this.committed = committed;
+    }
+
+    public Instant getUpdatedAt() {
+        return this.updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TripOccupancy)) {
+            return false;
+        }
+        return getTripId() != null && getTripId().equals(((TripOccupancy) o).getTripId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TripOccupancy{" +
+            "tripId=" + getTripId() +
+            ", capacity=" + getCapacity() +
+            ", held=" + getHeld() +
+            ", committed=" + getCommitted() +
+            ", updatedAt='" + getUpdatedAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,12 @@
+package com.ridehub.route.domain.enumeration;
+
+/**
+ * The AutoScheduleJobStatus enumeration.
+ */
+public enum AutoScheduleJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    SKIPPED,
+}
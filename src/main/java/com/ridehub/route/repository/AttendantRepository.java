@@ -1,6 +1,7 @@
 package com.ridehub.route.repository;
 
 import com.ridehub.route.domain.Attendant;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,16 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface AttendantRepository extends JpaRepository<Attendant, Long>, JpaSpecificationExecutor<Attendant> {}
+public interface AttendantRepository extends JpaRepository<Attendant, Long>, JpaSpecificationExecutor<Attendant> {
+    /**
+     * Ids of the attendants that are not deleted and whose staff is active, in id order.
+     *
+     * @return the attendant ids.
+     */
+    @Query(
+        "SELECT a.id FROM Attendant a JOIN a.staff s WHERE (a.isDeleted IS NULL OR a.isDeleted = false) " +
+        "AND (s.isDeleted IS NULL OR s.isDeleted = false) AND (s.status IS NULL OR s.status = com.ridehub.route.domain.enumeration.StaffStatus.ACTIVE) " +
+        "ORDER BY a.id"
+    )
+    List<Long> findAssignableIds();
+}
@@ -0,0 +1,65 @@
+package com.ridehub.route.repository;
+
+import com.ridehub.route.domain.AutoScheduleJob;
+import com.ridehub.route.domain.enumeration.AutoScheduleJobStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the AutoScheduleJob entity.
+ * <p>
+ * Progress is written with bulk updates that add to the counters, so partitions completing
+ * concurrently do not overwrite each other.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface AutoScheduleJobRepository extends JpaRepository<AutoScheduleJob, Long> {
+
+    Optional<AutoScheduleJob> findFirstByStatusInOrderByIdDesc(Collection<AutoScheduleJobStatus> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update AutoScheduleJob j set j.status = :status, j.instance = :instance, j.startedAt = :now, j.updatedAt = :now " +
+        "where j.id = :id"
+    )
+    int markStarted(
+        @Param("id") Long id,
+        @Param("status") AutoScheduleJobStatus status,
+        @Param("instance") String instance,
+        @Param("now") Instant now
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AutoScheduleJob j set j.schedulesTotal = :total, j.updatedAt = :now where j.id = :id")
+    int setSchedulesTotal(@Param("id") Long id, @Param("total") int total, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update AutoScheduleJob j set j.schedulesDone = j.schedulesDone + :schedules, j.tripsCreated = j.tripsCreated + :trips, " +
+        "j.errors = j.errors + :errors, j.lastError = coalesce(:error, j.lastError), j.updatedAt = :now where j.id = :id"
+    )
+    int addProgress(
+        @Param("id") Long id,
+        @Param("schedules") int schedules,
+        @Param("trips") int trips,
+        @Param("errors") int errors,
+        @Param("error") String error,
+        @Param("now") Instant now
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update AutoScheduleJob j set j.status = :status, j.lastError = coalesce(:error, j.lastError), j.finishedAt = :now, " +
+        "j.updatedAt = :now where j.id = :id"
+    )
+    int markFinished(
+        @Param("id") Long id,
+        @Param("status") AutoScheduleJobStatus status,
+        @Param("error") String error,
+        @Param("now") Instant now
+    );
+}
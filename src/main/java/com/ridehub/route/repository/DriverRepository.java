@@ -1,6 +1,7 @@
 package com.ridehub.route.repository;
 
 import com.ridehub.route.domain.Driver;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,16 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface DriverRepository extends JpaRepository<Driver, Long>, JpaSpecificationExecutor<Driver> {}
+public interface DriverRepository extends JpaRepository<Driver, Long>, JpaSpecificationExecutor<Driver> {
+    /**
+     * Ids of the drivers that are not deleted and whose staff is active, in id order.
+     *
+     * @return the driver ids.
+     */
+    @Query(
+        "SELECT d.id FROM Driver d JOIN d.staff s WHERE (d.isDeleted IS NULL OR d.isDeleted = false) " +
+        "AND (s.isDeleted IS NULL OR s.isDeleted = false) AND (s.status IS NULL OR s.status = com.ridehub.route.domain.enumeration.StaffStatus.ACTIVE) " +
+        "ORDER BY d.id"
+    )
+    List<Long> findAssignableIds();
+}
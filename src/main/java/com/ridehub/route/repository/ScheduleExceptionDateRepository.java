@@ -0,0 +1,32 @@
+package com.ridehub.route.repository;
+
+import com.ridehub.route.domain.ScheduleExceptionDate;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ScheduleExceptionDate entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ScheduleExceptionDateRepository extends JpaRepository<ScheduleExceptionDate, Long> {
+    /**
+     * Exception dates of schedules from a date on, in one query.
+     *
+     * @param scheduleIds the schedules.
+     * @param from the first date.
+     * @return the exception dates.
+     */
+    List<ScheduleExceptionDate> findAllByScheduleIdInAndExceptionDateGreaterThanEqual(Collection<Long> scheduleIds, LocalDate from);
+
+    /**
+     * Exception dates of a schedule, in date order.
+     *
+     * @param scheduleId the schedule.
+     * @return the exception dates.
+     */
+    List<ScheduleExceptionDate> findAllByScheduleIdOrderByExceptionDate(Long scheduleId);
+}
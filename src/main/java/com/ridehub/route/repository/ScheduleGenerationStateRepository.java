@@ -0,0 +1,79 @@
+package com.ridehub.route.repository;
+
+import com.ridehub.route.domain.ScheduleGenerationState;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ScheduleGenerationState entity.
+ * <p>
+ * Writes are native MySQL upserts that only declare {@code schedule_generation_state} as their
+ * query space. Invalidations bump {@code version}; {@link #advance} only moves the watermark of
+ * a row still at the version its run started from.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ScheduleGenerationStateRepository extends JpaRepository<ScheduleGenerationState, Long> {
+
+    /**
+     * Active schedules that were never generated or were changed since.
+     */
+    @Query(
+        value = "SELECT s.id FROM schedule s LEFT JOIN schedule_generation_state g ON g.schedule_id = s.id " +
+        "WHERE s.active = true AND (s.is_deleted = false OR s.is_deleted IS NULL) AND g.generated_through IS NULL",
+        nativeQuery = true
+    )
+    List<Long> findPendingScheduleIds();
+
+    /**
+     * Record that the trips of a schedule were generated through a date, unless the schedule
+     * was invalidated after {@code version} was read.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedule_generation_state"))
+    @Query(
+        value = "INSERT INTO schedule_generation_state (schedule_id, generated_through, version, updated_at) " +
+        "VALUES (:scheduleId, :through, :version, :now) ON DUPLICATE KEY UPDATE " +
+        "generated_through = IF(version = :version, :through, generated_through), " +
+        "updated_at = IF(version = :version, :now, updated_at)",
+        nativeQuery = true
+    )
+    int advance(
+        @Param("scheduleId") Long scheduleId,
+        @Param("through") LocalDate through,
+        @Param("version") int version,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Mark a schedule to regenerate.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedule_generation_state"))
+    @Query(
+        value = "INSERT INTO schedule_generation_state (schedule_id, generated_through, version, updated_at) " +
+        "VALUES (:scheduleId, NULL, 1, :now) ON DUPLICATE KEY UPDATE " +
+        "generated_through = NULL, version = version + 1, updated_at = :now",
+        nativeQuery = true
+    )
+    int invalidate(@Param("scheduleId") Long scheduleId, @Param("now") Instant now);
+
+    /**
+     * Mark the schedules of an occasion rule to regenerate.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedule_generation_state"))
+    @Query(
+        value = "INSERT INTO schedule_generation_state (schedule_id, generated_through, version, updated_at) " +
+        "SELECT s.id, NULL, 1, :now FROM schedule s WHERE s.occasion_rule_id = :occasionId ON DUPLICATE KEY UPDATE " +
+        "generated_through = NULL, version = schedule_generation_state.version + 1, updated_at = :now",
+        nativeQuery = true
+    )
+    int invalidateByOccasion(@Param("occasionId") Long occasionId, @Param("now") Instant now);
+}
@@ -1,7 +1,10 @@
 package com.ridehub.route.repository;
 
 import com.ridehub.route.domain.ScheduleTimeSlot;
+import java.util.Collection;
+import java.util.Set;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,10 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ScheduleTimeSlotRepository extends JpaRepository<ScheduleTimeSlot, Long>, JpaSpecificationExecutor<ScheduleTimeSlot> {}
+public interface ScheduleTimeSlotRepository extends JpaRepository<ScheduleTimeSlot, Long>, JpaSpecificationExecutor<ScheduleTimeSlot> {
+    /**
+     * Schedules among the given ones that have at least one time slot.
+     */
+    @Query("SELECT DISTINCT s.schedule.id FROM ScheduleTimeSlot s WHERE s.schedule.id IN :scheduleIds")
+    Set<Long> findScheduleIdsWithTimeSlots(@Param("scheduleIds") Collection<Long> scheduleIds);
+}
@@ -0,0 +1,77 @@
+package com.ridehub.route.repository;
+
+import com.ridehub.route.domain.ScheduledJobLock;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ScheduledJobLock entity.
+ * <p>
+ * Leases are taken and given back with single conditional statements, so two instances can never
+ * both see a lease as theirs; they only touch {@code scheduled_job_lock}.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    /**
+     * Create the row of a job if it has none yet, unlocked.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduled_job_lock"))
+    @Query(value = "INSERT IGNORE INTO scheduled_job_lock (name) VALUES (:name)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    /**
+     * Lock the row of a job until the end of the transaction.
+     */
+    @Query(value = "SELECT name FROM scheduled_job_lock WHERE name = :name FOR UPDATE", nativeQuery = true)
+    Optional<String> lockRow(@Param("name") String name);
+
+    /**
+     * Take the lease of a job if it is free or has lapsed, and record the start of a run.
+     *
+     * @return 1 if the lease was taken, 0 if another instance holds it.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduled_job_lock"))
+    @Query(
+        value = "UPDATE scheduled_job_lock SET locked_by = :owner, locked_until = :until, last_run_by = :owner, " +
+        "last_started_at = :now, last_finished_at = NULL, last_status = 'RUNNING' " +
+        "WHERE name = :name AND (locked_until IS NULL OR locked_until <= :now)",
+        nativeQuery = true
+    )
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * Extend the lease of a job held by {@code owner}.
+     *
+     * @return 1, or 0 if the lease was lost to another instance.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduled_job_lock"))
+    @Query(
+        value = "UPDATE scheduled_job_lock SET locked_until = :until WHERE name = :name AND locked_by = :owner",
+        nativeQuery = true
+    )
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("until") Instant until);
+
+    /**
+     * Give back the lease of a job held by {@code owner} and record the outcome of its run.
+     *
+     * @return 1, or 0 if the lease was lost to another instance.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduled_job_lock"))
+    @Query(
+        value = "UPDATE scheduled_job_lock SET locked_by = NULL, locked_until = NULL, last_finished_at = :now, " +
+        "last_status = :status WHERE name = :name AND locked_by = :owner",
+        nativeQuery = true
+    )
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now, @Param("status") String status);
+}
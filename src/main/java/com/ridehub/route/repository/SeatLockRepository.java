@@ -1,7 +1,12 @@
 package com.ridehub.route.repository;
 
 import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,349 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface SeatLockRepository extends JpaRepository<SeatLock, Long>, JpaSpecificationExecutor<SeatLock> {}
+public interface SeatLockRepository extends JpaRepository<SeatLock, Long>, JpaSpecificationExecutor<SeatLock> {
+
+    List<SeatLock> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    /**
+     * Seat reference of a lock, without loading the entity.
+     */
+    interface HeldSeat {
+        Long getTripId();
+
+        String getSeatNo();
+
+        String getLockGroupId();
+    }
+
+    /**
+     * Seat reference of a HELD lock with its hold expiry.
+     */
+    interface HeldSeatExpiry extends HeldSeat {
+        Instant getExpiresAt();
+    }
+
+    /**
+     * Find the non-deleted HELD locks whose hold ends after the given time.
+     */
+    @Query(
+        "SELECT l.trip.id AS tripId, l.seatNo AS seatNo, l.lockGroupId AS lockGroupId, l.expiresAt AS expiresAt " +
+        "FROM SeatLock l WHERE l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD " +
+        "AND l.expiresAt > :since AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    List<HeldSeatExpiry> findHeldSeatsExpiringAfter(@Param("since") Instant since);
+
+    /**
+     * Find the seats the given lock groups still hold (unexpired HELD) or have committed.
+     */
+    @Query(
+        "SELECT l.trip.id AS tripId, l.seatNo AS seatNo, l.lockGroupId AS lockGroupId FROM SeatLock l " +
+        "WHERE l.lockGroupId IN :lockGroupIds AND ((l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD " +
+        "AND l.expiresAt > :now) OR l.status = com.ridehub.route.domain.enumeration.LockStatus.COMMITTED)"
+    )
+    List<HeldSeat> findActiveSeatsOfGroups(@Param("lockGroupIds") Collection<String> lockGroupIds, @Param("now") Instant now);
+
+    /**
+     * Find the non-deleted lapsed holds of the given lock groups whose current expiry was not
+     * published yet.
+     */
+    @Query(
+        value = "SELECT id, trip_id AS tripId, seat_no AS seatNo, lock_group_id AS lockGroupId FROM seat_lock " +
+        "WHERE lock_group_id IN (:lockGroupIds) AND status IN ('HELD', 'EXPIRED') AND expires_at <= :now " +
+        "AND (expiry_notified_at IS NULL OR expiry_notified_at <> expires_at) AND (is_deleted = 0 OR is_deleted IS NULL)",
+        nativeQuery = true
+    )
+    List<SeatLockRef> findUnnotifiedLapsedSeatsOfGroups(@Param("lockGroupIds") Collection<String> lockGroupIds, @Param("now") Instant now);
+
+    /**
+     * Claim the publication of a lapsed hold for its current expiry.
+     *
+     * @param id the lock ID.
+     * @param now the reference time.
+     * @return 1 if claimed, 0 if the hold was re-held, committed or already claimed by another instance.
+     */
+    @Modifying
+    @Query(
+        value = "UPDATE seat_lock SET expiry_notified_at = expires_at WHERE id = :id AND status IN ('HELD', 'EXPIRED') " +
+        "AND expires_at <= :now AND (expiry_notified_at IS NULL OR expiry_notified_at <> expires_at)",
+        nativeQuery = true
+    )
+    int claimExpiryNotification(@Param("id") Long id, @Param("now") Instant now);
+
+    @Query(
+        "SELECT l.trip.id AS tripId, l.seatNo AS seatNo, l.lockGroupId AS lockGroupId FROM SeatLock l " +
+        "WHERE l.lockGroupId = :lockGroupId AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD " +
+        "AND l.expiresAt > :now AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    List<HeldSeat> findUnexpiredHeldSeatsByGroup(@Param("lockGroupId") String lockGroupId, @Param("now") Instant now);
+
+    @Query(
+        "SELECT l.trip.id AS tripId, l.seatNo AS seatNo, l.lockGroupId AS lockGroupId FROM SeatLock l " +
+        "WHERE l.bookingId = :bookingId AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD " +
+        "AND l.expiresAt > :now AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    List<HeldSeat> findUnexpiredHeldSeatsByBooking(@Param("bookingId") Long bookingId, @Param("now") Instant now);
+
+    /**
+     * Seat reference of a lock together with its id.
+     */
+    interface SeatLockRef extends HeldSeat {
+        Long getId();
+    }
+
+    /**
+     * Seat reference of a lock with its status and hold expiry.
+     */
+    interface BookingSeat extends HeldSeatExpiry {
+        LockStatus getStatus();
+    }
+
+    /**
+     * Find the seats of a booking's non-deleted locks, whatever their status.
+     */
+    @Query(
+        "SELECT l.trip.id AS tripId, l.seatNo AS seatNo, l.lockGroupId AS lockGroupId, l.status AS status, " +
+        "l.expiresAt AS expiresAt FROM SeatLock l WHERE l.bookingId = :bookingId AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    List<BookingSeat> findSeatsByBooking(@Param("bookingId") Long bookingId);
+
+    /**
+     * Seat reference of a lock with its id and status.
+     */
+    interface ReclaimableSeat extends SeatLockRef {
+        LockStatus getStatus();
+    }
+
+    /**
+     * Find the non-deleted EXPIRED or lapsed HELD locks on the given trips and seats that belong
+     * to no booking or to the given one. Callers narrow the trip x seat product to their pairs.
+     */
+    @Query(
+        "SELECT l.id AS id, l.trip.id AS tripId, l.seatNo AS seatNo, l.lockGroupId AS lockGroupId, l.status AS status " +
+        "FROM SeatLock l WHERE l.trip.id IN :tripIds AND l.seatNo IN :seatNos " +
+        "AND l.status IN (com.ridehub.route.domain.enumeration.LockStatus.EXPIRED, " +
+        "com.ridehub.route.domain.enumeration.LockStatus.HELD) AND l.expiresAt < :now AND (l.isDeleted = false OR l.isDeleted IS NULL) " +
+        "AND (l.bookingId IS NULL OR l.bookingId = :bookingId)"
+    )
+    List<ReclaimableSeat> findReclaimableSeats(
+        @Param("tripIds") Collection<Long> tripIds,
+        @Param("seatNos") Collection<String> seatNos,
+        @Param("bookingId") Long bookingId,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Hold the given locks again for a booking, provided they still have the given status
+     * (EXPIRED, or HELD and lapsed) and are not taken by another booking.
+     *
+     * @param ids the lock IDs.
+     * @param status the status the locks must still have.
+     * @param bookingId the booking reclaiming the seats.
+     * @param expiresAt the new hold expiry.
+     * @param now the transition time.
+     * @return number of locks reclaimed.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SeatLock l SET l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD, l.bookingId = :bookingId, " +
+        "l.expiresAt = :expiresAt, l.updatedAt = :now WHERE l.id IN :ids AND l.status = :status AND l.expiresAt < :now " +
+        "AND (l.bookingId IS NULL OR l.bookingId = :bookingId)"
+    )
+    int reclaimByIdIn(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") LockStatus status,
+        @Param("bookingId") Long bookingId,
+        @Param("expiresAt") Instant expiresAt,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Find which of the given locks are held by a booking until the given expiry.
+     */
+    @Query(
+        "SELECT l.id AS id, l.trip.id AS tripId, l.seatNo AS seatNo, l.lockGroupId AS lockGroupId FROM SeatLock l " +
+        "WHERE l.id IN :ids AND l.bookingId = :bookingId " +
+        "AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD AND l.expiresAt = :expiresAt"
+    )
+    List<SeatLockRef> findHeldByIdIn(
+        @Param("ids") Collection<Long> ids,
+        @Param("bookingId") Long bookingId,
+        @Param("expiresAt") Instant expiresAt
+    );
+
+    /**
+     * Commit the unexpired HELD locks of a lock group.
+     *
+     * @param lockGroupId the lock group.
+     * @param now the transition time.
+     * @return number of locks committed.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SeatLock l SET l.status = com.ridehub.route.domain.enumeration.LockStatus.COMMITTED, l.updatedAt = :now " +
+        "WHERE l.lockGroupId = :lockGroupId AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD " +
+        "AND l.expiresAt > :now AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    int commitHeldByGroup(@Param("lockGroupId") String lockGroupId, @Param("now") Instant now);
+
+    /**
+     * Commit the unexpired HELD locks of a booking.
+     *
+     * @param bookingId the booking.
+     * @param now the transition time.
+     * @return number of locks committed.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SeatLock l SET l.status = com.ridehub.route.domain.enumeration.LockStatus.COMMITTED, l.updatedAt = :now " +
+        "WHERE l.bookingId = :bookingId AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD " +
+        "AND l.expiresAt > :now AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    int commitHeldByBooking(@Param("bookingId") Long bookingId, @Param("now") Instant now);
+
+    /**
+     * Release the unexpired HELD locks of a lock group by expiring them now.
+     *
+     * @param lockGroupId the lock group.
+     * @param now the transition time.
+     * @return number of locks released.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SeatLock l SET l.status = com.ridehub.route.domain.enumeration.LockStatus.EXPIRED, l.expiresAt = :now, " +
+        "l.updatedAt = :now WHERE l.lockGroupId = :lockGroupId " +
+        "AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD AND l.expiresAt > :now " +
+        "AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    int expireHeldByGroup(@Param("lockGroupId") String lockGroupId, @Param("now") Instant now);
+
+    /**
+     * Release the unexpired HELD locks of a booking by expiring them now.
+     *
+     * @param bookingId the booking.
+     * @param now the transition time.
+     * @return number of locks released.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SeatLock l SET l.status = com.ridehub.route.domain.enumeration.LockStatus.EXPIRED, l.expiresAt = :now, " +
+        "l.updatedAt = :now WHERE l.bookingId = :bookingId " +
+        "AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD AND l.expiresAt > :now " +
+        "AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    int expireHeldByBooking(@Param("bookingId") Long bookingId, @Param("now") Instant now);
+
+    /**
+     * Attach a booking to the unexpired HELD locks of a lock group that have none yet.
+     *
+     * @param lockGroupId the lock group.
+     * @param bookingId the booking to attach.
+     * @param now the transition time.
+     * @return number of locks attached.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SeatLock l SET l.bookingId = :bookingId, l.updatedAt = :now WHERE l.lockGroupId = :lockGroupId " +
+        "AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD AND l.expiresAt > :now " +
+        "AND l.bookingId IS NULL AND (l.isDeleted = false OR l.isDeleted IS NULL)"
+    )
+    int attachBookingToHeldGroup(
+        @Param("lockGroupId") String lockGroupId,
+        @Param("bookingId") Long bookingId,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Insert a HELD lock, or turn the existing lock with the same idempotency key into a HELD
+     * lock of the given group; a COMMITTED lock is left as it is. Takes no lock on the trip.
+     *
+     * @return number of rows affected: 1 inserted, 2 updated, 0 unchanged.
+     */
+    @Modifying
+    @Query(
+        value = "INSERT INTO seat_lock (trip_id, seat_no, user_id, status, expires_at, idempotency_key, lock_group_id, " +
+        "booking_id, created_at, updated_at, is_deleted) VALUES (:tripId, :seatNo, :userId, 'HELD', :expiresAt, " +
+        ":idempotencyKey, :lockGroupId, NULL, :now, :now, false) ON DUPLICATE KEY UPDATE " +
+        "user_id = IF(status = 'COMMITTED', user_id, :userId), " +
+        "expires_at = IF(status = 'COMMITTED', expires_at, :expiresAt), " +
+        "lock_group_id = IF(status = 'COMMITTED', lock_group_id, :lockGroupId), " +
+        "booking_id = IF(status = 'COMMITTED', booking_id, NULL), " +
+        "updated_at = IF(status = 'COMMITTED', updated_at, :now), " +
+        "is_deleted = IF(status = 'COMMITTED', is_deleted, false), " +
+        "status = IF(status = 'COMMITTED', status, 'HELD')",
+        nativeQuery = true
+    )
+    int upsertHeld(
+        @Param("tripId") Long tripId,
+        @Param("seatNo") String seatNo,
+        @Param("idempotencyKey") String idempotencyKey,
+        @Param("lockGroupId") String lockGroupId,
+        @Param("userId") Long userId,
+        @Param("now") Instant now,
+        @Param("expiresAt") Instant expiresAt
+    );
+
+    /**
+     * Find and row-lock HELD locks whose hold has passed, oldest first; rows locked by other
+     * transactions are skipped. Walks {@code idx_seat_lock__expires_status}; MySQL only.
+     *
+     * @param now the reference time.
+     * @param limit the maximum number of rows to return.
+     * @return the stale holds.
+     */
+    @Query(
+        value = "SELECT id, trip_id AS tripId, seat_no AS seatNo, lock_group_id AS lockGroupId FROM seat_lock " +
+        "WHERE expires_at <= :now AND status = 'HELD' ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<SeatLockRef> findStaleHoldsForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Mark the given HELD locks as EXPIRED.
+     *
+     * @param ids the lock IDs.
+     * @param now the transition time.
+     * @return number of locks expired.
+     */
+    @Modifying
+    @Query(
+        "UPDATE SeatLock l SET l.status = com.ridehub.route.domain.enumeration.LockStatus.EXPIRED, l.updatedAt = :now " +
+        "WHERE l.id IN :ids AND l.status = com.ridehub.route.domain.enumeration.LockStatus.HELD"
+    )
+    int expireHeldByIdIn(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    /**
+     * Find EXPIRED and COMMITTED locks of trips that departed before the given time.
+     *
+     * @param departedBefore the departure cut-off.
+     * @param limit the maximum number of IDs to return.
+     * @return the lock IDs, in ascending order.
+     */
+    @Query(
+        value = "SELECT l.id FROM seat_lock l JOIN trip t ON t.id = l.trip_id " +
+        "WHERE l.status IN ('EXPIRED', 'COMMITTED') AND t.departure_time < :departedBefore ORDER BY l.id LIMIT :limit",
+        nativeQuery = true
+    )
+    List<Long> findArchivableIds(@Param("departedBefore") Instant departedBefore, @Param("limit") int limit);
+
+    /**
+     * Copy locks to {@code seat_lock_archive}; rows already archived are skipped.
+     *
+     * @param ids the lock IDs.
+     * @param archivedAt the archive time.
+     * @return number of rows copied.
+     */
+    @Modifying
+    @Query(
+        value = "INSERT IGNORE INTO seat_lock_archive (id, seat_no, user_id, status, expires_at, idempotency_key, lock_group_id, " +
+        "booking_id, created_at, updated_at, is_deleted, deleted_at, deleted_by, trip_id, archived_at) " +
+        "SELECT id, seat_no, user_id, status, expires_at, idempotency_key, lock_group_id, booking_id, created_at, " +
+        "updated_at, is_deleted, deleted_at, deleted_by, trip_id, :archivedAt FROM seat_lock WHERE id IN (:ids)",
+        nativeQuery = true
+    )
+    int copyToArchive(@Param("ids") List<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM SeatLock l WHERE l.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,80 @@
+package com.ridehub.route.repository;
+
+import com.ridehub.route.domain.TripOccupancy;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the TripOccupancy read model.
+ * <p>
+ * Writes are native MySQL statements; they declare {@code trip_occupancy} as their only query
+ * space so running them does not evict the second-level cache of other entities.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface TripOccupancyRepository extends JpaRepository<TripOccupancy, Long> {
+
+    /** Non-deleted seats of the vehicle of trip {@code t}, as counted by {@code SeatQueryService}. */
+    String CAPACITY =
+        "(SELECT COUNT(*) FROM seat s JOIN floor f ON f.id = s.floor_id JOIN vehicle v ON v.seat_map_id = f.seat_map_id " +
+        "WHERE v.id = t.vehicle_id AND (s.is_deleted = false OR s.is_deleted IS NULL) " +
+        "AND (f.is_deleted = false OR f.is_deleted IS NULL) AND (v.is_deleted = false OR v.is_deleted IS NULL))";
+
+    /**
+     * Add to the counts of a trip that already has a row.
+     *
+     * @return 1, or 0 when the trip has no row yet.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "trip_occupancy"))
+    @Query(
+        value = "UPDATE trip_occupancy SET held = held + :held, committed = committed + :committed, updated_at = :now " +
+        "WHERE trip_id = :tripId",
+        nativeQuery = true
+    )
+    int increment(@Param("tripId") Long tripId, @Param("held") int held, @Param("committed") int committed, @Param("now") Instant now);
+
+    /**
+     * Create the row of a trip with its capacity and the given counts, or add to them if a
+     * concurrent transaction created it first.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "trip_occupancy"))
+    @Query(
+        value = "INSERT INTO trip_occupancy (trip_id, capacity, held, committed, updated_at) " +
+        "SELECT t.id, " + CAPACITY + ", :held, :committed, :now FROM trip t WHERE t.id = :tripId " +
+        "ON DUPLICATE KEY UPDATE held = trip_occupancy.held + :held, committed = trip_occupancy.committed + :committed, " +
+        "updated_at = :now",
+        nativeQuery = true
+    )
+    int insertOrIncrement(
+        @Param("tripId") Long tripId,
+        @Param("held") int held,
+        @Param("committed") int committed,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Recount capacity and non-deleted HELD / COMMITTED locks of the given trips from
+     * {@code seat}, {@code seat_lock}; pending changes to those must be flushed first.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "trip_occupancy"))
+    @Query(
+        value = "INSERT INTO trip_occupancy (trip_id, capacity, held, committed, updated_at) " +
+        "SELECT c.trip_id, c.capacity, c.held, c.committed, c.updated_at FROM (SELECT t.id AS trip_id, " + CAPACITY + " AS capacity, " +
+        "(SELECT COUNT(*) FROM seat_lock l WHERE l.trip_id = t.id AND l.status = 'HELD' " +
+        "AND (l.is_deleted = false OR l.is_deleted IS NULL)) AS held, " +
+        "(SELECT COUNT(*) FROM seat_lock l WHERE l.trip_id = t.id AND l.status = 'COMMITTED' " +
+        "AND (l.is_deleted = false OR l.is_deleted IS NULL)) AS committed, " +
+        ":now AS updated_at FROM trip t WHERE t.id IN (:tripIds)) c " +
+        "ON DUPLICATE KEY UPDATE capacity = c.capacity, held = c.held, committed = c.committed, updated_at = c.updated_at",
+        nativeQuery = true
+    )
+    int recompute(@Param("tripIds") Collection<Long> tripIds, @Param("now") Instant now);
+}
@@ -1,30 +1,24 @@
 package com.ridehub.route.repository;
 
 import com.ridehub.route.domain.Trip;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
-
-import java.time.Instant;
-
-import java.time.Instant;
-
 /**
  * Spring Data JPA repository for Trip entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TripRepository extends JpaRepository<Trip, Long>, JpaSpecificationExecutor<Trip> {
+public interface TripRepository extends JpaRepository<Trip, Long>, JpaSpecificationExecutor<Trip>, TripRepositoryWithBulkOperations {
 
     /**
-     * Count trips by route, slot, departure time range, and not deleted.
-     * Optimized query for fast existence checking.
+     * Load a trip and lock its row until the surrounding transaction ends
+     * ({@code SELECT ... FOR UPDATE}), serializing seat holds on the trip across instances.
      */
-    long countByRouteIdAndSlotIdAndDepartureTimeBetweenAndIsDeletedFalse(
-            Long routeId, 
-            Long slotId, 
-            Instant departureTimeStart, 
-            Instant departureTimeEnd
-    );
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Trip t WHERE t.id = :id")
+    Optional<Trip> findByIdForUpdate(@Param("id") Long id);
 }
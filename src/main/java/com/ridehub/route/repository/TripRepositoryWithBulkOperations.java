@@ -0,0 +1,73 @@
+package com.ridehub.route.repository;
+
+import com.ridehub.route.domain.Trip;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk operations on trips, for generated schedules.
+ */
+public interface TripRepositoryWithBulkOperations {
+    /**
+     * Most trips {@link #insertAll} takes at once: MySQL allows 65,535 placeholders per
+     * statement, and each trip binds 15.
+     */
+    int MAX_INSERT_ROWS = 65_535 / 15;
+
+    /**
+     * A generated trip's natural key, backed by the unique index on
+     * {@code (route_id, slot_id, departure_date)}.
+     */
+    record TripSlotDate(Long routeId, Long slotId, LocalDate departureDate) {}
+
+    /**
+     * The resources a trip keeps busy, from departure to arrival plus its slot's turnaround buffer.
+     */
+    record ResourceBooking(Long vehicleId, Long driverId, Long attendantId, Instant departureTime, Instant arrivalTime, int bufferMinutes) {}
+
+    /**
+     * Insert new trips in one multi-row statement, bypassing the persistence context: the
+     * trips stay transient and their generated ids are not read back. Only the ids of the
+     * related entities are used. A trip whose route, slot and departure date or trip code
+     * already exist leaves the existing row unchanged; any other error, such as a missing
+     * related row, fails the whole statement. The update count is not returned, as MySQL
+     * reports such duplicates as found rows.
+     *
+     * @param trips the trips to insert, at most {@link #MAX_INSERT_ROWS}.
+     * @throws IllegalArgumentException if there are more than {@link #MAX_INSERT_ROWS} trips.
+     * @throws org.springframework.dao.DataIntegrityViolationException on errors other than duplicate keys.
+     */
+    void insertAll(List<Trip> trips);
+
+    /**
+     * Find the keys of the trips of the given routes departing in a date range, in one query.
+     *
+     * @param routeIds the routes.
+     * @param from the first departure date.
+     * @param to the last departure date.
+     * @return the existing keys.
+     */
+    Set<TripSlotDate> findSlotDates(Collection<Long> routeIds, LocalDate from, LocalDate to);
+
+    /**
+     * Find the resources booked by the trips that are not deleted and overlap a time range, in one query.
+     *
+     * @param from the start of the range.
+     * @param to the end of the range.
+     * @return the bookings.
+     */
+    List<ResourceBooking> findResourceBookings(Instant from, Instant to);
+
+    /**
+     * Find the ids of trips by trip code, among the trips created at an instant, in one query.
+     *
+     * @param tripCodes the trip codes.
+     * @param createdAt the creation time of the trips.
+     * @return the ids by trip code, for the trips found.
+     */
+    Map<String, Long> findIdsByTripCodes(Collection<String> tripCodes, Instant createdAt);
+}
@@ -0,0 +1,154 @@
+package com.ridehub.route.repository;
+
+import com.ridehub.route.domain.Trip;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * {@link TripRepositoryWithBulkOperations} over plain JDBC: {@code trip} ids are IDENTITY
+ * generated, which keeps Hibernate from batching the inserts. MySQL only.
+ */
+public class TripRepositoryWithBulkOperationsImpl implements TripRepositoryWithBulkOperations {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO trip (trip_code, departure_time, departure_date, arrival_time, occasion_factor, created_at, " +
+        "updated_at, is_deleted, deleted_at, deleted_by, route_id, vehicle_id, slot_id, driver_id, attendant_id) VALUES ";
+
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // keeps the existing row on a duplicate unique key; unlike IGNORE, other errors still fail the statement
+    private static final String ON_DUPLICATE_KEY = " ON DUPLICATE KEY UPDATE id = id";
+
+    private static final int COLUMNS = 15;
+
+    private static final String SLOT_DATES_SQL =
+        "SELECT route_id, slot_id, departure_date FROM trip " +
+        "WHERE route_id IN (:routeIds) AND departure_date BETWEEN :from AND :to";
+
+    private static final String RESOURCE_BOOKINGS_SQL =
+        "SELECT t.vehicle_id, t.driver_id, t.attendant_id, t.departure_time, t.arrival_time, s.buffer_minutes " +
+        "FROM trip t JOIN schedule_time_slot s ON s.id = t.slot_id " +
+        "WHERE (t.is_deleted IS NULL OR t.is_deleted = FALSE) AND t.departure_time < :to AND t.arrival_time > :from";
+
+    private static final String IDS_BY_TRIP_CODES_SQL =
+        "SELECT id, trip_code FROM trip WHERE trip_code IN (:tripCodes) AND created_at = :createdAt";
+
+    // instants are stored in UTC, like hibernate.jdbc.time_zone
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TripRepositoryWithBulkOperationsImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<Trip> trips) {
+        if (trips.isEmpty()) {
+            return;
+        }
+        if (trips.size() > MAX_INSERT_ROWS) {
+            throw new IllegalArgumentException("At most " + MAX_INSERT_ROWS + " trips per insert, got " + trips.size());
+        }
+        String sql = INSERT_SQL + Stream.generate(() -> ROW).limit(trips.size()).collect(Collectors.joining(", ")) + ON_DUPLICATE_KEY;
+        jdbcTemplate.getJdbcTemplate().update(sql, ps -> {
+            Calendar utc = Calendar.getInstance(UTC);
+            for (int i = 0; i < trips.size(); i++) {
+                bind(ps, i * COLUMNS, trips.get(i), utc);
+            }
+        });
+    }
+
+    @Override
+    public Set<TripSlotDate> findSlotDates(Collection<Long> routeIds, LocalDate from, LocalDate to) {
+        if (routeIds.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("routeIds", routeIds)
+            .addValue("from", from)
+            .addValue("to", to);
+        return new HashSet<>(
+            jdbcTemplate.query(SLOT_DATES_SQL, params, (rs, n) ->
+                new TripSlotDate(rs.getLong("route_id"), rs.getLong("slot_id"), rs.getObject("departure_date", LocalDate.class))
+            )
+        );
+    }
+
+    @Override
+    public List<ResourceBooking> findResourceBookings(Instant from, Instant to) {
+        Calendar utc = Calendar.getInstance(UTC);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("from", LocalDateTime.ofInstant(from, ZoneOffset.UTC))
+            .addValue("to", LocalDateTime.ofInstant(to, ZoneOffset.UTC));
+        return jdbcTemplate.query(RESOURCE_BOOKINGS_SQL, params, (rs, n) ->
+            new ResourceBooking(
+                rs.getObject("vehicle_id", Long.class),
+                rs.getObject("driver_id", Long.class),
+                rs.getObject("attendant_id", Long.class),
+                rs.getTimestamp("departure_time", utc).toInstant(),
+                rs.getTimestamp("arrival_time", utc).toInstant(),
+                rs.getInt("buffer_minutes")
+            )
+        );
+    }
+
+    @Override
+    public Map<String, Long> findIdsByTripCodes(Collection<String> tripCodes, Instant createdAt) {
+        if (tripCodes.isEmpty()) {
+            return Map.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("tripCodes", tripCodes)
+            .addValue("createdAt", LocalDateTime.ofInstant(createdAt, ZoneOffset.UTC));
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(IDS_BY_TRIP_CODES_SQL, params, rs -> {
+            ids.put(rs.getString("trip_code"), rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    private static void bind(PreparedStatement ps, int offset, Trip trip, Calendar utc) throws SQLException {
+        ps.setString(offset + 1, trip.getTripCode());
+        setInstant(ps, offset + 2, trip.getDepartureTime(), utc);
+        ps.setObject(offset + 3, trip.getDepartureDate(), Types.DATE);
+        setInstant(ps, offset + 4, trip.getArrivalTime(), utc);
+        ps.setBigDecimal(offset + 5, trip.getOccasionFactor());
+        setInstant(ps, offset + 6, trip.getCreatedAt(), utc);
+        setInstant(ps, offset + 7, trip.getUpdatedAt(), utc);
+        ps.setObject(offset + 8, trip.getIsDeleted(), Types.BOOLEAN);
+        setInstant(ps, offset + 9, trip.getDeletedAt(), utc);
+        ps.setString(offset + 10, trip.getDeletedBy() == null ? null : trip.getDeletedBy().toString());
+        ps.setObject(offset + 11, trip.getRoute() == null ? null : trip.getRoute().getId(), Types.BIGINT);
+        ps.setObject(offset + 12, trip.getVehicle() == null ? null : trip.getVehicle().getId(), Types.BIGINT);
+        ps.setObject(offset + 13, trip.getSlot() == null ? null : trip.getSlot().getId(), Types.BIGINT);
+        ps.setObject(offset + 14, trip.getDriver() == null ? null : trip.getDriver().getId(), Types.BIGINT);
+        ps.setObject(offset + 15, trip.getAttendant() == null ? null : trip.getAttendant().getId(), Types.BIGINT);
+    }
+
+    private static void setInstant(PreparedStatement ps, int index, Instant value, Calendar utc) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.from(value), utc);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.ridehub.route.repository;
 
 import com.ridehub.route.domain.Vehicle;
+import com.ridehub.route.domain.enumeration.VehicleStatus;
 import com.ridehub.route.domain.enumeration.VehicleType;
 import java.math.BigDecimal;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,4 +26,13 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpec
     @Modifying
     @Query("UPDATE Vehicle v SET v.typeFactor = :typeFactor WHERE v.type = :type")
     int updateTypeFactorByType(@Param("type") VehicleType type, @Param("typeFactor") BigDecimal typeFactor);
+
+    /**
+     * Ids of the vehicles in a status that are not deleted, in id order.
+     *
+     * @param status the vehicle status.
+     * @return the vehicle ids.
+     */
+    @Query("SELECT v.id FROM Vehicle v WHERE v.status = :status AND (v.isDeleted IS NULL OR v.isDeleted = false) ORDER BY v.id")
+    List<Long> findIdsByStatus(@Param("status") VehicleStatus status);
 }
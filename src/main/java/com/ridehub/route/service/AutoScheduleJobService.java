@@ -0,0 +1,231 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.domain.AutoScheduleJob;
+import com.ridehub.route.domain.enumeration.AutoScheduleJobStatus;
+import com.ridehub.route.repository.AutoScheduleJobRepository;
+import com.ridehub.route.service.dto.AutoScheduleJobDTO;
+import com.ridehub.route.service.dto.ScheduledJobLockDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs manually triggered trip generation in the background on the task executor, recording
+ * its progress in {@code auto_schedule_job} so any instance can report on it.
+ * <p>
+ * A job is in flight while it is pending or running and either the {@value AutoScheduleService#JOB_NAME}
+ * lease is held or the job was created less than one lease ago; triggering then returns that
+ * job. Jobs left in flight by an instance that died are marked failed on the next trigger.
+ * Triggers on all instances find or create the job under a lock on the job's
+ * {@code scheduled_job_lock} row, so concurrent triggers get the same job.
+ */
+@Service
+public class AutoScheduleJobService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AutoScheduleJobService.class);
+
+    private static final Set<AutoScheduleJobStatus> IN_FLIGHT = EnumSet.of(AutoScheduleJobStatus.PENDING, AutoScheduleJobStatus.RUNNING);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final AutoScheduleJobRepository autoScheduleJobRepository;
+    private final AutoScheduleService autoScheduleService;
+    private final ScheduledJobLockService scheduledJobLockService;
+    private final Executor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties.JobLock jobLockProperties;
+
+    public AutoScheduleJobService(
+            AutoScheduleJobRepository autoScheduleJobRepository,
+            AutoScheduleService autoScheduleService,
+            ScheduledJobLockService scheduledJobLockService,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties) {
+        this.autoScheduleJobRepository = autoScheduleJobRepository;
+        this.autoScheduleService = autoScheduleService;
+        this.scheduledJobLockService = scheduledJobLockService;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobLockProperties = applicationProperties.getJobLock();
+    }
+
+    /**
+     * Start generating trips for all active schedules in the background, unless a job is in flight.
+     *
+     * @return the new job, or the job in flight.
+     */
+    public AutoScheduleJobDTO trigger() {
+        Triggered triggered = transactionTemplate.execute(status -> {
+            // Locked before the first read, so the jobs committed by the previous holder are seen
+            scheduledJobLockService.lockJob(AutoScheduleService.JOB_NAME);
+            Optional<AutoScheduleJob> inFlight = findInFlight();
+            if (inFlight.isPresent()) {
+                return new Triggered(inFlight.get(), false);
+            }
+            Instant now = Instant.now();
+            AutoScheduleJob created = new AutoScheduleJob();
+            created.setStatus(AutoScheduleJobStatus.PENDING);
+            created.setSchedulesDone(0);
+            created.setTripsCreated(0);
+            created.setErrors(0);
+            created.setCreatedAt(now);
+            created.setUpdatedAt(now);
+            return new Triggered(autoScheduleJobRepository.save(created), true);
+        });
+        AutoScheduleJob job = triggered.job();
+        if (!triggered.created()) {
+            LOG.debug("Auto-schedule job {} is in flight", job.getId());
+            return toDto(job);
+        }
+        Long jobId = job.getId();
+        try {
+            taskExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            LOG.warn("Could not start auto-schedule job {}: {}", jobId, e.getMessage());
+            record(jobId, () -> autoScheduleJobRepository.markFinished(jobId, AutoScheduleJobStatus.FAILED, truncate(e.getMessage()), Instant.now()));
+            return findOne(jobId).orElseThrow();
+        }
+        LOG.info("Started auto-schedule job {}", jobId);
+        return toDto(job);
+    }
+
+    /**
+     * Get a job with its progress.
+     *
+     * @param id the job id.
+     * @return the job, with an estimated completion time while it runs.
+     */
+    public Optional<AutoScheduleJobDTO> findOne(Long id) {
+        return transactionTemplate.execute(status -> autoScheduleJobRepository.findById(id).map(this::toDto));
+    }
+
+    private Optional<AutoScheduleJob> findInFlight() {
+        Optional<AutoScheduleJob> latest = autoScheduleJobRepository.findFirstByStatusInOrderByIdDesc(IN_FLIGHT);
+        if (latest.isEmpty()) {
+            return latest;
+        }
+        AutoScheduleJob job = latest.get();
+        Instant now = Instant.now();
+        Duration lease = jobLockProperties.getLease();
+        boolean leaseHeld = scheduledJobLockService
+            .findStatus(AutoScheduleService.JOB_NAME)
+            .map(ScheduledJobLockDTO::getLockedUntil)
+            .filter(now::isBefore)
+            .isPresent();
+        if (leaseHeld || job.getCreatedAt().plus(lease).isAfter(now)) {
+            return latest;
+        }
+        LOG.warn("Auto-schedule job {} was abandoned by instance {}", job.getId(), job.getInstance());
+        autoScheduleJobRepository.markFinished(job.getId(), AutoScheduleJobStatus.FAILED, "Abandoned", now);
+        return Optional.empty();
+    }
+
+    private void run(Long jobId) {
+        record(jobId, () ->
+            autoScheduleJobRepository.markStarted(jobId, AutoScheduleJobStatus.RUNNING, scheduledJobLockService.getOwner(), Instant.now())
+        );
+        AutoScheduleService.Progress progress = new AutoScheduleService.Progress() {
+            @Override
+            public void started(int schedules) {
+                record(jobId, () -> autoScheduleJobRepository.setSchedulesTotal(jobId, schedules, Instant.now()));
+            }
+
+            @Override
+            public void partitionCompleted(AutoScheduleService.PartitionResult result, int schedules) {
+                int errors = result.error() == null ? 0 : 1;
+                String error = result.error() == null ? null : truncate("Route " + result.routeId() + ": " + result.error());
+                record(jobId, () ->
+                    autoScheduleJobRepository.addProgress(jobId, schedules, result.tripsCreated(), errors, error, Instant.now())
+                );
+            }
+        };
+
+        AutoScheduleJobStatus outcome;
+        String error = null;
+        try {
+            AutoScheduleService.AutoScheduleResult result = autoScheduleService.createTripsForActiveSchedules(progress);
+            if (result.isSkipped()) {
+                outcome = AutoScheduleJobStatus.SKIPPED;
+                error = "Auto-scheduling is already running on another instance";
+            } else {
+                outcome = AutoScheduleJobStatus.SUCCEEDED;
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Auto-schedule job {} failed: {}", jobId, e.getMessage(), e);
+            outcome = AutoScheduleJobStatus.FAILED;
+            error = truncate(e.getMessage());
+        }
+        AutoScheduleJobStatus status = outcome;
+        String lastError = error;
+        record(jobId, () -> autoScheduleJobRepository.markFinished(jobId, status, lastError, Instant.now()));
+        LOG.info("Auto-schedule job {} finished: {}", jobId, status);
+    }
+
+    /**
+     * Write job progress in its own transaction; a failed write is logged and does not stop the run.
+     */
+    private void record(Long jobId, Runnable write) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write.run());
+        } catch (RuntimeException e) {
+            LOG.warn("Could not record progress of auto-schedule job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private AutoScheduleJobDTO toDto(AutoScheduleJob job) {
+        AutoScheduleJobDTO dto = new AutoScheduleJobDTO();
+        dto.setId(job.getId());
+        dto.setStatus(job.getStatus());
+        dto.setInstance(job.getInstance());
+        dto.setSchedulesTotal(job.getSchedulesTotal());
+        dto.setSchedulesDone(job.getSchedulesDone());
+        dto.setTripsCreated(job.getTripsCreated());
+        dto.setErrors(job.getErrors());
+        dto.setLastError(job.getLastError());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setEstimatedCompletion(estimateCompletion(job, Instant.now()));
+        return dto;
+    }
+
+    /**
+     * Extrapolate the time taken so far over the schedules left.
+     */
+    private static Instant estimateCompletion(AutoScheduleJob job, Instant now) {
+        if (job.getStatus() != AutoScheduleJobStatus.RUNNING || job.getStartedAt() == null || job.getSchedulesTotal() == null) {
+            return null;
+        }
+        int done = job.getSchedulesDone();
+        int total = job.getSchedulesTotal();
+        if (done <= 0 || done >= total) {
+            return null;
+        }
+        long elapsedMs = Duration.between(job.getStartedAt(), now).toMillis();
+        return now.plusMillis(elapsedMs * (total - done) / done);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * The job a trigger returns, and whether it created it.
+     */
+    private record Triggered(AutoScheduleJob job, boolean created) {}
+}
@@ -1,20 +1,32 @@
 package com.ridehub.route.service;
 
+import com.ridehub.route.config.ApplicationProperties;
 import com.ridehub.route.domain.*;
+import com.ridehub.route.repository.ScheduleExceptionDateRepository;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
 import com.ridehub.route.repository.TripRepository;
+import com.ridehub.route.repository.TripRepositoryWithBulkOperations.TripSlotDate;
 import com.ridehub.route.repository.ScheduleTimeSlotRepository;
 import com.ridehub.route.service.ScheduleTimeSlotQueryService;
 import com.ridehub.route.service.criteria.*;
 import com.ridehub.route.service.dto.*;
-import com.ridehub.route.service.mapper.TripMapper;
+import com.ridehub.route.service.dto.TripsGeneratedDTO.GeneratedTrip;
+import com.ridehub.route.service.event.TripsGeneratedEvent;
 import com.ridehub.route.service.mapper.RouteMapper;
 import com.ridehub.route.service.mapper.ScheduleOccasionMapper;
 import com.ridehub.route.service.mapper.ScheduleTimeSlotMapper;
 import tech.jhipster.service.filter.*;
 
 import java.time.*;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
@@ -22,9 +34,14 @@ import org.springframework.data.domain.Pageable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service for automatically creating trips based on schedules.
@@ -33,18 +50,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AutoScheduleService {
 
-    /**
-     * Record to identify a unique trip.
-     */
-    public record TripIdentifier(Long routeId, Long timeSlotId, LocalDate tripDate) {}
-
     private static final Logger LOG = LoggerFactory.getLogger(AutoScheduleService.class);
 
+    /** Name of the trip generation job in {@code scheduled_job_lock}. */
+    public static final String JOB_NAME = "auto-schedule";
+
     private final ScheduleQueryService scheduleQueryService;
-    private final TripQueryService tripQueryService;
-    private final TripService tripService;
-    private final TripMapper tripMapper;
+    private final TripBulkWriter tripBulkWriter;
+    private final TripResourceAllocator tripResourceAllocator;
+    private final ScheduledJobLockService scheduledJobLockService;
     private final TripRepository tripRepository;
+    private final ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+    private final ScheduleExceptionDateRepository scheduleExceptionDateRepository;
     private final ScheduleTimeSlotRepository scheduleTimeSlotRepository;
     private final ScheduleTimeSlotQueryService scheduleTimeSlotQueryService;
     private final RouteService routeService;
@@ -53,14 +70,20 @@ public class AutoScheduleService {
     private final ScheduleOccasionQueryService occasionRuleQueryService;
     private final RouteMapper routeMapper;
     private final ScheduleOccasionMapper scheduleOccasionMapper;
-
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationProperties.AutoSchedule properties;
+    /** Compiled calendars by schedule id, with the generation state version they were compiled at. */
+    private final Map<Long, CompiledCalendar> calendarCache = new ConcurrentHashMap<>();
 
     public AutoScheduleService(
             ScheduleQueryService scheduleQueryService,
-            TripQueryService tripQueryService,
-            TripService tripService,
-            TripMapper tripMapper,
+            TripBulkWriter tripBulkWriter,
+            TripResourceAllocator tripResourceAllocator,
+            ScheduledJobLockService scheduledJobLockService,
             TripRepository tripRepository,
+            ScheduleGenerationStateRepository scheduleGenerationStateRepository,
+            ScheduleExceptionDateRepository scheduleExceptionDateRepository,
             ScheduleTimeSlotRepository scheduleTimeSlotRepository,
             ScheduleTimeSlotQueryService scheduleTimeSlotQueryService,
             RouteService routeService,
@@ -68,12 +91,17 @@ public class AutoScheduleService {
             ScheduleOccasionService scheduleOccasionService,
             ScheduleOccasionQueryService occasionRuleQueryService,
             RouteMapper routeMapper,
-            ScheduleOccasionMapper scheduleOccasionMapper) {
+            ScheduleOccasionMapper scheduleOccasionMapper,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ApplicationProperties applicationProperties) {
         this.scheduleQueryService = scheduleQueryService;
-        this.tripQueryService = tripQueryService;
-        this.tripService = tripService;
-        this.tripMapper = tripMapper;
+        this.tripBulkWriter = tripBulkWriter;
+        this.tripResourceAllocator = tripResourceAllocator;
+        this.scheduledJobLockService = scheduledJobLockService;
         this.tripRepository = tripRepository;
+        this.scheduleGenerationStateRepository = scheduleGenerationStateRepository;
+        this.scheduleExceptionDateRepository = scheduleExceptionDateRepository;
         this.scheduleTimeSlotRepository = scheduleTimeSlotRepository;
         this.scheduleTimeSlotQueryService = scheduleTimeSlotQueryService;
         this.routeService = routeService;
@@ -82,483 +110,471 @@ public class AutoScheduleService {
         this.occasionRuleQueryService = occasionRuleQueryService;
         this.routeMapper = routeMapper;
         this.scheduleOccasionMapper = scheduleOccasionMapper;
-
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = applicationProperties.getAutoSchedule();
     }
 
     /**
      * Auto-create trips for all active schedules.
      * This method is typically called by a cron job.
-     * Scheduled to run daily at 2:00 AM.
+     * Scheduled to run daily at 2:00 AM, on one instance of the cluster: a run is skipped
+     * while another instance holds the {@value #JOB_NAME} job lease.
+     * Each schedule only gets trips for the days between its watermark and its route's horizon,
+     * which is usually the one day that came into the horizon since the last run.
+     * A day with a trip that got no vehicle or driver is retried, with the days after it, by the next daily run.
      *
-     * @return summary of created trips
+     * @return summary of created trips, or a skipped result
      */
     @Scheduled(cron = "0 0 2 * * ?")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AutoScheduleResult createTripsForActiveSchedules() {
-        LOG.info("Starting auto-schedule process for trips");
+        return createTripsForActiveSchedules(Progress.NONE);
+    }
 
+    /**
+     * Auto-create trips for all active schedules, reporting progress as route partitions complete.
+     *
+     * @param progress notified from the partition threads.
+     * @return summary of created trips, or a skipped result
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AutoScheduleResult createTripsForActiveSchedules(Progress progress) {
+        return scheduledJobLockService.callExclusively(JOB_NAME, () -> generateTrips(activeSchedules(), progress))
+                .orElseGet(AutoScheduleResult::skipped);
+    }
+
+    /**
+     * Generate the trips of schedules that are new or were changed since their last generation,
+     * from today to their route's horizon. Trips that exist already are kept as they are.
+     */
+    @Scheduled(
+            initialDelayString = "${application.auto-schedule.regeneration-interval-ms:60000}",
+            fixedDelayString = "${application.auto-schedule.regeneration-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void regenerateChangedSchedules() {
+        List<Long> pending = scheduleGenerationStateRepository.findPendingScheduleIds();
+        if (pending.isEmpty()) {
+            return;
+        }
+        LOG.info("Regenerating trips of {} new or changed schedules", pending.size());
+        ScheduleCriteria criteria = activeSchedules();
+        LongFilter idFilter = new LongFilter();
+        idFilter.setIn(pending);
+        criteria.setId(idFilter);
+        scheduledJobLockService.callExclusively(JOB_NAME, () -> generateTrips(criteria, Progress.NONE));
+    }
+
+    /**
+     * Plan the trips of all active schedules from today without writing anything: the trips a
+     * run would create, the ones that exist, and the existing trips no schedule plans any more.
+     * Generation watermarks are not applied, so trips missing before a schedule's watermark are
+     * listed to create too.
+     *
+     * @param days the days to plan after today, or {@code null} for each route's horizon.
+     * @return the plan.
+     */
+    @Transactional(readOnly = true)
+    public TripPlanner.TripPlan planTrips(Integer days) {
         LocalDate today = LocalDate.now();
-        LocalDate scheduleEndDate = today.plusDays(7); // Create trips for next 7 days (rolling window)
+        List<ScheduleDTO> scheduleDTOs = scheduleQueryService.findByCriteria(activeSchedules());
+        if (scheduleDTOs.isEmpty()) {
+            return new TripPlanner.TripPlan(List.of(), List.of(), List.of());
+        }
+        ScheduleData data = batchFetchScheduleData(scheduleDTOs);
+        List<Schedule> schedules = scheduleDTOs.stream()
+                .map(scheduleDTO -> convertToScheduleEntity(scheduleDTO, data.routes(), data.occasions(), data.timeslots()))
+                .toList();
+        Function<Schedule, LocalDate> throughOf = schedule -> today.plusDays(
+                days != null ? days
+                        : schedule.getRoute() != null && schedule.getRoute().getHorizonDays() != null
+                                ? schedule.getRoute().getHorizonDays()
+                                : properties.getHorizonDays());
+        LocalDate lastDate = schedules.stream().map(throughOf).max(Comparator.naturalOrder()).orElse(today);
+
+        Set<TripSlotDate> existingTrips = tripRepository.findSlotDates(data.routeIds(), today, lastDate);
+        TripPlanner.TripPlan plan = TripPlanner.plan(schedules, data::calendarOf, today, throughOf, existingTrips, ZoneId.systemDefault());
+        LOG.debug("Planned {} schedules through {}: {} trips to create, {} existing, {} orphaned", schedules.size(), lastDate,
+                plan.toCreate().size(), plan.existing().size(), plan.orphaned().size());
+        return plan;
+    }
 
-        // Get all active schedules
+    /**
+     * Lease holder and last run of the auto-schedule job.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ScheduledJobLockDTO> getJobStatus() {
+        return scheduledJobLockService.findStatus(JOB_NAME);
+    }
+
+    private ScheduleCriteria activeSchedules() {
         ScheduleCriteria scheduleCriteria = new ScheduleCriteria();
         BooleanFilter activeFilter = new BooleanFilter();
         activeFilter.setEquals(true);
         scheduleCriteria.setActive(activeFilter);
+        return scheduleCriteria;
+    }
+
+    /**
+     * Schedules are partitioned by route; partitions run concurrently on up to
+     * {@code parallelism} threads, each in its own transaction, and a failed partition
+     * is rolled back without affecting the others. A partition moves the watermarks of its
+     * schedules in the same transaction as their trips.
+     */
+    private AutoScheduleResult generateTrips(ScheduleCriteria scheduleCriteria, Progress progress) {
+        LOG.info("Starting auto-schedule process for trips");
+
+        LocalDate today = LocalDate.now();
+
         List<ScheduleDTO> scheduleDTOs = scheduleQueryService.findByCriteria(scheduleCriteria);
+        progress.started(scheduleDTOs.size());
 
         if (scheduleDTOs.isEmpty()) {
             LOG.info("No active schedules found for processing");
-            return new AutoScheduleResult(0, 0, Collections.emptyMap());
+            return new AutoScheduleResult(0, 0, Collections.emptyMap(), Collections.emptyList());
         }
 
         // Batch fetch all related data to eliminate N+1 queries
-        LOG.debug("Batch fetching related data for {} schedules", scheduleDTOs.size());
-
-        Set<Long> routeIds = scheduleDTOs.stream()
-                .map(s -> s.getRoute() != null ? s.getRoute().getId() : null)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        Set<Long> occasionIds = scheduleDTOs.stream()
-                .map(s -> s.getOccasionRule() != null ? s.getOccasionRule().getId() : null)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        Set<Long> scheduleIds = scheduleDTOs.stream()
-                .map(ScheduleDTO::getId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        Map<Long, Route> routeMap = batchFetchRoutes(routeIds);
-        Map<Long, ScheduleOccasion> occasionMap = batchFetchScheduleOccasions(occasionIds);
-        Map<Long, List<ScheduleTimeSlot>> timeslotMap = batchFetchTimeslots(scheduleIds);
-
-        LOG.debug("Batch fetched: {} routes, {} occasions, {} timeslot groups",
-                routeMap.size(), occasionMap.size(), timeslotMap.size());
-
-        int totalTripsCreated = 0;
-        int totalSchedulesProcessed = 0;
-        Map<String, Integer> tripsBySchedule = new HashMap<>();
-
+        ScheduleData data = batchFetchScheduleData(scheduleDTOs);
+        Set<Long> routeIds = data.routeIds();
+        Set<Long> scheduleIds = data.scheduleIds();
+        Map<Long, Route> routeMap = data.routes();
+
+        // Only the days past each schedule's watermark, up to the horizon of its route
+        Map<Long, ScheduleGenerationState> states = data.states();
+        Map<Long, GenerationWindow> windows = new HashMap<>();
         for (ScheduleDTO scheduleDTO : scheduleDTOs) {
-            try {
-                // Convert DTO to entity using batch-fetched data
-                Schedule schedule = convertToScheduleEntity(scheduleDTO, routeMap, occasionMap, timeslotMap);
-                int tripsCreated = createTripsForSchedule(schedule, today, scheduleEndDate);
-                totalTripsCreated += tripsCreated;
-                totalSchedulesProcessed++;
-
-                if (tripsCreated > 0) {
-                    tripsBySchedule.put(schedule.getScheduleCode(), tripsCreated);
-                }
-
-                LOG.debug("Processed schedule {}: {} trips created",
-                        schedule.getScheduleCode(), tripsCreated);
-
-            } catch (Exception e) {
-                LOG.error("Error processing schedule {}: {}",
-                        scheduleDTO.getScheduleCode(), e.getMessage(), e);
+            Route route = scheduleDTO.getRoute() != null ? routeMap.get(scheduleDTO.getRoute().getId()) : null;
+            windows.put(scheduleDTO.getId(), generationWindow(states.get(scheduleDTO.getId()), route, today));
+        }
+        LocalDate firstDate = windows.values().stream().filter(GenerationWindow::hasDays)
+                .map(GenerationWindow::from).min(Comparator.naturalOrder()).orElse(null);
+        LocalDate lastDate = windows.values().stream().filter(GenerationWindow::hasDays)
+                .map(GenerationWindow::through).max(Comparator.naturalOrder()).orElse(null);
+
+        // One lookup for the trips already generated in those days; the unique index on
+        // route, slot and departure date catches the ones created meanwhile
+        Set<TripSlotDate> existingTrips = firstDate == null
+                ? Collections.emptySet()
+                : tripRepository.findSlotDates(routeIds, firstDate, lastDate);
+        LOG.debug("Found {} existing trips between {} and {}", existingTrips.size(), firstDate, lastDate);
+
+        // Vehicles, drivers and attendants are booked against every trip around those days, including
+        // overnight trips of the day before; all partitions share the bookings
+        TripResourceAllocator.Allocation allocation = firstDate == null
+                ? null
+                : tripResourceAllocator.open(
+                        firstDate.minusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+                        lastDate.plusDays(2).atStartOfDay(ZoneId.systemDefault()).toInstant());
+
+        // Schedules of a route generate disjoint trips from other routes, so routes are processed in parallel
+        Map<Long, List<ScheduleDTO>> partitions = new LinkedHashMap<>();
+        for (ScheduleDTO scheduleDTO : scheduleDTOs) {
+            Long routeId = scheduleDTO.getRoute() != null ? scheduleDTO.getRoute().getId() : null;
+            partitions.computeIfAbsent(routeId, key -> new ArrayList<>()).add(scheduleDTO);
+        }
+        Set<Long> schedulesWithTimeSlots = scheduleTimeSlotRepository.findScheduleIdsWithTimeSlots(scheduleIds);
+        Function<ScheduleDTO, List<Trip>> createTrips = scheduleDTO -> {
+            GenerationWindow window = windows.get(scheduleDTO.getId());
+            if (!window.hasDays()) {
+                return List.of();
+            }
+            // Left at its watermark, so the next run generates it once its data is back
+            String missing = missingData(scheduleDTO, data, schedulesWithTimeSlots);
+            if (missing != null) {
+                LOG.warn("Skipping schedule {}: {} not loaded", scheduleDTO.getScheduleCode(), missing);
+                return List.of();
+            }
+            ScheduleTrips trips = createTripsForSchedule(
+                    convertToScheduleEntity(scheduleDTO, data.routes(), data.occasions(), data.timeslots()),
+                    data.calendars().getOrDefault(scheduleDTO.getId(), ScheduleCalendar.NEVER),
+                    window.from(), window.through(), existingTrips, allocation);
+            // Advanced through the last day whose trips were all assigned, or to the day before the
+            // window if the first one was not, so the next daily run retries from the first unassigned
+            // day instead of every regeneration pass
+            LocalDate through = trips.firstUnassigned() == null ? window.through() : trips.firstUnassigned().minusDays(1);
+            scheduleGenerationStateRepository.advance(scheduleDTO.getId(), through, window.version(), Instant.now());
+            return trips.created();
+        };
+
+        int threads = Math.max(1, Math.min(properties.getParallelism(), partitions.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("auto-schedule-"));
+        Map<String, Integer> tripsBySchedule = new ConcurrentHashMap<>();
+        List<PartitionResult> partitionResults = new ArrayList<>();
+        try {
+            List<Future<PartitionResult>> futures = new ArrayList<>();
+            partitions.forEach((routeId, schedules) ->
+                    futures.add(executor.submit(() -> {
+                        PartitionResult result = processPartition(routeId, schedules, createTrips, tripsBySchedule);
+                        progress.partitionCompleted(result, schedules.size());
+                        return result;
+                    })));
+            for (Future<PartitionResult> future : futures) {
+                partitionResults.add(future.get());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Auto-schedule interrupted after {} of {} partitions", partitionResults.size(), partitions.size());
+        } catch (ExecutionException e) {
+            LOG.error("Auto-schedule partition failed: {}", e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
 
-        LOG.info("Auto-schedule completed: {} schedules processed, {} trips created",
-                totalSchedulesProcessed, totalTripsCreated);
+        int totalSchedulesProcessed = partitionResults.stream().mapToInt(PartitionResult::schedulesProcessed).sum();
+        int totalTripsCreated = partitionResults.stream().mapToInt(PartitionResult::tripsCreated).sum();
+
+        LOG.info("Auto-schedule completed: {} schedules processed, {} trips created in {} partitions on {} threads",
+                totalSchedulesProcessed, totalTripsCreated, partitions.size(), threads);
 
-        return new AutoScheduleResult(totalSchedulesProcessed, totalTripsCreated, tripsBySchedule);
+        return new AutoScheduleResult(totalSchedulesProcessed, totalTripsCreated, tripsBySchedule, partitionResults);
     }
 
     /**
-     * Create trips for a specific schedule within date range.
+     * What a schedule is missing from the batch-fetched data to generate its trips: its route,
+     * its occasion rule, or the time slots it has in the database; {@code null} if nothing.
      */
-    private int createTripsForSchedule(Schedule schedule, LocalDate startDate, LocalDate endDate) {
-        if (schedule.getStartDate() != null && schedule.getStartDate().isAfter(endDate)) {
-            return 0; // Schedule starts after our target period
+    private static String missingData(ScheduleDTO scheduleDTO, ScheduleData data, Set<Long> schedulesWithTimeSlots) {
+        if (scheduleDTO.getRoute() == null || !data.routes().containsKey(scheduleDTO.getRoute().getId())) {
+            return "route";
         }
-
-        LocalDate effectiveStartDate = maxDate(startDate, schedule.getStartDate());
-        LocalDate effectiveEndDate = minDate(endDate, schedule.getEndDate());
-
-        if (effectiveStartDate.isAfter(effectiveEndDate)) {
-            return 0; // No overlap in date ranges
+        if (scheduleDTO.getOccasionRule() == null || !data.occasions().containsKey(scheduleDTO.getOccasionRule().getId())) {
+            return "occasion rule";
         }
-
-        List<LocalDate> tripDates = calculateTripDates(
-                effectiveStartDate, effectiveEndDate, schedule.getDaysOfWeek());
-
-        // Collect all potential trips for bulk existence checking
-        List<TripIdentifier> potentialTrips = new ArrayList<>();
-        for (LocalDate tripDate : tripDates) {
-            for (ScheduleTimeSlot timeSlot : schedule.getTimeSlots()) {
-                if (schedule.getRoute() != null) {
-                    potentialTrips.add(new TripIdentifier(
-                            schedule.getRoute().getId(),
-                            timeSlot.getId(),
-                            tripDate));
-                }
-            }
+        if (schedulesWithTimeSlots.contains(scheduleDTO.getId()) && !data.timeslots().containsKey(scheduleDTO.getId())) {
+            return "time slots";
         }
-
-        // Bulk check existing trips to avoid unnecessary individual database calls
-        Set<TripIdentifier> existingTrips = bulkCheckTripExistence(potentialTrips);
-        
-        // Create only trips that don't already exist
-        int tripsCreated = 0;
-        List<Trip> tripsToSave = new ArrayList<>();
-
-        for (LocalDate tripDate : tripDates) {
-            for (ScheduleTimeSlot timeSlot : schedule.getTimeSlots()) {
-                if (schedule.getRoute() != null) {
-                    TripIdentifier tripId = new TripIdentifier(
-                            schedule.getRoute().getId(),
-                            timeSlot.getId(),
-                            tripDate);
-                    
-                    // Only create trip if it doesn't already exist
-                    if (!existingTrips.contains(tripId)) {
-                        Trip trip = createTripEntity(schedule, timeSlot, tripDate);
-                        tripsToSave.add(trip);
-                        tripsCreated++;
-                    }
-                }
-            }
-        }
-
-        // Save all new trips (using individual saves since saveAll not available)
-        if (!tripsToSave.isEmpty()) {
-            try {
-                for (Trip trip : tripsToSave) {
-                    tripService.save(tripMapper.toDto(trip));
-                }
-                LOG.info("Created {} new trips for schedule {}", 
-                        tripsToSave.size(), schedule.getScheduleCode());
-            } catch (Exception e) {
-                LOG.error("Error saving trips for schedule {}: {}", 
-                        schedule.getScheduleCode(), e.getMessage(), e);
-                return 0;
-            }
-        }
-
-        return tripsCreated;
+        return null;
     }
 
     /**
-     * Create mock vehicle for testing.
+     * Days to generate for a schedule: from the day after its watermark, or today if it has
+     * none, through today plus its route's horizon.
      */
-    private Vehicle createMockVehicle(Route route) {
-        Vehicle vehicle = new Vehicle();
-        vehicle.setId(1L);
-        vehicle.setPlateNumber("MOCK-VEHICLE-001");
-        vehicle.setType(com.ridehub.route.domain.enumeration.VehicleType.STANDARD_BUS_NORMAL);
-        vehicle.setStatus(com.ridehub.route.domain.enumeration.VehicleStatus.ACTIVE);
-        vehicle.setCreatedAt(Instant.now());
-        return vehicle;
+    private GenerationWindow generationWindow(ScheduleGenerationState state, Route route, LocalDate today) {
+        int horizonDays = route != null && route.getHorizonDays() != null ? route.getHorizonDays() : properties.getHorizonDays();
+        LocalDate through = today.plusDays(horizonDays);
+        if (state == null) {
+            return new GenerationWindow(today, through, 0);
+        }
+        LocalDate from = state.getGeneratedThrough() == null ? today : maxDate(today, state.getGeneratedThrough().plusDays(1));
+        return new GenerationWindow(from, through, state.getVersion());
     }
 
     /**
-     * Create mock driver for testing.
+     * Create the trips of the schedules of one route in a single transaction, and publish them
+     * in a {@link TripsGeneratedEvent} that is sent to Kafka after commit.
+     * Any failure rolls back the whole partition and is reported in its result.
      */
-    private Driver createMockDriver() {
-        Driver driver = new Driver();
-        driver.setId(1L);
-        driver.setLicenseClass("D");
-        
-        // Create staff object for driver
-        Staff driverStaff = new Staff();
-        driverStaff.setId(1L);
-        driverStaff.setName("Mock Driver");
-        driverStaff.setPhoneNumber("123-456-7890");
-        driverStaff.setCreatedAt(Instant.now());
-        
-        driver.setStaff(driverStaff);
-        driver.setCreatedAt(Instant.now());
-        return driver;
+    private PartitionResult processPartition(Long routeId, List<ScheduleDTO> schedules,
+            Function<ScheduleDTO, List<Trip>> createTrips, Map<String, Integer> tripsBySchedule) {
+        long start = System.nanoTime();
+        Map<String, Integer> created = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<GeneratedTrip> generated = new ArrayList<>();
+                for (ScheduleDTO scheduleDTO : schedules) {
+                    List<Trip> trips = createTrips.apply(scheduleDTO);
+                    if (!trips.isEmpty()) {
+                        created.put(scheduleDTO.getScheduleCode(), trips.size());
+                    }
+                    for (Trip trip : trips) {
+                        generated.add(new GeneratedTrip(trip.getId(), trip.getSlot().getId(), trip.getDepartureDate(),
+                                trip.getDepartureTime(), trip.getArrivalTime()));
+                    }
+                    LOG.debug("Processed schedule {}: {} trips created",
+                            scheduleDTO.getScheduleCode(), trips.size());
+                }
+                // Published to Kafka once the partition commits
+                if (!generated.isEmpty()) {
+                    eventPublisher.publishEvent(new TripsGeneratedEvent(routeId, generated));
+                }
+            });
+        } catch (RuntimeException e) {
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            LOG.error("Error processing schedules of route {}: {}", routeId, e.getMessage(), e);
+            return new PartitionResult(routeId, 0, 0, durationMs, e.getMessage());
+        }
+        tripsBySchedule.putAll(created);
+        int tripsCreated = created.values().stream().mapToInt(Integer::intValue).sum();
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOG.debug("Processed route {}: {} schedules, {} trips created in {} ms",
+                routeId, schedules.size(), tripsCreated, durationMs);
+        return new PartitionResult(routeId, schedules.size(), tripsCreated, durationMs, null);
     }
 
     /**
-     * Create mock attendant for testing.
+     * Create trips for a specific schedule within date range, except the existing ones.
+     * Trips that get no vehicle or driver from the allocation are not created.
      */
-    private Attendant createMockAttendant() {
-        Attendant attendant = new Attendant();
-        attendant.setId(1L);
-        
-        // Create staff object for attendant
-        Staff attendantStaff = new Staff();
-        attendantStaff.setId(2L);
-        attendantStaff.setName("Mock Attendant");
-        attendantStaff.setPhoneNumber("098-765-4321");
-        attendantStaff.setCreatedAt(Instant.now());
-        
-        attendant.setStaff(attendantStaff);
-        attendant.setCreatedAt(Instant.now());
-        return attendant;
-    }
+    private ScheduleTrips createTripsForSchedule(Schedule schedule, ScheduleCalendar calendar, LocalDate startDate, LocalDate endDate,
+            Set<TripSlotDate> existingTrips, TripResourceAllocator.Allocation allocation) {
+        Map<Long, ScheduleTimeSlot> slots = schedule.getTimeSlots().stream()
+                .collect(Collectors.toMap(ScheduleTimeSlot::getId, slot -> slot));
 
-    /**
-     * Create a Trip entity (without saving) for a schedule time slot on a specific date.
-     */
-    private Trip createTripEntity(Schedule schedule, ScheduleTimeSlot timeSlot, LocalDate date) {
-        // Calculate departure and arrival times
-        LocalDateTime departureDateTime = LocalDateTime.of(date, timeSlot.getDepartureTime());
-        LocalDateTime arrivalDateTime = LocalDateTime.of(date, timeSlot.getArrivalTime());
+        // Create only trips that don't already exist, each with its own vehicle, driver and attendant
+        List<Trip> tripsToSave = new ArrayList<>();
+        int unassigned = 0;
+        LocalDate firstUnassigned = null;
+        // Stored as is in datetime(6), so the inserted trips can be found by it
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        for (TripPlanner.PlannedTrip plannedTrip : TripPlanner.tripsOf(schedule, calendar, startDate, endDate, ZoneId.systemDefault())) {
+            if (existingTrips.contains(plannedTrip.key())) {
+                continue;
+            }
+            ScheduleTimeSlot timeSlot = slots.get(plannedTrip.slotId());
+            Trip trip = createTripEntity(schedule, timeSlot, plannedTrip, createdAt);
+            int bufferMinutes = timeSlot.getBufferMinutes() != null ? timeSlot.getBufferMinutes() : 0;
+            if (allocation.assign(trip, bufferMinutes)) {
+                tripsToSave.add(trip);
+            } else {
+                unassigned++;
+                if (firstUnassigned == null || plannedTrip.departureDate().isBefore(firstUnassigned)) {
+                    firstUnassigned = plannedTrip.departureDate();
+                }
+            }
+        }
 
-        // Handle overnight trips
-        if (arrivalDateTime.isBefore(departureDateTime)) {
-            arrivalDateTime = arrivalDateTime.plusDays(1);
+        // Save all new trips with multi-row inserts, in the transaction of the route's partition
+        List<Trip> created = List.of();
+        if (!tripsToSave.isEmpty()) {
+            int tripsCreated = tripBulkWriter.write(tripsToSave);
+            created = tripsToSave.stream().filter(trip -> trip.getId() != null).toList();
+            LOG.info("Created {} new trips for schedule {}",
+                    tripsCreated, schedule.getScheduleCode());
+        }
+        if (unassigned > 0) {
+            LOG.warn("No vehicle or driver free for {} trips of schedule {}", unassigned, schedule.getScheduleCode());
         }
 
-        // Create trip entity
+        return new ScheduleTrips(created, unassigned, firstUnassigned);
+    }
+
+    /**
+     * Create a Trip entity (without saving) for a planned trip of a schedule time slot.
+     */
+    private Trip createTripEntity(Schedule schedule, ScheduleTimeSlot timeSlot, TripPlanner.PlannedTrip plannedTrip,
+            Instant createdAt) {
         Trip trip = new Trip();
-        trip.setTripCode(generateTripCode(schedule, timeSlot, date));
-        trip.setDepartureTime(departureDateTime.atZone(ZoneId.systemDefault()).toInstant());
-        trip.setArrivalTime(arrivalDateTime.atZone(ZoneId.systemDefault()).toInstant());
+        trip.setTripCode(plannedTrip.tripCode());
+        trip.setDepartureTime(plannedTrip.departureTime());
+        trip.setDepartureDate(plannedTrip.departureDate());
+        trip.setArrivalTime(plannedTrip.arrivalTime());
         trip.setOccasionFactor(schedule.getOccasionRule().getOccasionFactor());
-        trip.setCreatedAt(Instant.now());
+        trip.setCreatedAt(createdAt);
         trip.setRoute(schedule.getRoute());
         trip.setSlot(timeSlot);
-        trip.setDriver(createMockDriver());
-        trip.setAttendant(createMockAttendant());
-        trip.setVehicle(createMockVehicle(schedule.getRoute()));
         trip.setIsDeleted(false);
         
         return trip;
     }
 
     /**
-     * Bulk check if trips already exist to avoid N+1 query problems.
+     * Batch fetch the routes, occasion rules and time slots of schedules. A failed fetch is
+     * thrown, so no schedule is generated, or has its watermark moved, without its data.
      */
-    private Set<TripIdentifier> bulkCheckTripExistence(List<TripIdentifier> potentialTrips) {
-        if (potentialTrips.isEmpty()) {
-            return Collections.emptySet();
-        }
-
-        Set<TripIdentifier> existingTrips = new HashSet<>();
-        
-        // For now, use a simple approach - check each potential trip individually
-        // In a production environment, this could be optimized with a custom query
-        for (TripIdentifier tripId : potentialTrips) {
-            // if (tripExistsByIds(tripId.routeId(), tripId.timeSlotId(), tripId.tripDate())) {
-            //     existingTrips.add(tripId);
-            // }
-        }
-        
-        return existingTrips;
-    }
-
-    /**
-     * Check if a trip exists for the given route, time slot, and date.
-     */
-    private boolean tripExistsByIds(Long routeId, Long timeSlotId, LocalDate date) {
-        TripCriteria criteria = new TripCriteria();
-        
-        // Set route filter
-        LongFilter routeFilter = new LongFilter();
-        routeFilter.setEquals(routeId);
-        criteria.setRouteId(routeFilter);
-        
-        // Set time slot filter  
-        LongFilter slotFilter = new LongFilter();
-        slotFilter.setEquals(timeSlotId);
-        criteria.setSlotId(slotFilter);
-        
-        // Set date filter - convert to Instant range for the day
-        InstantFilter dateFilter = new InstantFilter();
-        LocalDate startOfDay = date.atStartOfDay().toLocalDate();
-        Instant dayStart = startOfDay.atStartOfDay(ZoneId.systemDefault()).toInstant();
-        Instant dayEnd = startOfDay.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
-        dateFilter.setGreaterThanOrEqual(dayStart);
-        dateFilter.setLessThan(dayEnd);
-        criteria.setDepartureTime(dateFilter);
-        
-        // Check if any trips match
-        Pageable pageable = Pageable.unpaged();
-        var existingTripsPage = tripQueryService.findByCriteria(criteria, pageable);
-        return !existingTripsPage.getContent().isEmpty();
-    }
-
-    /**
-     * Batch fetch timeslots by schedule IDs to eliminate N+1 queries
-     */
-    Map<Long, List<ScheduleTimeSlot>> batchFetchTimeslots(Set<Long> scheduleIds) {
-        if (scheduleIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        try {
-            ScheduleTimeSlotCriteria criteria = new ScheduleTimeSlotCriteria();
-            LongFilter scheduleIdFilter = new LongFilter();
-            scheduleIdFilter.setIn(new ArrayList<>(scheduleIds));
-            criteria.setScheduleId(scheduleIdFilter);
-
-            List<ScheduleTimeSlotDTO> timeslotDTOs = scheduleTimeSlotQueryService.findByCriteria(criteria);
-            return timeslotDTOs.stream()
-                    .map(this::convertToScheduleTimeSlotEntity)
-                    .filter(Objects::nonNull)
-                    .filter(timeslot -> timeslot.getSchedule() != null)
-                    .collect(Collectors.groupingBy(timeslot -> timeslot.getSchedule().getId()));
-
-        } catch (Exception e) {
-            LOG.error("Error batch fetching timeslots: {}", e.getMessage(), e);
-            return Collections.emptyMap();
-        }
-    }
-
-    /**
-     * Create mock vehicle for testing.
-     */
-    private boolean createTripForScheduleSlot(Schedule schedule, ScheduleTimeSlot timeSlot, LocalDate date) {
-        // Check if trip already exists
-        // if (tripExists(schedule, timeSlot, date)) {
-        //     return false;
-        // }
-
-        try {
-            // Calculate departure and arrival times
-            LocalDateTime departureDateTime = LocalDateTime.of(date, timeSlot.getDepartureTime());
-            LocalDateTime arrivalDateTime = LocalDateTime.of(date, timeSlot.getArrivalTime());
+    private ScheduleData batchFetchScheduleData(List<ScheduleDTO> scheduleDTOs) {
+        LOG.debug("Batch fetching related data for {} schedules", scheduleDTOs.size());
 
-            // Handle overnight trips
-            if (arrivalDateTime.isBefore(departureDateTime)) {
-                arrivalDateTime = arrivalDateTime.plusDays(1);
-            }
+        Set<Long> routeIds = scheduleDTOs.stream()
+                .map(s -> s.getRoute() != null ? s.getRoute().getId() : null)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-            // Get available resources (using mock objects)
-            Route route = schedule.getRoute();
-            Vehicle vehicle = createMockVehicle(route);
-            Driver driver = createMockDriver();
-            Attendant attendant = createMockAttendant();
-            
-            if (vehicle == null || driver == null) {
-                LOG.warn("Cannot create trip for schedule {} on {}: vehicle={}, driver={}",
-                        schedule.getScheduleCode(), date,
-                        vehicle != null ? vehicle.getPlateNumber() : "NOT_FOUND",
-                        driver != null ? driver.getLicenseClass() : "NOT_FOUND");
-                return false;
-            }
+        Set<Long> occasionIds = scheduleDTOs.stream()
+                .map(s -> s.getOccasionRule() != null ? s.getOccasionRule().getId() : null)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-            // Create trip
-            Trip trip = new Trip();
-            trip.setTripCode(generateTripCode(schedule, timeSlot, date));
-            trip.setDepartureTime(departureDateTime.atZone(ZoneId.systemDefault()).toInstant());
-            trip.setArrivalTime(arrivalDateTime.atZone(ZoneId.systemDefault()).toInstant());
-            trip.setOccasionFactor(schedule.getOccasionRule().getOccasionFactor());
-            trip.setCreatedAt(Instant.now());
-            trip.setRoute(route);
-            trip.setVehicle(vehicle);
-            trip.setSlot(timeSlot);
-            trip.setDriver(driver);
-            trip.setAttendant(attendant);
-            trip.setIsDeleted(false);
+        Set<Long> scheduleIds = scheduleDTOs.stream()
+                .map(ScheduleDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-            TripDTO savedTrip = tripService.save(tripMapper.toDto(trip));
+        Map<Long, Route> routeMap = batchFetchRoutes(routeIds);
+        Map<Long, ScheduleOccasion> occasionMap = batchFetchScheduleOccasions(occasionIds);
+        Map<Long, List<ScheduleTimeSlot>> timeslotMap = batchFetchTimeslots(scheduleIds);
 
-            LOG.info("Created trip {} for schedule {} on {}",
-                    savedTrip.getTripCode(), schedule.getScheduleCode(), date);
+        // Read before the calendars, so a calendar is never cached at a version older than its exception dates
+        Map<Long, ScheduleGenerationState> states = scheduleIds.isEmpty()
+                ? Collections.emptyMap()
+                : scheduleGenerationStateRepository.findAllById(scheduleIds).stream()
+                        .collect(Collectors.toMap(ScheduleGenerationState::getScheduleId, state -> state));
 
-            return true;
+        LOG.debug("Batch fetched: {} routes, {} occasions, {} timeslot groups",
+                routeMap.size(), occasionMap.size(), timeslotMap.size());
 
-        } catch (Exception e) {
-            LOG.error("Error creating trip for schedule {} on {}: {}",
-                    schedule.getScheduleCode(), date, e.getMessage(), e);
-            return false;
-        }
+        return new ScheduleData(routeIds, scheduleIds, routeMap, occasionMap, timeslotMap, states,
+                compileCalendars(scheduleDTOs, states, LocalDate.now()));
     }
 
     /**
-     * Check if a trip already exists for given schedule, time slot, and date.
+     * Batch fetch timeslots by schedule IDs to eliminate N+1 queries
      */
-    private boolean tripExists(Schedule schedule, ScheduleTimeSlot timeSlot, LocalDate date) {
-        try {
-            // Use optimized repository method for better performance
-            Instant dayStart = date.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant();
-            Instant dayEnd = date.atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toInstant();
-            
-            long count = tripRepository.countByRouteIdAndSlotIdAndDepartureTimeBetweenAndIsDeletedFalse(
-                    schedule.getRoute().getId(),
-                    timeSlot.getId(),
-                    dayStart,
-                    dayEnd
-            );
-            
-            return count > 0;
-        } catch (Exception e) {
-            LOG.warn("Error checking trip existence for schedule {} on {}: {}",
-                    schedule.getScheduleCode(), date, e.getMessage());
-            // Fall back to original method if optimized query fails
-            return tripExistsOriginal(schedule, timeSlot, date);
+    Map<Long, List<ScheduleTimeSlot>> batchFetchTimeslots(Set<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return Collections.emptyMap();
         }
-    }
 
-    /**
-     * Original trip existence method as fallback.
-     */
-    private boolean tripExistsOriginal(Schedule schedule, ScheduleTimeSlot timeSlot, LocalDate date) {
-        TripCriteria criteria = new TripCriteria();
-
-        // Filter by route
-        LongFilter routeIdFilter = new LongFilter();
-        routeIdFilter.setEquals(schedule.getRoute().getId());
-        criteria.setRouteId(routeIdFilter);
-
-        // Filter by time slot
-        LongFilter slotIdFilter = new LongFilter();
-        slotIdFilter.setEquals(timeSlot.getId());
-        criteria.setSlotId(slotIdFilter);
-
-        // Filter by departure time range (the entire day)
-        InstantFilter departureTimeFilter = new InstantFilter();
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(23, 59, 59);
-        departureTimeFilter.setGreaterThanOrEqual(
-                startOfDay.atZone(ZoneId.systemDefault()).toInstant());
-        departureTimeFilter.setLessThanOrEqual(
-                endOfDay.atZone(ZoneId.systemDefault()).toInstant());
-        criteria.setDepartureTime(departureTimeFilter);
-
-        // Filter non-deleted trips
-        BooleanFilter isDeletedFilter = new BooleanFilter();
-        isDeletedFilter.setEquals(false);
-        criteria.setIsDeleted(isDeletedFilter);
-
-        return tripQueryService.existsByCriteria(criteria);
+        ScheduleTimeSlotCriteria criteria = new ScheduleTimeSlotCriteria();
+        LongFilter scheduleIdFilter = new LongFilter();
+        scheduleIdFilter.setIn(new ArrayList<>(scheduleIds));
+        criteria.setScheduleId(scheduleIdFilter);
+
+        List<ScheduleTimeSlotDTO> timeslotDTOs = scheduleTimeSlotQueryService.findByCriteria(criteria);
+        return timeslotDTOs.stream()
+                .map(this::convertToScheduleTimeSlotEntity)
+                .filter(Objects::nonNull)
+                .filter(timeslot -> timeslot.getSchedule() != null)
+                .collect(Collectors.groupingBy(timeslot -> timeslot.getSchedule().getId()));
     }
 
 
 
     /**
-     * Calculate trip dates based on schedule's days of week.
+     * Get the calendar of each schedule, with its exception dates from a date on. Calendars are
+     * compiled again only when the schedule's generation state version moved, which every change
+     * to its days of week or exception dates does; the exception dates are loaded for those only.
      */
-    private List<LocalDate> calculateTripDates(LocalDate startDate, LocalDate endDate, String daysOfWeek) {
-        if (daysOfWeek == null || daysOfWeek.trim().isEmpty()) {
-            return Collections.emptyList();
+    private Map<Long, ScheduleCalendar> compileCalendars(List<ScheduleDTO> scheduleDTOs,
+            Map<Long, ScheduleGenerationState> states, LocalDate from) {
+        Map<Long, ScheduleCalendar> calendars = new HashMap<>();
+        Map<Long, Integer> versions = new HashMap<>();
+        List<ScheduleDTO> stale = new ArrayList<>();
+        for (ScheduleDTO scheduleDTO : scheduleDTOs) {
+            if (scheduleDTO.getId() == null) {
+                continue;
+            }
+            ScheduleGenerationState state = states.get(scheduleDTO.getId());
+            int version = state != null ? state.getVersion() : 0;
+            CompiledCalendar cached = calendarCache.get(scheduleDTO.getId());
+            if (cached != null && cached.version() == version) {
+                calendars.put(scheduleDTO.getId(), cached.calendar());
+            } else {
+                versions.put(scheduleDTO.getId(), version);
+                stale.add(scheduleDTO);
+            }
+        }
+        if (stale.isEmpty()) {
+            return calendars;
         }
 
-        Set<DayOfWeek> scheduledDays = Arrays.stream(daysOfWeek.split(","))
-                .map(String::trim)
-                .map(Integer::parseInt)
-                .map(dayNum -> DayOfWeek.of(dayNum))
-                .collect(Collectors.toSet());
-
-        List<LocalDate> dates = new ArrayList<>();
-        LocalDate currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            if (scheduledDays.contains(currentDate.getDayOfWeek())) {
-                dates.add(currentDate);
+        Map<Long, List<LocalDate>> exceptions = scheduleExceptionDateRepository
+                .findAllByScheduleIdInAndExceptionDateGreaterThanEqual(versions.keySet(), from).stream()
+                .collect(Collectors.groupingBy(ScheduleExceptionDate::getScheduleId,
+                        Collectors.mapping(ScheduleExceptionDate::getExceptionDate, Collectors.toList())));
+        for (ScheduleDTO scheduleDTO : stale) {
+            try {
+                ScheduleCalendar calendar = ScheduleCalendar.of(scheduleDTO.getDaysOfWeek(), exceptions.get(scheduleDTO.getId()));
+                calendarCache.put(scheduleDTO.getId(), new CompiledCalendar(versions.get(scheduleDTO.getId()), calendar));
+                calendars.put(scheduleDTO.getId(), calendar);
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Schedule {} has invalid days of week '{}', no trips are generated for it",
+                        scheduleDTO.getScheduleCode(), scheduleDTO.getDaysOfWeek());
             }
-            currentDate = currentDate.plusDays(1);
         }
-
-        return dates;
-    }
-
-    /**
-     * Generate unique trip code.
-     */
-    private String generateTripCode(Schedule schedule, ScheduleTimeSlot timeSlot, LocalDate date) {
-        return String.format("TRP-%s-%s-%s",
-                schedule.getScheduleCode(),
-                date.format(DateTimeFormatter.ofPattern("yyyyMMdd")),
-                timeSlot.getId());
+        return calendars;
     }
 
     /**
@@ -569,22 +585,17 @@ public class AutoScheduleService {
             return Collections.emptyMap();
         }
 
-        try {
-            // Create criteria for batch fetch
-            RouteCriteria criteria = new RouteCriteria();
-            LongFilter idFilter = new LongFilter();
-            idFilter.setIn(new ArrayList<>(routeIds));
-            criteria.setId(idFilter);
-
-            List<RouteDTO> routeDTOs = routeQueryService.findByCriteria(criteria, Pageable.unpaged()).getContent();
-            return routeDTOs.stream()
-                    .collect(Collectors.toMap(
-                            RouteDTO::getId,
-                            routeMapper::toEntity));
-        } catch (Exception e) {
-            LOG.error("Error batch fetching routes: {}", e.getMessage(), e);
-            return Collections.emptyMap();
-        }
+        // Create criteria for batch fetch
+        RouteCriteria criteria = new RouteCriteria();
+        LongFilter idFilter = new LongFilter();
+        idFilter.setIn(new ArrayList<>(routeIds));
+        criteria.setId(idFilter);
+
+        List<RouteDTO> routeDTOs = routeQueryService.findByCriteria(criteria, Pageable.unpaged()).getContent();
+        return routeDTOs.stream()
+                .collect(Collectors.toMap(
+                        RouteDTO::getId,
+                        routeMapper::toEntity));
     }
 
     /**
@@ -595,21 +606,16 @@ public class AutoScheduleService {
             return Collections.emptyMap();
         }
 
-        try {
-            ScheduleOccasionCriteria criteria = new ScheduleOccasionCriteria();
-            LongFilter idFilter = new LongFilter();
-            idFilter.setIn(new ArrayList<>(occasionIds));
-            criteria.setId(idFilter);
-
-            List<ScheduleOccasionDTO> occasionDTOs = occasionRuleQueryService.findByCriteria(criteria);
-            return occasionDTOs.stream()
-                    .collect(Collectors.toMap(
-                            ScheduleOccasionDTO::getId,
-                            scheduleOccasionMapper::toEntity));
-        } catch (Exception e) {
-            LOG.error("Error batch fetching schedule occasions: {}", e.getMessage(), e);
-            return Collections.emptyMap();
-        }
+        ScheduleOccasionCriteria criteria = new ScheduleOccasionCriteria();
+        LongFilter idFilter = new LongFilter();
+        idFilter.setIn(new ArrayList<>(occasionIds));
+        criteria.setId(idFilter);
+
+        List<ScheduleOccasionDTO> occasionDTOs = occasionRuleQueryService.findByCriteria(criteria);
+        return occasionDTOs.stream()
+                .collect(Collectors.toMap(
+                        ScheduleOccasionDTO::getId,
+                        scheduleOccasionMapper::toEntity));
     }
 
 
@@ -646,12 +652,6 @@ public class AutoScheduleService {
         return entity;
     }
 
-    private Schedule convertToScheduleEntity(ScheduleDTO scheduleDTO) {
-        // Legacy method - use batch version for performance
-        return convertToScheduleEntity(scheduleDTO, Collections.emptyMap(), Collections.emptyMap(),
-                Collections.emptyMap());
-    }
-
     private Schedule convertToScheduleEntity(ScheduleDTO scheduleDTO,
             Map<Long, Route> routeMap,
             Map<Long, ScheduleOccasion> occasionMap,
@@ -715,17 +715,6 @@ public class AutoScheduleService {
         return date1.isAfter(date2) ? date1 : date2;
     }
 
-    /**
-     * Utility method to get the minimum of two dates.
-     */
-    private LocalDate minDate(LocalDate date1, LocalDate date2) {
-        if (date1 == null)
-            return date2;
-        if (date2 == null)
-            return date1;
-        return date1.isBefore(date2) ? date1 : date2;
-    }
-
     /**
      * Result class for auto-schedule operations.
      */
@@ -733,11 +722,28 @@ public class AutoScheduleService {
         private final int schedulesProcessed;
         private final int tripsCreated;
         private final Map<String, Integer> tripsBySchedule;
+        private final List<PartitionResult> partitions;
+        private final boolean skipped;
+
+        public AutoScheduleResult(int schedulesProcessed, int tripsCreated, Map<String, Integer> tripsBySchedule,
+                List<PartitionResult> partitions) {
+            this(schedulesProcessed, tripsCreated, tripsBySchedule, partitions, false);
+        }
 
-        public AutoScheduleResult(int schedulesProcessed, int tripsCreated, Map<String, Integer> tripsBySchedule) {
+        private AutoScheduleResult(int schedulesProcessed, int tripsCreated, Map<String, Integer> tripsBySchedule,
+                List<PartitionResult> partitions, boolean skipped) {
             this.schedulesProcessed = schedulesProcessed;
             this.tripsCreated = tripsCreated;
             this.tripsBySchedule = tripsBySchedule;
+            this.partitions = partitions;
+            this.skipped = skipped;
+        }
+
+        /**
+         * Result of a run skipped because another instance is running the job.
+         */
+        public static AutoScheduleResult skipped() {
+            return new AutoScheduleResult(0, 0, Collections.emptyMap(), Collections.emptyList(), true);
         }
 
         public int getSchedulesProcessed() {
@@ -751,5 +757,67 @@ public class AutoScheduleService {
         public Map<String, Integer> getTripsBySchedule() {
             return tripsBySchedule;
         }
+
+        public List<PartitionResult> getPartitions() {
+            return partitions;
+        }
+
+        public boolean isSkipped() {
+            return skipped;
+        }
+    }
+
+    /**
+     * Callbacks on the progress of a run; {@link #partitionCompleted} is called from the partition threads.
+     */
+    public interface Progress {
+        Progress NONE = new Progress() {};
+
+        /**
+         * The schedules to process are known; not called for skipped runs.
+         */
+        default void started(int schedules) {}
+
+        /**
+         * A route partition of the given number of schedules was committed or rolled back.
+         */
+        default void partitionCompleted(PartitionResult result, int schedules) {}
+    }
+
+    /**
+     * Trips a run created for a schedule, with their ids, and the ones it left out for lack of a vehicle or driver
+     * with the earliest day among them.
+     */
+    private record ScheduleTrips(List<Trip> created, int unassigned, LocalDate firstUnassigned) {}
+
+    /**
+     * Related data of a set of schedules, fetched with one query per kind.
+     */
+    private record ScheduleData(Set<Long> routeIds, Set<Long> scheduleIds, Map<Long, Route> routes,
+            Map<Long, ScheduleOccasion> occasions, Map<Long, List<ScheduleTimeSlot>> timeslots,
+            Map<Long, ScheduleGenerationState> states, Map<Long, ScheduleCalendar> calendars) {
+
+        ScheduleCalendar calendarOf(Schedule schedule) {
+            return calendars.getOrDefault(schedule.getId(), ScheduleCalendar.NEVER);
+        }
     }
+
+    /**
+     * A schedule's calendar and the version of its generation state it was compiled at.
+     */
+    private record CompiledCalendar(int version, ScheduleCalendar calendar) {}
+
+    /**
+     * Days a run generates for a schedule, and the version of its generation state when read.
+     */
+    private record GenerationWindow(LocalDate from, LocalDate through, int version) {
+        boolean hasDays() {
+            return !from.isAfter(through);
+        }
+    }
+
+    /**
+     * Outcome of the schedules of one route; {@code error} is set when the partition was rolled back.
+     */
+    public record PartitionResult(Long routeId, int schedulesProcessed, int tripsCreated, long durationMs, String error) {}
 }
\ No newline at end of file
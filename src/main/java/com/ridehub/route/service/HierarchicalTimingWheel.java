@@ -0,0 +1,158 @@
+package com.ridehub.route.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel: schedules keys at a deadline and hands them back once it has
+ * passed, with O(1) scheduling and cancellation and work per tick proportional to the
+ * keys that are due.
+ * <p>
+ * Level {@code l} has {@code 2^bitsPerLevel} slots of {@code 2^(bitsPerLevel * l)} ticks each;
+ * when a coarser slot comes up its keys cascade to finer levels. Deadlines beyond the last
+ * level wait in its farthest slot and are re-placed on every cascade.
+ * <p>
+ * A key has at most one deadline: scheduling it again moves it, and stale slot entries are
+ * skipped lazily. Not thread-safe.
+ *
+ * @param <K> the key type; needs proper {@code equals}/{@code hashCode}.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int bitsPerLevel;
+    private final int mask;
+    private final long maxSpanTicks;
+    private final List<List<Entry<K>>[]> levels = new ArrayList<>();
+    private final Map<K, Long> deadlines = new HashMap<>();
+
+    private long currentTick;
+
+    /**
+     * @param tickMs       the wheel resolution.
+     * @param bitsPerLevel log2 of the slots per level.
+     * @param levelCount   the number of levels.
+     * @param startMs      the current time.
+     */
+    public HierarchicalTimingWheel(long tickMs, int bitsPerLevel, int levelCount, long startMs) {
+        if (tickMs <= 0 || bitsPerLevel <= 0 || levelCount <= 0 || (long) bitsPerLevel * levelCount >= 62) {
+            throw new IllegalArgumentException("Invalid timing wheel geometry");
+        }
+        this.tickMs = tickMs;
+        this.bitsPerLevel = bitsPerLevel;
+        this.mask = (1 << bitsPerLevel) - 1;
+        this.maxSpanTicks = 1L << (bitsPerLevel * levelCount);
+        for (int l = 0; l < levelCount; l++) {
+            @SuppressWarnings("unchecked")
+            List<Entry<K>>[] slots = new List[1 << bitsPerLevel];
+            levels.add(slots);
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Schedule a key, replacing its previous deadline if any.
+     *
+     * @param key        the key.
+     * @param deadlineMs the epoch millisecond from which the key is due.
+     */
+    public void schedule(K key, long deadlineMs) {
+        // round up so a key never fires before its deadline
+        long deadlineTick = Math.floorDiv(deadlineMs + tickMs - 1, tickMs);
+        Long previous = deadlines.put(key, deadlineTick);
+        if (previous == null || previous != deadlineTick) {
+            place(new Entry<>(key, deadlineTick), currentTick + 1);
+        }
+    }
+
+    /**
+     * Cancel a key; unknown keys are ignored.
+     */
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Advance the wheel to the given time.
+     *
+     * @param nowMs the current time.
+     * @return the keys that became due, earlier ticks first.
+     */
+    public List<K> advance(long nowMs) {
+        List<K> due = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Entry<K>> slot = take(0, (int) (currentTick & mask));
+            if (slot == null) {
+                continue;
+            }
+            for (Entry<K> entry : slot) {
+                if (!isCurrent(entry)) {
+                    continue;
+                }
+                if (entry.deadlineTick <= currentTick) {
+                    deadlines.remove(entry.key);
+                    due.add(entry.key);
+                } else {
+                    place(entry, currentTick + 1);
+                }
+            }
+        }
+        return due;
+    }
+
+    private void cascade() {
+        for (int l = 1; l < levels.size(); l++) {
+            int shift = bitsPerLevel * l;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            List<Entry<K>> slot = take(l, (int) ((currentTick >>> shift) & mask));
+            if (slot != null) {
+                for (Entry<K> entry : slot) {
+                    if (isCurrent(entry)) {
+                        place(entry, currentTick); // level 0 of the current tick is taken right after
+                    }
+                }
+            }
+        }
+    }
+
+    private void place(Entry<K> entry, long earliestTick) {
+        long tick = Math.max(entry.deadlineTick, earliestTick);
+        tick = Math.min(tick, currentTick + maxSpanTicks - 1);
+        long delta = tick - currentTick;
+        int level = 0;
+        while (level < levels.size() - 1 && delta >= (1L << (bitsPerLevel * (level + 1)))) {
+            level++;
+        }
+        int index = (int) ((tick >>> (bitsPerLevel * level)) & mask);
+        List<Entry<K>>[] slots = levels.get(level);
+        if (slots[index] == null) {
+            slots[index] = new ArrayList<>();
+        }
+        slots[index].add(entry);
+    }
+
+    private List<Entry<K>> take(int level, int index) {
+        List<Entry<K>>[] slots = levels.get(level);
+        List<Entry<K>> slot = slots[index];
+        slots[index] = null;
+        return slot;
+    }
+
+    private boolean isCurrent(Entry<K> entry) {
+        Long deadline = deadlines.get(entry.key);
+        return deadline != null && deadline == entry.deadlineTick;
+    }
+
+    private record Entry<K>(K key, long deadlineTick) {}
+}
@@ -0,0 +1,88 @@
+package com.ridehub.route.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Busy intervals per resource, indexed by start time, so whether a resource is free for an
+ * interval is answered in O(log n) of its bookings.
+ * <p>
+ * Intervals are half-open {@code [start, end)} in epoch milliseconds, and the intervals of a
+ * resource never overlap: overlapping bookings are merged when they are added. Not thread-safe.
+ *
+ * @param <K> the resource key type; needs proper {@code equals}/{@code hashCode}.
+ */
+public class ResourceTimeline<K> {
+
+    private final Map<K, NavigableMap<Long, Long>> bookings = new HashMap<>();
+
+    /**
+     * Whether a resource has no booking overlapping an interval.
+     *
+     * @param resource the resource.
+     * @param start    the start of the interval.
+     * @param end      the end of the interval, after {@code start}.
+     * @return whether the resource is free for the whole interval.
+     */
+    public boolean isFree(K resource, long start, long end) {
+        NavigableMap<Long, Long> intervals = bookings.get(resource);
+        if (intervals == null) {
+            return true;
+        }
+        // intervals do not overlap, so only the last one starting before the end can reach the start
+        Map.Entry<Long, Long> previous = intervals.lowerEntry(end);
+        return previous == null || previous.getValue() <= start;
+    }
+
+    /**
+     * Book a resource for an interval, merging it with the bookings it overlaps.
+     *
+     * @param resource the resource.
+     * @param start    the start of the interval.
+     * @param end      the end of the interval, after {@code start}.
+     */
+    public void book(K resource, long start, long end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval must end after it starts: [" + start + ", " + end + ")");
+        }
+        NavigableMap<Long, Long> intervals = bookings.computeIfAbsent(resource, key -> new TreeMap<>());
+        Map.Entry<Long, Long> previous = intervals.floorEntry(start);
+        if (previous != null && previous.getValue() >= start) {
+            start = previous.getKey();
+            end = Math.max(end, previous.getValue());
+        }
+        NavigableMap<Long, Long> overlapped = intervals.subMap(start, true, end, true);
+        for (Long overlappedEnd : overlapped.values()) {
+            end = Math.max(end, overlappedEnd);
+        }
+        overlapped.clear();
+        intervals.put(start, end);
+    }
+
+    /**
+     * Find the first of the candidate resources that is free for an interval.
+     *
+     * @param candidates the resources, in order of preference.
+     * @param start      the start of the interval.
+     * @param end        the end of the interval, after {@code start}.
+     * @return the first free resource, or {@code null} if none is free.
+     */
+    public K firstFree(Iterable<K> candidates, long start, long end) {
+        for (K candidate : candidates) {
+            if (isFree(candidate, start, end)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of disjoint intervals booked for a resource.
+     */
+    public int size(K resource) {
+        NavigableMap<Long, Long> intervals = bookings.get(resource);
+        return intervals == null ? 0 : intervals.size();
+    }
+}
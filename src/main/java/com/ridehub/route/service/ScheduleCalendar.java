@@ -0,0 +1,145 @@
+package com.ridehub.route.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The days a schedule runs, compiled for date expansion: a 7-bit day-of-week mask plus the
+ * sorted epoch days of its exception dates, on which it does not run.
+ * <p>
+ * Expanding a range steps from one running day to the next with a per-weekday distance table
+ * and skips exceptions with a cursor, so it costs one step per running day rather than per day.
+ * Masks are parsed once per distinct {@code daysOfWeek} string. Immutable and thread-safe.
+ */
+public final class ScheduleCalendar {
+
+    private static final Map<String, Integer> MASKS = new ConcurrentHashMap<>();
+
+    private static final long[] NO_EXCEPTIONS = new long[0];
+
+    /** Runs on no day. */
+    public static final ScheduleCalendar NEVER = new ScheduleCalendar(0, NO_EXCEPTIONS);
+
+    private final int mask;
+    private final long[] exceptions;
+    /** Days from each weekday (index 0 for Monday) to the next running day, 1 to 7. */
+    private final int[] nextRunningDay = new int[7];
+
+    private ScheduleCalendar(int mask, long[] exceptions) {
+        this.mask = mask;
+        this.exceptions = exceptions;
+        for (int day = 0; day < 7; day++) {
+            int distance = 1;
+            while (distance < 7 && (mask & (1 << ((day + distance) % 7))) == 0) {
+                distance++;
+            }
+            nextRunningDay[day] = distance;
+        }
+    }
+
+    /**
+     * Compile a calendar.
+     *
+     * @param daysOfWeek comma-separated ISO day numbers, 1 for Monday to 7 for Sunday; blank for none.
+     * @param exceptions the dates it does not run on, in any order.
+     * @return the calendar.
+     * @throws IllegalArgumentException if a day is not a number from 1 to 7.
+     */
+    public static ScheduleCalendar of(String daysOfWeek, Collection<LocalDate> exceptions) {
+        int mask = daysOfWeek == null ? 0 : MASKS.computeIfAbsent(daysOfWeek, ScheduleCalendar::parseMask);
+        if (exceptions == null || exceptions.isEmpty()) {
+            return mask == 0 ? NEVER : new ScheduleCalendar(mask, NO_EXCEPTIONS);
+        }
+        long[] epochDays = exceptions.stream().mapToLong(LocalDate::toEpochDay).sorted().distinct().toArray();
+        return new ScheduleCalendar(mask, epochDays);
+    }
+
+    /**
+     * Compile a calendar without exceptions.
+     *
+     * @param daysOfWeek comma-separated ISO day numbers, 1 for Monday to 7 for Sunday; blank for none.
+     * @return the calendar.
+     */
+    public static ScheduleCalendar of(String daysOfWeek) {
+        return of(daysOfWeek, null);
+    }
+
+    /**
+     * @return the days of week as bits, bit 0 for Monday to bit 6 for Sunday.
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Whether the schedule runs on a date.
+     */
+    public boolean runsOn(LocalDate date) {
+        return (mask & bit(date.getDayOfWeek())) != 0 && Arrays.binarySearch(exceptions, date.toEpochDay()) < 0;
+    }
+
+    /**
+     * The dates the schedule runs on in a range, in order.
+     *
+     * @param from    the first date.
+     * @param through the last date.
+     * @return the running dates; empty if the range is empty.
+     */
+    public List<LocalDate> dates(LocalDate from, LocalDate through) {
+        if (mask == 0 || from.isAfter(through)) {
+            return List.of();
+        }
+        long last = through.toEpochDay();
+        long day = from.toEpochDay();
+        int weekday = from.getDayOfWeek().ordinal();
+        if ((mask & (1 << weekday)) == 0) {
+            int distance = nextRunningDay[weekday];
+            day += distance;
+            weekday = (weekday + distance) % 7;
+        }
+        int exception = lowerBound(exceptions, day);
+        List<LocalDate> dates = new ArrayList<>();
+        while (day <= last) {
+            while (exception < exceptions.length && exceptions[exception] < day) {
+                exception++;
+            }
+            if (exception == exceptions.length || exceptions[exception] != day) {
+                dates.add(LocalDate.ofEpochDay(day));
+            }
+            int distance = nextRunningDay[weekday];
+            day += distance;
+            weekday = (weekday + distance) % 7;
+        }
+        return dates;
+    }
+
+    private static int bit(DayOfWeek day) {
+        return 1 << day.ordinal();
+    }
+
+    private static int parseMask(String daysOfWeek) {
+        int mask = 0;
+        for (String day : daysOfWeek.split(",")) {
+            if (day.isBlank()) {
+                continue;
+            }
+            int number = Integer.parseInt(day.trim());
+            if (number < 1 || number > 7) {
+                throw new IllegalArgumentException("Invalid day of week: " + number);
+            }
+            mask |= bit(DayOfWeek.of(number));
+        }
+        return mask;
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+        int index = Arrays.binarySearch(sorted, key);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.domain.ScheduleExceptionDate;
+import com.ridehub.route.repository.ScheduleExceptionDateRepository;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
+import com.ridehub.route.service.dto.ScheduleExceptionDateDTO;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for managing the exception dates of schedules.
+ * <p>
+ * Adding or removing one marks the schedule to regenerate, which also makes the auto-scheduler
+ * compile its calendar again. Trips that already exist on a new exception date are kept; they
+ * are listed as orphaned by the auto-schedule plan. Exception dates written to the table by other
+ * means are only picked up once the schedule is changed.
+ */
+@Service
+@Transactional
+public class ScheduleExceptionDateService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduleExceptionDateService.class);
+
+    private final ScheduleExceptionDateRepository scheduleExceptionDateRepository;
+    private final ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+
+    public ScheduleExceptionDateService(
+            ScheduleExceptionDateRepository scheduleExceptionDateRepository,
+            ScheduleGenerationStateRepository scheduleGenerationStateRepository) {
+        this.scheduleExceptionDateRepository = scheduleExceptionDateRepository;
+        this.scheduleGenerationStateRepository = scheduleGenerationStateRepository;
+    }
+
+    /**
+     * Get the exception dates of a schedule.
+     *
+     * @param scheduleId the schedule.
+     * @return the exception dates, in date order.
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleExceptionDateDTO> findAllBySchedule(Long scheduleId) {
+        return scheduleExceptionDateRepository.findAllByScheduleIdOrderByExceptionDate(scheduleId).stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Add an exception date to a schedule.
+     *
+     * @param scheduleId the schedule.
+     * @param exceptionDateDTO the date and its description.
+     * @return the saved exception date.
+     */
+    public ScheduleExceptionDateDTO save(Long scheduleId, ScheduleExceptionDateDTO exceptionDateDTO) {
+        LOG.debug("Request to add exception date {} to schedule {}", exceptionDateDTO, scheduleId);
+        ScheduleExceptionDate exceptionDate = new ScheduleExceptionDate();
+        exceptionDate.setScheduleId(scheduleId);
+        exceptionDate.setExceptionDate(exceptionDateDTO.getExceptionDate());
+        exceptionDate.setDescription(exceptionDateDTO.getDescription());
+        exceptionDate = scheduleExceptionDateRepository.save(exceptionDate);
+        scheduleGenerationStateRepository.invalidate(scheduleId, Instant.now());
+        return toDto(exceptionDate);
+    }
+
+    /**
+     * Remove an exception date from a schedule.
+     *
+     * @param scheduleId the schedule.
+     * @param id the exception date.
+     * @return whether the schedule had it.
+     */
+    public boolean delete(Long scheduleId, Long id) {
+        LOG.debug("Request to remove exception date {} from schedule {}", id, scheduleId);
+        return scheduleExceptionDateRepository
+            .findById(id)
+            .filter(exceptionDate -> scheduleId.equals(exceptionDate.getScheduleId()))
+            .map(exceptionDate -> {
+                scheduleExceptionDateRepository.delete(exceptionDate);
+                scheduleGenerationStateRepository.invalidate(scheduleId, Instant.now());
+                return true;
+            })
+            .orElse(false);
+    }
+
+    private ScheduleExceptionDateDTO toDto(ScheduleExceptionDate exceptionDate) {
+        ScheduleExceptionDateDTO dto = new ScheduleExceptionDateDTO();
+        dto.setId(exceptionDate.getId());
+        dto.setScheduleId(exceptionDate.getScheduleId());
+        dto.setExceptionDate(exceptionDate.getExceptionDate());
+        dto.setDescription(exceptionDate.getDescription());
+        return dto;
+    }
+}
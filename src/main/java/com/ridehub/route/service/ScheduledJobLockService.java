@@ -0,0 +1,189 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.domain.ScheduledJobLock;
+import com.ridehub.route.repository.ScheduledJobLockRepository;
+import com.ridehub.route.service.dto.ScheduledJobLockDTO;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs scheduled jobs on one instance of the cluster at a time, using leases in
+ * {@code scheduled_job_lock}.
+ * <p>
+ * An instance runs a job only after taking its lease, renews the lease every third of its
+ * duration while the job runs and gives it back when the job ends. If the instance dies, the
+ * lease lapses and the next trigger on any instance can take it. Leases are compared with the
+ * instances' clocks, which must agree to well within the lease duration.
+ */
+@Service
+public class ScheduledJobLockService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduledJobLockService.class);
+
+    private final ScheduledJobLockRepository scheduledJobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties.JobLock properties;
+    private final String owner;
+    private final ScheduledExecutorService renewals;
+
+    public ScheduledJobLockService(
+            ScheduledJobLockRepository scheduledJobLockRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties) {
+        this.scheduledJobLockRepository = scheduledJobLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getJobLock();
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("job-lock-renewal-");
+        threadFactory.setDaemon(true);
+        this.renewals = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewals.shutdownNow();
+    }
+
+    /**
+     * Identifies this instance as a lease holder.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Run a job if no other instance is running it.
+     *
+     * @param job  the job name.
+     * @param task the job.
+     * @return whether this instance ran the job.
+     */
+    public boolean runExclusively(String job, Runnable task) {
+        return callExclusively(job, () -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Run a job if no other instance is running it.
+     *
+     * @param job  the job name.
+     * @param task the job.
+     * @return the result of the job, or empty if another instance holds its lease.
+     */
+    public <T> Optional<T> callExclusively(String job, Supplier<T> task) {
+        Duration lease = properties.getLease();
+        if (!acquire(job, lease)) {
+            LOG.info("Skipping job {}: its lease is held by another instance", job);
+            return Optional.empty();
+        }
+        long renewMs = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewals.scheduleAtFixedRate(() -> renew(job, lease), renewMs, renewMs, TimeUnit.MILLISECONDS);
+        String status = "FAILED";
+        try {
+            T result = task.get();
+            status = "SUCCEEDED";
+            return Optional.ofNullable(result);
+        } finally {
+            renewal.cancel(false);
+            release(job, status);
+        }
+    }
+
+    /**
+     * Lock the row of a job until the current transaction ends, creating the row if needed, so
+     * that transactions doing the same on any instance run one after the other. Taking or
+     * giving back the lease of the job waits for the lock too.
+     *
+     * @param job the job name.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockJob(String job) {
+        scheduledJobLockRepository.insertIfAbsent(job);
+        scheduledJobLockRepository.lockRow(job);
+    }
+
+    /**
+     * Get the lease holder of a job and the outcome of its last run.
+     *
+     * @param job the job name.
+     * @return the lease, or empty if the job never ran.
+     */
+    public Optional<ScheduledJobLockDTO> findStatus(String job) {
+        return transactionTemplate.execute(status -> scheduledJobLockRepository.findById(job).map(this::toDto));
+    }
+
+    private boolean acquire(String job, Duration lease) {
+        Integer acquired = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            scheduledJobLockRepository.insertIfAbsent(job);
+            return scheduledJobLockRepository.acquire(job, owner, now, now.plus(lease));
+        });
+        if (acquired != null && acquired > 0) {
+            LOG.debug("Acquired lease of job {} as {}", job, owner);
+            return true;
+        }
+        return false;
+    }
+
+    private void renew(String job, Duration lease) {
+        try {
+            Integer renewed = transactionTemplate.execute(status ->
+                scheduledJobLockRepository.renew(job, owner, Instant.now().plus(lease))
+            );
+            if (renewed == null || renewed == 0) {
+                LOG.warn("Lost the lease of job {}; another instance may run it concurrently", job);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Could not renew the lease of job {}: {}", job, e.getMessage());
+        }
+    }
+
+    private void release(String job, String outcome) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> scheduledJobLockRepository.release(job, owner, Instant.now(), outcome));
+        } catch (RuntimeException e) {
+            LOG.warn("Could not release the lease of job {}, it lapses on its own: {}", job, e.getMessage());
+        }
+    }
+
+    private ScheduledJobLockDTO toDto(ScheduledJobLock lock) {
+        ScheduledJobLockDTO dto = new ScheduledJobLockDTO();
+        dto.setName(lock.getName());
+        dto.setLockedBy(lock.getLockedBy());
+        dto.setLockedUntil(lock.getLockedUntil());
+        dto.setLastRunBy(lock.getLastRunBy());
+        dto.setLastStartedAt(lock.getLastStartedAt());
+        dto.setLastFinishedAt(lock.getLastFinishedAt());
+        dto.setLastStatus(lock.getLastStatus());
+        return dto;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
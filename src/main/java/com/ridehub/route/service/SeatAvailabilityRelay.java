@@ -0,0 +1,87 @@
+package com.ridehub.route.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ridehub.route.service.event.SeatLockChangedEvent;
+import com.ridehub.route.service.event.SeatLocksInvalidatedEvent;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fans committed seat lock changes out to the {@link SeatAvailabilityStream} of every instance
+ * over the Redis channel {@code seat-lock:availability}, so a seat map sees changes made through
+ * any instance. A change that cannot be published still reaches this instance's subscribers.
+ */
+@Service
+public class SeatAvailabilityRelay implements MessageListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeatAvailabilityRelay.class);
+
+    static final String CHANNEL = "seat-lock:availability";
+
+    private final SeatAvailabilityStream stream;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public SeatAvailabilityRelay(
+            SeatAvailabilityStream stream,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stream = stream;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatLockChanged(SeatLockChangedEvent event) {
+        relay(new Change(event, null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatLocksInvalidated(SeatLocksInvalidatedEvent event) {
+        relay(new Change(null, event));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(message.getBody(), Change.class));
+        } catch (IOException e) {
+            LOG.warn("Dropping unreadable seat availability change: {}", e.getMessage());
+        }
+    }
+
+    private void relay(Change change) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException | RuntimeException e) {
+            LOG.warn("Failed to relay seat availability change, delivering it to this instance only: {}", e.getMessage());
+            deliver(change);
+        }
+    }
+
+    private void deliver(Change change) {
+        if (change.changed() != null) {
+            stream.onSeatLockChanged(change.changed());
+        }
+        if (change.invalidated() != null) {
+            stream.onSeatLocksInvalidated(change.invalidated());
+        }
+    }
+
+    /**
+     * One relayed event; exactly one of the fields is set.
+     */
+    record Change(SeatLockChangedEvent changed, SeatLocksInvalidatedEvent invalidated) {}
+}
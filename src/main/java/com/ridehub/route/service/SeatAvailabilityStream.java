@@ -0,0 +1,254 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.service.dto.response.SeatAvailabilityUpdateDTO;
+import com.ridehub.route.service.dto.response.SeatStateDeltaDTO;
+import com.ridehub.route.service.event.SeatLockChangedEvent;
+import com.ridehub.route.service.event.SeatLocksInvalidatedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pushes seat state changes of a trip to the seat maps watching it.
+ * <p>
+ * Committed {@link SeatLockChangedEvent}s of every instance arrive through
+ * {@link SeatAvailabilityRelay} and are collected per trip, keeping only the latest
+ * state of each seat, and flushed to the trip's subscribers every {@code coalesce-ms}.
+ * Nothing is collected for trips without subscribers. Holds that simply run out are not
+ * pushed: HELD deltas carry their expiry and clients release the seat themselves.
+ * <p>
+ * Every subscription starts with a {@code resync} update, telling the client to load the
+ * seat map once; the same is sent when a trip's locks changed in a way that has no delta.
+ * <p>
+ * Sends run on {@code send-threads} dedicated threads, in order per subscriber, so a slow
+ * client never holds up the scheduler; a subscriber whose send does not finish within
+ * {@code send-timeout-ms} is dropped.
+ */
+@Service
+public class SeatAvailabilityStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeatAvailabilityStream.class);
+
+    /**
+     * Receiver of the updates of one trip; a listener that throws is unsubscribed.
+     */
+    public interface Listener {
+        void onUpdate(SeatAvailabilityUpdateDTO update) throws Exception;
+
+        void onHeartbeat() throws Exception;
+
+        /**
+         * Called once the listener was dropped for failing or timing out; the stream should be closed.
+         */
+        default void onDropped() {}
+    }
+
+    private final ApplicationProperties.SeatLock.Stream properties;
+
+    private final Executor sender;
+
+    private final Map<Long, Map<Listener, Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    public SeatAvailabilityStream(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this(applicationProperties, meterRegistry, Executors.newFixedThreadPool(
+                applicationProperties.getSeatLock().getStream().getSendThreads(), new CustomizableThreadFactory("seat-stream-")));
+    }
+
+    SeatAvailabilityStream(ApplicationProperties applicationProperties, MeterRegistry meterRegistry, Executor sender) {
+        this.properties = applicationProperties.getSeatLock().getStream();
+        this.sender = sender;
+        Gauge.builder("seat_lock.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open seat availability streams")
+                .register(meterRegistry);
+    }
+
+    public long getTimeoutMs() {
+        return properties.getTimeoutMs();
+    }
+
+    /**
+     * Start pushing updates of a trip to a listener. The initial resync is queued like any
+     * other send, so this does not wait for the client; a listener that fails it is dropped.
+     *
+     * @param tripId   the trip to watch.
+     * @param listener the receiver of the updates.
+     * @return false when the subscriber limit is reached.
+     */
+    public boolean subscribe(Long tripId, Listener listener) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            return false;
+        }
+        Subscriber subscriber = new Subscriber(tripId, listener);
+        subscribers.compute(tripId, (id, listeners) -> {
+            Map<Listener, Subscriber> merged = listeners == null ? new ConcurrentHashMap<>() : listeners;
+            if (merged.put(listener, subscriber) != null) {
+                subscriberCount.decrementAndGet();
+            }
+            return merged;
+        });
+        SeatAvailabilityUpdateDTO resync = new SeatAvailabilityUpdateDTO(tripId, true, List.of());
+        send(subscriber, l -> l.onUpdate(resync));
+        return true;
+    }
+
+    /**
+     * Stop pushing updates to a listener; calling it more than once is harmless.
+     */
+    public void unsubscribe(Long tripId, Listener listener) {
+        subscribers.computeIfPresent(tripId, (id, listeners) -> {
+            if (listeners.remove(listener) != null) {
+                subscriberCount.decrementAndGet();
+            }
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    public void onSeatLockChanged(SeatLockChangedEvent event) {
+        if (!subscribers.containsKey(event.tripId())) {
+            return;
+        }
+        String state = switch (event.status()) {
+            case HELD -> "HELD";
+            case COMMITTED -> "COMMITTED";
+            case EXPIRED -> "RELEASED";
+        };
+        pending.compute(event.tripId(), (id, update) -> {
+            PendingUpdate merged = update == null ? new PendingUpdate() : update;
+            for (String seatNo : event.seatNos()) {
+                merged.seats.put(seatNo, new SeatStateDeltaDTO(seatNo, state, "HELD".equals(state) ? event.expiresAt() : null));
+            }
+            return merged;
+        });
+    }
+
+    public void onSeatLocksInvalidated(SeatLocksInvalidatedEvent event) {
+        if (!subscribers.containsKey(event.tripId())) {
+            return;
+        }
+        pending.compute(event.tripId(), (id, update) -> {
+            PendingUpdate merged = update == null ? new PendingUpdate() : update;
+            merged.resync = true;
+            merged.seats.clear(); // the client reloads everything anyway
+            return merged;
+        });
+    }
+
+    /**
+     * Send the changes collected since the last flush, one update per trip.
+     */
+    @Scheduled(fixedDelayString = "${application.seat-lock.stream.coalesce-ms:250}")
+    public void flush() {
+        for (Long tripId : List.copyOf(pending.keySet())) {
+            PendingUpdate update = pending.remove(tripId);
+            Map<Listener, Subscriber> listeners = subscribers.get(tripId);
+            if (update == null || listeners == null) {
+                continue;
+            }
+            SeatAvailabilityUpdateDTO dto = new SeatAvailabilityUpdateDTO(tripId, update.resync, new ArrayList<>(update.seats.values()));
+            for (Subscriber subscriber : listeners.values()) {
+                send(subscriber, l -> l.onUpdate(dto));
+            }
+        }
+    }
+
+    /**
+     * Keep idle streams open through proxies and notice clients that went away.
+     */
+    @Scheduled(fixedRateString = "${application.seat-lock.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(listeners -> listeners.values().forEach(subscriber -> send(subscriber, Listener::onHeartbeat)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // Queue a send behind the subscriber's earlier ones; completes with false once the subscriber is dropped
+    private CompletableFuture<Boolean> send(Subscriber subscriber, Send send) {
+        synchronized (subscriber) {
+            CompletableFuture<Boolean> next = subscriber.tail
+                    .thenApplyAsync(alive -> alive && attempt(subscriber, send), sender)
+                    .orTimeout(properties.getSendTimeoutMs(), TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        drop(subscriber, e);
+                        return false;
+                    });
+            subscriber.tail = next;
+            return next;
+        }
+    }
+
+    private boolean attempt(Subscriber subscriber, Send send) {
+        try {
+            send.to(subscriber.listener);
+            return true;
+        } catch (Exception e) {
+            drop(subscriber, e);
+            return false;
+        }
+    }
+
+    private void drop(Subscriber subscriber, Throwable cause) {
+        LOG.debug("Dropping seat availability subscriber of trip {}: {}", subscriber.tripId, cause.toString());
+        unsubscribe(subscriber.tripId, subscriber.listener);
+        try {
+            subscriber.listener.onDropped();
+        } catch (RuntimeException e) {
+            LOG.debug("Failed to close seat availability subscriber of trip {}: {}", subscriber.tripId, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Send {
+        void to(Listener listener) throws Exception;
+    }
+
+    /**
+     * One listener of a trip and the tail of its queued sends; {@code tail} is guarded by the subscriber.
+     */
+    private static final class Subscriber {
+
+        final Long tripId;
+        final Listener listener;
+        CompletableFuture<Boolean> tail = CompletableFuture.completedFuture(true);
+
+        Subscriber(Long tripId, Listener listener) {
+            this.tripId = tripId;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Changes of one trip waiting for the next flush; only mutated inside {@code pending.compute}.
+     */
+    private static final class PendingUpdate {
+
+        final Map<String, SeatStateDeltaDTO> seats = new LinkedHashMap<>();
+        boolean resync;
+    }
+}
@@ -0,0 +1,198 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.broker.KafkaProducer;
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.repository.SeatLockRepository.HeldSeat;
+import com.ridehub.route.repository.SeatLockRepository.HeldSeatExpiry;
+import com.ridehub.route.repository.SeatLockRepository.SeatLockRef;
+import com.ridehub.route.service.dto.SeatHoldExpiredDTO;
+import com.ridehub.route.service.event.SeatLockChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes {@code seat.hold.expired} to Kafka about a second after a seat hold lapses,
+ * so booking services learn about released seats without polling.
+ * <p>
+ * Hold deadlines are kept in a {@link HierarchicalTimingWheel}, fed by committed HELD
+ * {@link SeatLockChangedEvent}s (holds, batch holds, reclaims) and cleared by COMMITTED /
+ * EXPIRED ones. On startup the wheel is rebuilt from the HELD rows of {@code seat_lock},
+ * including holds that lapsed up to {@code startup-catch-up} ago, so the holds of other
+ * instances are scheduled too.
+ * <p>
+ * Before publishing, seats the group has since re-held or committed (e.g. on another
+ * instance) are dropped, and each remaining row is claimed by setting its
+ * {@code expiry_notified_at} to its {@code expires_at}. Only the instance whose claim
+ * succeeds publishes, so a lapse is announced once however many wheels held it; a hold
+ * re-held later gets a new expiry and can be announced again.
+ * <p>
+ * The wheel ticks on its own thread, so its one-second cadence does not depend on the
+ * shared {@code @Scheduled} pool.
+ */
+@Service
+public class SeatHoldExpiryNotifier {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeatHoldExpiryNotifier.class);
+
+    public static final String EVENT_NAME = "seat.hold.expired";
+
+    private static final int BITS_PER_LEVEL = 6;
+    private static final int LEVELS = 4;
+
+    private final SeatLockRepository seatLockRepository;
+    private final KafkaProducer kafkaProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties.SeatLock.ExpiryNotifier properties;
+    private final Counter notifiedCounter;
+
+    private final HierarchicalTimingWheel<HoldKey> wheel;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    public SeatHoldExpiryNotifier(
+            SeatLockRepository seatLockRepository,
+            KafkaProducer kafkaProducer,
+            PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties,
+            MeterRegistry meterRegistry) {
+        this.seatLockRepository = seatLockRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getSeatLock().getExpiryNotifier();
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTickMs(), BITS_PER_LEVEL, LEVELS, System.currentTimeMillis());
+        this.notifiedCounter = Counter.builder("seat_lock.expiry.notified")
+                .description("Lapsed seat holds published as seat.hold.expired")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatLockChanged(SeatLockChangedEvent event) {
+        if (!properties.isEnabled() || event.lockGroupId() == null) {
+            return;
+        }
+        synchronized (wheel) {
+            for (String seatNo : event.seatNos()) {
+                HoldKey key = new HoldKey(event.tripId(), event.lockGroupId(), seatNo);
+                switch (event.status()) {
+                    case HELD -> wheel.schedule(key, event.expiresAt().toEpochMilli());
+                    case COMMITTED, EXPIRED -> wheel.cancel(key);
+                }
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("seat-hold-expiry-");
+        scheduler.initialize();
+        scheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(properties.getTickMs()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            List<HeldSeatExpiry> held = seatLockRepository.findHeldSeatsExpiringAfter(
+                    Instant.now().minus(properties.getStartupCatchUp()));
+            synchronized (wheel) {
+                for (HeldSeatExpiry seat : held) {
+                    if (seat.getLockGroupId() != null) {
+                        wheel.schedule(new HoldKey(seat.getTripId(), seat.getLockGroupId(), seat.getSeatNo()),
+                                seat.getExpiresAt().toEpochMilli());
+                    }
+                }
+            }
+            LOG.info("Seat hold expiry wheel rebuilt with {} holds", held.size());
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to rebuild seat hold expiry wheel: {}", e.getMessage());
+        }
+    }
+
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<HoldKey> due;
+        synchronized (wheel) {
+            due = wheel.advance(now.toEpochMilli());
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            publish(due, now);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to publish {} lapsed seat holds: {}", due.size(), e.getMessage());
+        }
+    }
+
+    private void publish(List<HoldKey> due, Instant now) {
+        Set<String> groups = due.stream().map(HoldKey::lockGroupId).collect(Collectors.toSet());
+        Set<HoldKey> stillActive = seatLockRepository.findActiveSeatsOfGroups(groups, now).stream()
+                .map(HoldKey::of)
+                .collect(Collectors.toSet());
+
+        Set<HoldKey> unclaimed = new HashSet<>(due);
+        unclaimed.removeAll(stillActive);
+
+        Map<Long, Map<String, List<String>>> lapsed = new LinkedHashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (SeatLockRef lock : seatLockRepository.findUnnotifiedLapsedSeatsOfGroups(groups, now)) {
+                HoldKey key = HoldKey.of(lock);
+                if (unclaimed.contains(key) && seatLockRepository.claimExpiryNotification(lock.getId(), now) == 1) {
+                    unclaimed.remove(key);
+                    lapsed.computeIfAbsent(key.tripId(), id -> new LinkedHashMap<>())
+                            .computeIfAbsent(key.lockGroupId(), g -> new ArrayList<>())
+                            .add(key.seatNo());
+                }
+            }
+        });
+        lapsed.forEach((tripId, byGroup) -> byGroup.forEach((group, seatNos) -> {
+            kafkaProducer.send(EVENT_NAME, new SeatHoldExpiredDTO(tripId, group, seatNos, now));
+            notifiedCounter.increment(seatNos.size());
+        }));
+    }
+
+    private record HoldKey(Long tripId, String lockGroupId, String seatNo) {
+        static HoldKey of(HeldSeat seat) {
+            return new HoldKey(seat.getTripId(), seat.getLockGroupId(), seat.getSeatNo());
+        }
+    }
+}
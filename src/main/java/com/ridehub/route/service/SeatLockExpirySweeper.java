@@ -0,0 +1,140 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.repository.SeatLockRepository.SeatLockRef;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background housekeeping for {@code seat_lock}.
+ * <p>
+ * Each run marks passed holds as EXPIRED, taking them off the held counts of
+ * {@code trip_occupancy}, and moves EXPIRED / COMMITTED locks of departed trips to
+ * {@code seat_lock_archive}; archiving leaves the counts alone. Work is done in bounded batches, one
+ * transaction per batch, so a run never holds row locks for long.
+ */
+@Service
+public class SeatLockExpirySweeper {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SeatLockExpirySweeper.class);
+
+    private final SeatLockRepository seatLockRepository;
+    private final TripOccupancyService tripOccupancyService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties.SeatLock.Sweeper properties;
+
+    private final Counter expiredCounter;
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+
+    public SeatLockExpirySweeper(
+            SeatLockRepository seatLockRepository,
+            TripOccupancyService tripOccupancyService,
+            PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties,
+            MeterRegistry meterRegistry) {
+        this.seatLockRepository = seatLockRepository;
+        this.tripOccupancyService = tripOccupancyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getSeatLock().getSweeper();
+        this.expiredCounter = Counter.builder("seat_lock.sweeper.expired")
+                .description("HELD seat locks moved to EXPIRED by the sweeper")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("seat_lock.sweeper.archived")
+                .description("Seat locks of departed trips moved to seat_lock_archive")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("seat_lock.sweeper.run")
+                .description("Duration of a seat lock sweeper run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.seat-lock.sweeper.interval-ms:60000}",
+            fixedDelayString = "${application.seat-lock.sweeper.interval-ms:60000}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        runTimer.record(() -> {
+            Instant now = Instant.now();
+            try {
+                int expired = expireStaleHolds(now);
+                int archived = archiveDepartedTrips(now);
+                if (expired > 0 || archived > 0) {
+                    LOG.info("Seat lock sweep: expired {} holds, archived {} locks", expired, archived);
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("Seat lock sweep failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Mark HELD locks whose hold has passed as EXPIRED.
+     *
+     * @param now the reference time.
+     * @return number of locks expired.
+     */
+    public int expireStaleHolds(Instant now) {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatches(); batch++) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<SeatLockRef> stale = seatLockRepository.findStaleHoldsForUpdate(now, properties.getBatchSize());
+                if (stale.isEmpty()) {
+                    return 0;
+                }
+                // the rows are locked, so every one of them is expired
+                int expired = seatLockRepository.expireHeldByIdIn(stale.stream().map(SeatLockRef::getId).toList(), now);
+                tripOccupancyService.adjust(stale, SeatLockRef::getTripId, -1, 0);
+                return expired;
+            });
+            int count = updated == null ? 0 : updated;
+            total += count;
+            expiredCounter.increment(count);
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Move EXPIRED and COMMITTED locks of trips that departed more than
+     * {@code archive-after} ago to {@code seat_lock_archive}.
+     *
+     * @param now the reference time.
+     * @return number of locks archived.
+     */
+    public int archiveDepartedTrips(Instant now) {
+        Instant departedBefore = now.minus(properties.getArchiveAfter());
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatches(); batch++) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = seatLockRepository.findArchivableIds(departedBefore, properties.getBatchSize());
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                seatLockRepository.copyToArchive(ids, now);
+                seatLockRepository.deleteByIdIn(ids);
+                return ids.size();
+            });
+            int count = moved == null ? 0 : moved;
+            total += count;
+            archivedCounter.increment(count);
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+}
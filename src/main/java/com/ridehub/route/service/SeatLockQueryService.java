@@ -5,11 +5,21 @@ import com.ridehub.route.domain.enumeration.LockStatus;
 import com.ridehub.route.repository.SeatLockRepository;
 import com.ridehub.route.service.criteria.SeatLockCriteria;
 import com.ridehub.route.service.dto.SeatLockDTO;
+import com.ridehub.route.service.dto.TripDTO;
 import com.ridehub.route.service.mapper.SeatLockMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.jpa.domain.Specification;
@@ -36,6 +46,9 @@ public class SeatLockQueryService extends QueryService<SeatLock> {
 
     private final SeatLockMapper seatLockMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public SeatLockQueryService(SeatLockRepository seatLockRepository, SeatLockMapper seatLockMapper) {
         this.seatLockRepository = seatLockRepository;
         this.seatLockMapper = seatLockMapper;
@@ -89,6 +102,7 @@ public class SeatLockQueryService extends QueryService<SeatLock> {
                     buildSpecification(criteria.getStatus(), SeatLock_.status),
                     buildRangeSpecification(criteria.getExpiresAt(), SeatLock_.expiresAt),
                     buildStringSpecification(criteria.getIdempotencyKey(), SeatLock_.idempotencyKey),
+                    buildStringSpecification(criteria.getLockGroupId(), SeatLock_.lockGroupId),
                     buildRangeSpecification(criteria.getBookingId(), SeatLock_.bookingId),
                     buildRangeSpecification(criteria.getCreatedAt(), SeatLock_.createdAt),
                     buildRangeSpecification(criteria.getUpdatedAt(), SeatLock_.updatedAt),
@@ -174,5 +188,162 @@ public class SeatLockQueryService extends QueryService<SeatLock> {
 
         return seatLockRepository.findAll(specification);
     }
-    
+
+    /**
+     * Find the unexpired HELD locks of a lock group.
+     * Served by the {@code (lock_group_id, status, expires_at)} index.
+     */
+    @Transactional(readOnly = true)
+    public List<SeatLock> findUnexpiredHeldByGroup(String lockGroupId, Instant now) {
+        LOG.debug("find unexpired held locks by group {} at {}", lockGroupId, now);
+        if (lockGroupId == null || lockGroupId.isBlank()) {
+            return List.of();
+        }
+        Specification<SeatLock> specification = (root, query, cb) -> cb.and(
+                cb.equal(root.get(SeatLock_.lockGroupId), lockGroupId),
+                cb.equal(root.get(SeatLock_.status), LockStatus.HELD),
+                cb.greaterThan(root.get(SeatLock_.expiresAt), now));
+        return seatLockRepository.findAll(specification);
+    }
+
+    /**
+     * Find the seat numbers of a trip that are currently taken by someone else, in a single query.
+     * A seat is taken when it has an unexpired, non-deleted HELD lock outside {@code lockGroupId}
+     * or any COMMITTED lock.
+     *
+     * @param tripId      the trip to check.
+     * @param seatNumbers the normalized seat numbers to check.
+     * @param now         the reference instant for hold expiry.
+     * @param lockGroupId the caller's lock group, whose own holds never conflict (nullable).
+     * @return the conflicting seat numbers, in query order.
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findConflictingSeatNos(Long tripId, Collection<String> seatNumbers, Instant now,
+            String lockGroupId) {
+        LOG.debug("find conflicting seats for trip {} and seats {} at {} excluding group {}", tripId, seatNumbers,
+                now, lockGroupId);
+        if (tripId == null || seatNumbers == null || seatNumbers.isEmpty()) {
+            return Set.of();
+        }
+
+        var cb = entityManager.getCriteriaBuilder();
+        var cq = cb.createQuery(String.class);
+        var lock = cq.from(SeatLock.class);
+
+        Predicate notDeleted = cb.or(cb.isFalse(lock.get(SeatLock_.isDeleted)), cb.isNull(lock.get(SeatLock_.isDeleted)));
+
+        Predicate activeHeld = cb.and(
+                cb.equal(lock.get(SeatLock_.status), LockStatus.HELD),
+                cb.greaterThan(lock.get(SeatLock_.expiresAt), now),
+                notDeleted);
+        if (lockGroupId != null) {
+            activeHeld = cb.and(activeHeld, cb.or(
+                    cb.isNull(lock.get(SeatLock_.lockGroupId)),
+                    cb.notEqual(lock.get(SeatLock_.lockGroupId), lockGroupId)));
+        }
+        Predicate committed = cb.equal(lock.get(SeatLock_.status), LockStatus.COMMITTED);
+
+        cq.select(lock.get(SeatLock_.seatNo)).distinct(true).where(
+                cb.equal(lock.get(SeatLock_.trip).get(Trip_.id), tripId),
+                lock.get(SeatLock_.seatNo).in(seatNumbers),
+                cb.or(activeHeld, committed));
+
+        return new LinkedHashSet<>(entityManager.createQuery(cq).getResultList());
+    }
+
+    /**
+     * Find the active seat locks of a trip: unexpired, non-deleted HELD locks and all COMMITTED locks.
+     */
+    @Transactional(readOnly = true)
+    public List<SeatLock> findActiveLocksByTrip(Long tripId, Instant now) {
+        LOG.debug("find active locks by trip {} at {}", tripId, now);
+        Specification<SeatLock> specification = (root, query, cb) -> cb.and(
+                cb.equal(root.get(SeatLock_.trip).get(Trip_.id), tripId),
+                cb.or(
+                        cb.and(
+                                cb.equal(root.get(SeatLock_.status), LockStatus.HELD),
+                                cb.greaterThan(root.get(SeatLock_.expiresAt), now),
+                                cb.or(cb.isFalse(root.get(SeatLock_.isDeleted)), cb.isNull(root.get(SeatLock_.isDeleted)))),
+                        cb.equal(root.get(SeatLock_.status), LockStatus.COMMITTED)));
+        return seatLockRepository.findAll(specification);
+    }
+
+    /**
+     * Find the active seat locks, unexpired HELD and COMMITTED, matching the given filters in a single query.
+     * Rows are projected straight into {@link SeatLockDTO}s (trip reduced to its id, as the mapper does),
+     * without loading entities.
+     *
+     * @param tripId      the trip to filter by (nullable).
+     * @param bookingId   the booking to filter by (nullable).
+     * @param lockGroupId the lock group to filter by (nullable).
+     * @param now         the reference instant for hold expiry.
+     * @return the active seat locks ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public List<SeatLockDTO> findActiveSeatLocks(Long tripId, Long bookingId, String lockGroupId, Instant now) {
+        LOG.debug("find active seat locks by trip {}, booking {}, group {} at {}", tripId, bookingId, lockGroupId, now);
+        var cb = entityManager.getCriteriaBuilder();
+        var cq = cb.createTupleQuery();
+        var lock = cq.from(SeatLock.class);
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.or(
+                cb.and(
+                        cb.equal(lock.get(SeatLock_.status), LockStatus.HELD),
+                        cb.greaterThan(lock.get(SeatLock_.expiresAt), now)),
+                cb.equal(lock.get(SeatLock_.status), LockStatus.COMMITTED)));
+        if (tripId != null) {
+            where.add(cb.equal(lock.get(SeatLock_.trip).get(Trip_.id), tripId));
+        }
+        if (bookingId != null) {
+            where.add(cb.equal(lock.get(SeatLock_.bookingId), bookingId));
+        }
+        if (lockGroupId != null && !lockGroupId.isBlank()) {
+            where.add(cb.equal(lock.get(SeatLock_.lockGroupId), lockGroupId));
+        }
+
+        cq.multiselect(
+                lock.get(SeatLock_.id).alias("id"),
+                lock.get(SeatLock_.seatNo).alias("seatNo"),
+                lock.get(SeatLock_.userId).alias("userId"),
+                lock.get(SeatLock_.status).alias("status"),
+                lock.get(SeatLock_.expiresAt).alias("expiresAt"),
+                lock.get(SeatLock_.idempotencyKey).alias("idempotencyKey"),
+                lock.get(SeatLock_.lockGroupId).alias("lockGroupId"),
+                lock.get(SeatLock_.bookingId).alias("bookingId"),
+                lock.get(SeatLock_.createdAt).alias("createdAt"),
+                lock.get(SeatLock_.updatedAt).alias("updatedAt"),
+                lock.get(SeatLock_.isDeleted).alias("isDeleted"),
+                lock.get(SeatLock_.deletedAt).alias("deletedAt"),
+                lock.get(SeatLock_.deletedBy).alias("deletedBy"),
+                lock.get(SeatLock_.trip).get(Trip_.id).alias("tripId"))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(lock.get(SeatLock_.id)));
+
+        return entityManager.createQuery(cq).getResultList().stream().map(SeatLockQueryService::toSeatLockDTO).toList();
+    }
+
+    private static SeatLockDTO toSeatLockDTO(Tuple row) {
+        SeatLockDTO dto = new SeatLockDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setSeatNo(row.get("seatNo", String.class));
+        dto.setUserId(row.get("userId", Long.class));
+        dto.setStatus(row.get("status", LockStatus.class));
+        dto.setExpiresAt(row.get("expiresAt", Instant.class));
+        dto.setIdempotencyKey(row.get("idempotencyKey", String.class));
+        dto.setLockGroupId(row.get("lockGroupId", String.class));
+        dto.setBookingId(row.get("bookingId", Long.class));
+        dto.setCreatedAt(row.get("createdAt", Instant.class));
+        dto.setUpdatedAt(row.get("updatedAt", Instant.class));
+        dto.setIsDeleted(row.get("isDeleted", Boolean.class));
+        dto.setDeletedAt(row.get("deletedAt", Instant.class));
+        dto.setDeletedBy(row.get("deletedBy", UUID.class));
+        Long tripId = row.get("tripId", Long.class);
+        if (tripId != null) {
+            TripDTO trip = new TripDTO();
+            trip.setId(tripId);
+            dto.setTrip(trip);
+        }
+        return dto;
+    }
 }
@@ -5,10 +5,13 @@ import com.ridehub.route.service.dto.request.SeatLockRequestDTO;
 import com.ridehub.route.service.dto.request.AttachBookingRequestDTO;
 import com.ridehub.route.service.dto.request.CancelGroupRequestDTO;
 import com.ridehub.route.service.dto.request.ConfirmGroupRequestDTO;
+import com.ridehub.route.service.dto.request.SeatBatchHoldRequestDTO;
 import com.ridehub.route.service.dto.request.SeatHoldRequestDTO;
 import com.ridehub.route.service.dto.request.SeatLockActionRequestDTO;
 import com.ridehub.route.service.dto.request.SeatValidateLockRequestDTO;
+import com.ridehub.route.service.dto.response.SeatBatchHoldResponseDTO;
 import com.ridehub.route.service.dto.response.SeatLockResponseDTO;
+import com.ridehub.route.service.dto.response.SeatReclaimResponseDTO;
 import com.ridehub.route.service.dto.response.SeatHoldResponseDTO;
 import com.ridehub.route.service.dto.response.SeatLockActionResponseDTO;
 import com.ridehub.route.service.dto.response.SeatValidateLockResponseDTO;
@@ -107,6 +110,15 @@ public interface SeatLockService {
 
     SeatHoldResponseDTO tryHold(SeatHoldRequestDTO req);
 
+    /**
+     * Hold seats on several trips under one lock group in a single transaction.
+     * Either every leg is held or none is.
+     *
+     * @param req the batch hold request containing the legs and lock group info.
+     * @return the batch hold response with one result per trip.
+     */
+    SeatBatchHoldResponseDTO tryHoldBatch(SeatBatchHoldRequestDTO req);
+
     SeatLockActionResponseDTO attachBooking(AttachBookingRequestDTO req);
 
     SeatLockActionResponseDTO cancelGroup(CancelGroupRequestDTO req);
@@ -115,13 +127,23 @@ public interface SeatLockService {
 
     List<SeatLockDTO> findActive(Long tripId, Long bookingId, String lockGroupId);
 
+    /**
+     * Get the state of a lock group's hold: {@code HELD} with its seats, or {@code PENDING} /
+     * {@code FAILED} while an engine that answers before the hold is durable is still saving it,
+     * or after it could not.
+     *
+     * @param lockGroupId the lock group.
+     * @return the hold state, or empty if the group holds nothing.
+     */
+    Optional<SeatHoldResponseDTO> findHoldStatus(String lockGroupId);
+
     /**
      * Reclaim expired seats for a booking.
-     * Finds seatlocks by booking and checks for expired seats with same seatNo and trip
-     * that are not held by other bookingId and not expired.
+     * Holds again the expired or lapsed locks on the booking's (trip, seat) pairs that no
+     * other booking has taken meanwhile.
      *
      * @param req the reclaim seats request containing booking details.
-     * @return the seat lock action response.
+     * @return the reclaim response listing reclaimed and lost seats per trip.
      */
-    SeatLockActionResponseDTO reclaimExpiredSeats(ConfirmGroupRequestDTO req);
+    SeatReclaimResponseDTO reclaimExpiredSeats(ConfirmGroupRequestDTO req);
 }
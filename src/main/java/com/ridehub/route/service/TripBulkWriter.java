@@ -0,0 +1,85 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.repository.TripRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes generated trips with one multi-row insert per {@code batch-size} trips, committing
+ * each chunk. The batch size is capped at {@link TripRepository#MAX_INSERT_ROWS}, the most one
+ * statement can bind. Trips that already exist for their route, slot and departure date are skipped,
+ * so overlapping runs do not duplicate trips; any other constraint violation fails the chunk. The
+ * ids of the inserted trips are read back by trip code and creation time, one query per chunk, and
+ * give the number of trips inserted.
+ * <p>
+ * Called inside a transaction, the chunks join it and commit with it instead.
+ */
+@Service
+public class TripBulkWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TripBulkWriter.class);
+
+    private final TripRepository tripRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties.AutoSchedule properties;
+
+    public TripBulkWriter(
+            TripRepository tripRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties) {
+        this.tripRepository = tripRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getAutoSchedule();
+        if (properties.getBatchSize() > TripRepository.MAX_INSERT_ROWS) {
+            LOG.warn(
+                "application.auto-schedule.batch-size {} exceeds the {} trips one insert can bind, using {}",
+                properties.getBatchSize(),
+                TripRepository.MAX_INSERT_ROWS,
+                TripRepository.MAX_INSERT_ROWS
+            );
+        }
+    }
+
+    /**
+     * Insert new trips, skipping existing ones; the trips stay transient, and those inserted get their id.
+     *
+     * @param trips the trips to insert.
+     * @return number of trips inserted, without the skipped ones, which keep a {@code null} id.
+     * @throws org.springframework.dao.DataAccessException if a chunk fails; earlier chunks stay committed.
+     */
+    public int write(List<Trip> trips) {
+        int batchSize = Math.min(Math.max(1, properties.getBatchSize()), TripRepository.MAX_INSERT_ROWS);
+        int total = 0;
+        for (int from = 0; from < trips.size(); from += batchSize) {
+            List<Trip> chunk = trips.subList(from, Math.min(from + batchSize, trips.size()));
+            Integer inserted = transactionTemplate.execute(status -> {
+                tripRepository.insertAll(chunk);
+                return readIds(chunk);
+            });
+            total += inserted == null ? 0 : inserted;
+        }
+        LOG.debug("Inserted {} trips in chunks of {}", total, batchSize);
+        return total;
+    }
+
+    // the rows skipped as duplicates have another trip code or creation time, so only inserted trips get an id
+    private int readIds(List<Trip> chunk) {
+        Map<Instant, List<Trip>> byCreatedAt = chunk.stream().collect(Collectors.groupingBy(Trip::getCreatedAt));
+        byCreatedAt.forEach((createdAt, trips) -> {
+            Map<String, Long> ids = tripRepository.findIdsByTripCodes(trips.stream().map(Trip::getTripCode).toList(), createdAt);
+            for (Trip trip : trips) {
+                trip.setId(ids.get(trip.getTripCode()));
+            }
+        });
+        return (int) chunk.stream().filter(trip -> trip.getId() != null).count();
+    }
+}
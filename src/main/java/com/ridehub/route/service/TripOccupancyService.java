@@ -0,0 +1,130 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.domain.TripOccupancy;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.repository.TripOccupancyRepository;
+import com.ridehub.route.service.dto.TripDTO;
+import com.ridehub.route.service.dto.TripOccupancyDTO;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains {@code trip_occupancy}: per trip, its seat capacity and the number of HELD and
+ * COMMITTED seat locks.
+ * <p>
+ * Every seat-lock transition adjusts the counts of its trips in its own transaction, so the
+ * counts move together with {@code seat_lock}. Holds that lapsed stay counted as held until
+ * the expiry sweeper marks them EXPIRED, which makes listings err towards fewer seats left.
+ * Changes without a known delta (plain CRUD, lost races) recount the trip instead.
+ * <p>
+ * A trip gets its row on its first transition; until then it is reported with no locks and
+ * the seat count of its vehicle. The capacity is taken when the row is written, so
+ * {@code TripService} recounts a trip whose vehicle it changes.
+ */
+@Service
+@Transactional
+public class TripOccupancyService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TripOccupancyService.class);
+
+    private final TripOccupancyRepository tripOccupancyRepository;
+    private final SeatLockRepository seatLockRepository;
+    private final SeatQueryService seatQueryService;
+
+    public TripOccupancyService(
+            TripOccupancyRepository tripOccupancyRepository,
+            SeatLockRepository seatLockRepository,
+            SeatQueryService seatQueryService) {
+        this.tripOccupancyRepository = tripOccupancyRepository;
+        this.seatLockRepository = seatLockRepository;
+        this.seatQueryService = seatQueryService;
+    }
+
+    /**
+     * Add to the counts of a trip.
+     *
+     * @param tripId    the trip.
+     * @param held      change of the HELD count.
+     * @param committed change of the COMMITTED count.
+     */
+    public void adjust(Long tripId, int held, int committed) {
+        if (tripId == null || (held == 0 && committed == 0)) {
+            return;
+        }
+        Instant now = Instant.now();
+        if (tripOccupancyRepository.increment(tripId, held, committed, now) == 0) {
+            tripOccupancyRepository.insertOrIncrement(tripId, held, committed, now);
+        }
+    }
+
+    /**
+     * Add to the counts of the trips of the given locks, once per lock; trips are updated in
+     * ascending id order like the trip row locks of the seat-lock service.
+     *
+     * @param locks            the locks that changed status.
+     * @param trip             the trip of a lock.
+     * @param heldPerLock      change of the HELD count per lock.
+     * @param committedPerLock change of the COMMITTED count per lock.
+     */
+    public <T> void adjust(Collection<T> locks, Function<T, Long> trip, int heldPerLock, int committedPerLock) {
+        locks.stream()
+                .collect(Collectors.groupingBy(trip, TreeMap::new, Collectors.counting()))
+                .forEach((tripId, count) -> adjust(tripId, heldPerLock * count.intValue(), committedPerLock * count.intValue()));
+    }
+
+    /**
+     * Recount capacity and lock counts of the given trips.
+     */
+    public void recompute(Collection<Long> tripIds) {
+        List<Long> ids = tripIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        LOG.debug("Recounting occupancy of trips {}", ids);
+        seatLockRepository.flush();
+        tripOccupancyRepository.recompute(ids, Instant.now());
+    }
+
+    /**
+     * Set the occupancy of the given trips, with one lookup for the whole list plus one seat
+     * count for the vehicles of trips that have no row yet.
+     */
+    @Transactional(readOnly = true)
+    public void fillOccupancy(List<TripDTO> trips) {
+        if (trips.isEmpty()) {
+            return;
+        }
+        Map<Long, TripOccupancy> rows = tripOccupancyRepository
+                .findAllById(trips.stream().map(TripDTO::getId).filter(Objects::nonNull).collect(Collectors.toCollection(TreeSet::new)))
+                .stream()
+                .collect(Collectors.toMap(TripOccupancy::getTripId, Function.identity()));
+
+        List<Long> vehicleIds = trips.stream()
+                .filter(t -> !rows.containsKey(t.getId()) && t.getVehicle() != null)
+                .map(t -> t.getVehicle().getId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, Long> seatsByVehicle = seatQueryService.countSeatsByVehicleIds(vehicleIds);
+
+        for (TripDTO trip : trips) {
+            TripOccupancy row = rows.get(trip.getId());
+            if (row != null) {
+                trip.setOccupancy(new TripOccupancyDTO(row.getCapacity(), row.getHeld(), row.getCommitted()));
+            } else if (trip.getVehicle() != null) {
+                trip.setOccupancy(new TripOccupancyDTO(seatsByVehicle.getOrDefault(trip.getVehicle().getId(), 0L).intValue(), 0, 0));
+            }
+        }
+    }
+}
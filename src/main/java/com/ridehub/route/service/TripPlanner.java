@@ -0,0 +1,177 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.domain.Schedule;
+import com.ridehub.route.domain.ScheduleTimeSlot;
+import com.ridehub.route.repository.TripRepositoryWithBulkOperations.TripSlotDate;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Works out the trips schedules generate, without side effects: which slot departs on which
+ * day, at what instants, and how that compares with the trips that exist.
+ * <p>
+ * Trip generation and its dry run both plan with it, so a preview shows what a run would write.
+ */
+public final class TripPlanner {
+
+    private static final DateTimeFormatter TRIP_CODE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private TripPlanner() {}
+
+    /**
+     * A trip a schedule generates for one of its slots on one day.
+     */
+    public record PlannedTrip(
+        String tripCode,
+        Long scheduleId,
+        String scheduleCode,
+        Long routeId,
+        Long slotId,
+        String slotCode,
+        LocalDate departureDate,
+        Instant departureTime,
+        Instant arrivalTime
+    ) {
+        public TripSlotDate key() {
+            return new TripSlotDate(routeId, slotId, departureDate);
+        }
+    }
+
+    /**
+     * Planned trips split into those to create and those that exist, and the existing trips
+     * of the same routes and days that no schedule plans any more.
+     */
+    public record TripPlan(List<PlannedTrip> toCreate, List<PlannedTrip> existing, List<TripSlotDate> orphaned) {}
+
+    /**
+     * The trips of a schedule between two days, on its days of week, without exceptions.
+     *
+     * @param schedule the schedule, with its route and time slots.
+     * @param from     the first day.
+     * @param through  the last day.
+     * @param zone     the zone of the slot times.
+     * @return the planned trips.
+     */
+    public static List<PlannedTrip> tripsOf(Schedule schedule, LocalDate from, LocalDate through, ZoneId zone) {
+        return tripsOf(schedule, ScheduleCalendar.of(schedule.getDaysOfWeek()), from, through, zone);
+    }
+
+    /**
+     * The trips of a schedule between two days, within the schedule's own dates, by day and
+     * departure time. A schedule without a route plans no trips.
+     *
+     * @param schedule the schedule, with its route and time slots.
+     * @param calendar the days the schedule runs.
+     * @param from     the first day.
+     * @param through  the last day.
+     * @param zone     the zone of the slot times.
+     * @return the planned trips.
+     */
+    public static List<PlannedTrip> tripsOf(Schedule schedule, ScheduleCalendar calendar, LocalDate from, LocalDate through,
+        ZoneId zone) {
+        if (schedule.getRoute() == null || schedule.getTimeSlots() == null || schedule.getTimeSlots().isEmpty()) {
+            return List.of();
+        }
+        LocalDate first = schedule.getStartDate() != null && schedule.getStartDate().isAfter(from) ? schedule.getStartDate() : from;
+        LocalDate last = schedule.getEndDate() != null && schedule.getEndDate().isBefore(through) ? schedule.getEndDate() : through;
+        List<LocalDate> dates = calendar.dates(first, last);
+        if (dates.isEmpty()) {
+            return List.of();
+        }
+        List<ScheduleTimeSlot> slots = schedule
+            .getTimeSlots()
+            .stream()
+            .sorted(Comparator.comparing(ScheduleTimeSlot::getDepartureTime, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+
+        List<PlannedTrip> trips = new ArrayList<>(dates.size() * slots.size());
+        for (LocalDate date : dates) {
+            for (ScheduleTimeSlot slot : slots) {
+                trips.add(plannedTrip(schedule, slot, date, zone));
+            }
+        }
+        return trips;
+    }
+
+    /**
+     * Plan the trips of schedules from a day through each schedule's last day, and compare
+     * them with the existing trips.
+     *
+     * @param schedules  the schedules, with their routes and time slots.
+     * @param calendarOf the days each schedule runs.
+     * @param from       the first day.
+     * @param throughOf  the last day of each schedule.
+     * @param existing   the existing trips of the schedules' routes from the first day on; trips
+     *                   after the last day of their route are ignored.
+     * @param zone       the zone of the slot times.
+     * @return the plan.
+     */
+    public static TripPlan plan(
+        Collection<Schedule> schedules,
+        Function<Schedule, ScheduleCalendar> calendarOf,
+        LocalDate from,
+        Function<Schedule, LocalDate> throughOf,
+        Set<TripSlotDate> existing,
+        ZoneId zone
+    ) {
+        List<PlannedTrip> toCreate = new ArrayList<>();
+        List<PlannedTrip> planned = new ArrayList<>();
+        Set<TripSlotDate> plannedKeys = new HashSet<>();
+        Map<Long, LocalDate> lastDayOfRoute = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            LocalDate through = throughOf.apply(schedule);
+            if (schedule.getRoute() != null) {
+                lastDayOfRoute.merge(schedule.getRoute().getId(), through, (a, b) -> a.isAfter(b) ? a : b);
+            }
+            for (PlannedTrip trip : tripsOf(schedule, calendarOf.apply(schedule), from, through, zone)) {
+                if (plannedKeys.add(trip.key())) {
+                    (existing.contains(trip.key()) ? planned : toCreate).add(trip);
+                }
+            }
+        }
+
+        List<TripSlotDate> orphaned = new ArrayList<>();
+        for (TripSlotDate key : existing) {
+            LocalDate lastDay = lastDayOfRoute.get(key.routeId());
+            if (lastDay != null && !key.departureDate().isBefore(from) && !key.departureDate().isAfter(lastDay) && !plannedKeys.contains(key)) {
+                orphaned.add(key);
+            }
+        }
+        orphaned.sort(
+            Comparator.comparing(TripSlotDate::departureDate).thenComparing(TripSlotDate::routeId).thenComparing(TripSlotDate::slotId)
+        );
+        return new TripPlan(toCreate, planned, orphaned);
+    }
+
+    private static PlannedTrip plannedTrip(Schedule schedule, ScheduleTimeSlot slot, LocalDate date, ZoneId zone) {
+        LocalDateTime departure = LocalDateTime.of(date, slot.getDepartureTime());
+        LocalDateTime arrival = LocalDateTime.of(date, slot.getArrivalTime());
+        // Overnight trips arrive the next day
+        if (arrival.isBefore(departure)) {
+            arrival = arrival.plusDays(1);
+        }
+        return new PlannedTrip(
+            String.format("TRP-%s-%s-%s", schedule.getScheduleCode(), date.format(TRIP_CODE_DATE), slot.getId()),
+            schedule.getId(),
+            schedule.getScheduleCode(),
+            schedule.getRoute().getId(),
+            slot.getId(),
+            slot.getSlotCode(),
+            date,
+            departure.atZone(zone).toInstant(),
+            arrival.atZone(zone).toInstant()
+        );
+    }
+}
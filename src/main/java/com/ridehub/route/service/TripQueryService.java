@@ -55,11 +55,12 @@ public class TripQueryService extends QueryService<Trip> {
         private final RouteRepository routeRepository;
         private final RouteMapper routeMapper;
         private final TripPricingService tripPricingService;
+        private final TripOccupancyService tripOccupancyService;
 
         public TripQueryService(TripRepository tripRepository, TripMapper tripMapper,
                         VehicleQueryService vehicleQueryService, SeatLockQueryService seatLockQueryService,
                         RouteRepository routeRepository, RouteMapper routeMapper,
-                        TripPricingService tripPricingService) {
+                        TripPricingService tripPricingService, TripOccupancyService tripOccupancyService) {
                 this.tripRepository = tripRepository;
                 this.tripMapper = tripMapper;
                 this.vehicleQueryService = vehicleQueryService;
@@ -67,11 +68,12 @@ public class TripQueryService extends QueryService<Trip> {
                 this.routeRepository = routeRepository;
                 this.routeMapper = routeMapper;
                 this.tripPricingService = tripPricingService;
+                this.tripOccupancyService = tripOccupancyService;
         }
 
         /**
          * Return a {@link Page} of {@link TripDTO} which matches the criteria from the
-         * database.
+         * database, with the seat occupancy of each trip.
          * 
          * @param criteria The object which holds all the filters, which the entities
          *                 should match.
@@ -82,7 +84,9 @@ public class TripQueryService extends QueryService<Trip> {
         public Page<TripDTO> findByCriteria(TripCriteria criteria, Pageable page) {
                 LOG.debug("find by criteria : {}, page: {}", criteria, page);
                 final Specification<Trip> specification = createSpecification(criteria);
-                return tripRepository.findAll(specification, page).map(tripMapper::toDto);
+                Page<TripDTO> tripPage = tripRepository.findAll(specification, page).map(tripMapper::toDto);
+                tripOccupancyService.fillOccupancy(tripPage.getContent());
+                return tripPage;
         }
 
         /**
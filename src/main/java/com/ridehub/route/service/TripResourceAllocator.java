@@ -0,0 +1,149 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.domain.Attendant;
+import com.ridehub.route.domain.Driver;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.Vehicle;
+import com.ridehub.route.domain.enumeration.VehicleStatus;
+import com.ridehub.route.repository.AttendantRepository;
+import com.ridehub.route.repository.DriverRepository;
+import com.ridehub.route.repository.TripRepository;
+import com.ridehub.route.repository.TripRepositoryWithBulkOperations.ResourceBooking;
+import com.ridehub.route.repository.VehicleRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Assigns vehicles, drivers and attendants to generated trips.
+ * <p>
+ * An {@link Allocation} is opened per generation run: it loads the assignable resources and
+ * the bookings of the trips around the run's days in one query each, then books each trip
+ * on the first vehicle, driver and attendant that are free from its departure until its
+ * arrival plus its slot's {@code bufferMinutes} turnaround. A trip gets no attendant if none
+ * is free; it is not assigned if no vehicle or no driver is.
+ * <p>
+ * Resources are pooled across the whole fleet: "first" is the lowest id among every active
+ * vehicle and assignable driver and attendant, whatever the trip's route or operator.
+ */
+@Service
+public class TripResourceAllocator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TripResourceAllocator.class);
+
+    private final TripRepository tripRepository;
+    private final VehicleRepository vehicleRepository;
+    private final DriverRepository driverRepository;
+    private final AttendantRepository attendantRepository;
+
+    public TripResourceAllocator(
+            TripRepository tripRepository,
+            VehicleRepository vehicleRepository,
+            DriverRepository driverRepository,
+            AttendantRepository attendantRepository) {
+        this.tripRepository = tripRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.driverRepository = driverRepository;
+        this.attendantRepository = attendantRepository;
+    }
+
+    /**
+     * Load the resources and their bookings between two instants.
+     *
+     * @param from the earliest departure to assign.
+     * @param to   the latest arrival to assign, turnaround included.
+     * @return an allocation for trips in that range.
+     */
+    @Transactional(readOnly = true)
+    public Allocation open(Instant from, Instant to) {
+        Allocation allocation = new Allocation(
+            vehicleRepository.findIdsByStatus(VehicleStatus.ACTIVE),
+            driverRepository.findAssignableIds(),
+            attendantRepository.findAssignableIds()
+        );
+        List<ResourceBooking> bookings = tripRepository.findResourceBookings(from, to);
+        for (ResourceBooking booking : bookings) {
+            allocation.load(booking);
+        }
+        LOG.debug("Opened resource allocation from {} to {}: {} vehicles, {} drivers, {} attendants, {} booked trips",
+            from, to, allocation.vehicleIds.size(), allocation.driverIds.size(), allocation.attendantIds.size(), bookings.size());
+        return allocation;
+    }
+
+    /**
+     * Resource bookings of one generation run; safe to share between its partition threads.
+     * Bookings of trips that are rolled back stay booked until the next run.
+     */
+    public static final class Allocation {
+
+        private final List<Long> vehicleIds;
+        private final List<Long> driverIds;
+        private final List<Long> attendantIds;
+        private final ResourceTimeline<Long> vehicles = new ResourceTimeline<>();
+        private final ResourceTimeline<Long> drivers = new ResourceTimeline<>();
+        private final ResourceTimeline<Long> attendants = new ResourceTimeline<>();
+
+        Allocation(List<Long> vehicleIds, List<Long> driverIds, List<Long> attendantIds) {
+            this.vehicleIds = vehicleIds;
+            this.driverIds = driverIds;
+            this.attendantIds = attendantIds;
+        }
+
+        /**
+         * Assign the first free vehicle, driver and attendant to a trip and book them.
+         *
+         * @param trip          the trip, with its departure and arrival times.
+         * @param bufferMinutes the turnaround after arrival before the resources are free again.
+         * @return whether a vehicle and a driver were assigned; if not, the trip is left as it was.
+         */
+        public synchronized boolean assign(Trip trip, int bufferMinutes) {
+            long start = trip.getDepartureTime().toEpochMilli();
+            long end = busyUntil(trip.getArrivalTime(), bufferMinutes);
+            if (end <= start) {
+                return false;
+            }
+            Long vehicleId = vehicles.firstFree(vehicleIds, start, end);
+            Long driverId = vehicleId == null ? null : drivers.firstFree(driverIds, start, end);
+            if (driverId == null) {
+                return false;
+            }
+            vehicles.book(vehicleId, start, end);
+            drivers.book(driverId, start, end);
+            trip.setVehicle(new Vehicle().id(vehicleId));
+            trip.setDriver(new Driver().id(driverId));
+            Long attendantId = attendants.firstFree(attendantIds, start, end);
+            if (attendantId != null) {
+                attendants.book(attendantId, start, end);
+                trip.setAttendant(new Attendant().id(attendantId));
+            } else {
+                trip.setAttendant(null);
+            }
+            return true;
+        }
+
+        private synchronized void load(ResourceBooking booking) {
+            long start = booking.departureTime().toEpochMilli();
+            long end = busyUntil(booking.arrivalTime(), booking.bufferMinutes());
+            if (end <= start) {
+                return;
+            }
+            if (booking.vehicleId() != null) {
+                vehicles.book(booking.vehicleId(), start, end);
+            }
+            if (booking.driverId() != null) {
+                drivers.book(booking.driverId(), start, end);
+            }
+            if (booking.attendantId() != null) {
+                attendants.book(booking.attendantId(), start, end);
+            }
+        }
+
+        private static long busyUntil(Instant arrival, int bufferMinutes) {
+            return arrival.plus(Duration.ofMinutes(Math.max(0, bufferMinutes))).toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.config.ApplicationProperties;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Striped in-JVM locks keyed by trip ID, held until the current transaction completes.
+ * <p>
+ * Holds on the same trip queue here instead of on the trip row lock in MySQL, while
+ * trips on different stripes proceed in parallel. The row lock
+ * ({@code TripRepository#findByIdForUpdate}) still serializes across instances.
+ */
+@Service
+public class TripSeatLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMs;
+
+    public TripSeatLocks(ApplicationProperties applicationProperties) {
+        int count = Math.max(1, applicationProperties.getSeatLock().getLockStripes());
+        this.stripes = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMs = applicationProperties.getSeatLock().getLockTimeoutMs();
+    }
+
+    /**
+     * Lock the stripes of the given trips until the current transaction completes.
+     * Stripes are taken in index order, so concurrent multi-trip callers cannot deadlock.
+     *
+     * @param tripIds the trips to lock.
+     * @return {@code false} if a stripe could not be taken within the timeout; nothing stays locked then.
+     * @throws IllegalStateException if no transaction synchronization is active.
+     */
+    public boolean lockForTransaction(Collection<Long> tripIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Trip seat locks require an active transaction");
+        }
+        List<ReentrantLock> acquired = new ArrayList<>();
+        try {
+            for (int index : tripIds.stream().mapToInt(this::stripeOf).distinct().sorted().toArray()) {
+                if (!stripes[index].tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    acquired.forEach(ReentrantLock::unlock);
+                    return false;
+                }
+                acquired.add(stripes[index]);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired.forEach(ReentrantLock::unlock);
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    acquired.forEach(ReentrantLock::unlock);
+                }
+            }
+        );
+        return true;
+    }
+
+    public boolean lockForTransaction(Long tripId) {
+        return lockForTransaction(List.of(tripId));
+    }
+
+    private int stripeOf(Long tripId) {
+        return Math.floorMod(Long.hashCode(tripId) * 0x9E3779B9, stripes.length);
+    }
+}
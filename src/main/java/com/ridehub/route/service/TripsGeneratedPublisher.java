@@ -0,0 +1,72 @@
+package com.ridehub.route.service;
+
+import com.ridehub.route.broker.KafkaProducer;
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.service.dto.TripsGeneratedDTO;
+import com.ridehub.route.service.dto.TripsGeneratedDTO.GeneratedTrip;
+import com.ridehub.route.service.event.TripsGeneratedEvent;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Publishes {@code trips.generated} to Kafka once generated trips are committed, so booking and
+ * search services update their views without polling the trips.
+ * <p>
+ * Each route partition of a generation run yields one event per {@code event-batch-size}
+ * trips, in departure order, carrying the date range the trips depart in. Trips of a
+ * rolled-back partition are never published. Delivery is at most once: events queued when
+ * the instance stops are lost, and consumers catch up from the trips.
+ */
+@Service
+public class TripsGeneratedPublisher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TripsGeneratedPublisher.class);
+
+    public static final String EVENT_NAME = "trips.generated";
+
+    private final KafkaProducer kafkaProducer;
+    private final ApplicationProperties.AutoSchedule properties;
+
+    public TripsGeneratedPublisher(KafkaProducer kafkaProducer, ApplicationProperties applicationProperties) {
+        this.kafkaProducer = kafkaProducer;
+        this.properties = applicationProperties.getAutoSchedule();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTripsGenerated(TripsGeneratedEvent event) {
+        if (event.trips().isEmpty()) {
+            return;
+        }
+        try {
+            publish(event);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to publish {} generated trips of route {}: {}", event.trips().size(), event.routeId(), e.getMessage());
+        }
+    }
+
+    private void publish(TripsGeneratedEvent event) {
+        List<GeneratedTrip> trips = event.trips().stream().sorted(Comparator.comparing(GeneratedTrip::departureTime)).toList();
+        int batchSize = Math.max(1, properties.getEventBatchSize());
+        Instant now = Instant.now();
+        for (int from = 0; from < trips.size(); from += batchSize) {
+            List<GeneratedTrip> batch = trips.subList(from, Math.min(from + batchSize, trips.size()));
+            kafkaProducer.send(
+                EVENT_NAME,
+                new TripsGeneratedDTO(
+                    event.routeId(),
+                    batch.get(0).departureDate(),
+                    batch.get(batch.size() - 1).departureDate(),
+                    now,
+                    List.copyOf(batch)
+                )
+            );
+        }
+        LOG.debug("Published {} generated trips of route {} in batches of {}", trips.size(), event.routeId(), batchSize);
+    }
+}
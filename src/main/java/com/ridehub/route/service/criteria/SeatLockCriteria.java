@@ -52,6 +52,8 @@ public class SeatLockCriteria implements Serializable, Criteria {
 
     private StringFilter idempotencyKey;
 
+    private StringFilter lockGroupId;
+
     private LongFilter bookingId;
 
     private InstantFilter createdAt;
@@ -77,6 +79,7 @@ public class SeatLockCriteria implements Serializable, Criteria {
         this.status = other.optionalStatus().map(LockStatusFilter::copy).orElse(null);
         this.expiresAt = other.optionalExpiresAt().map(InstantFilter::copy).orElse(null);
         this.idempotencyKey = other.optionalIdempotencyKey().map(StringFilter::copy).orElse(null);
+        this.lockGroupId = other.optionalLockGroupId().map(StringFilter::copy).orElse(null);
         this.bookingId = other.optionalBookingId().map(LongFilter::copy).orElse(null);
         this.createdAt = other.optionalCreatedAt().map(InstantFilter::copy).orElse(null);
         this.updatedAt = other.optionalUpdatedAt().map(InstantFilter::copy).orElse(null);
@@ -206,6 +209,25 @@ public class SeatLockCriteria implements Serializable, Criteria {
         this.idempotencyKey = idempotencyKey;
     }
 
+    public StringFilter getLockGroupId() {
+        return lockGroupId;
+    }
+
+    public Optional<StringFilter> optionalLockGroupId() {
+        return Optional.ofNullable(lockGroupId);
+    }
+
+    public StringFilter lockGroupId() {
+        if (lockGroupId == null) {
+            setLockGroupId(new StringFilter());
+        }
+        return lockGroupId;
+    }
+
+    public void setLockGroupId(StringFilter lockGroupId) {
+        this.lockGroupId = lockGroupId;
+    }
+
     public LongFilter getBookingId() {
         return bookingId;
     }
@@ -374,6 +396,7 @@ public class SeatLockCriteria implements Serializable, Criteria {
             Objects.equals(status, that.status) &&
             Objects.equals(expiresAt, that.expiresAt) &&
             Objects.equals(idempotencyKey, that.idempotencyKey) &&
+            Objects.equals(lockGroupId, that.lockGroupId) &&
             Objects.equals(bookingId, that.bookingId) &&
             Objects.equals(createdAt, that.createdAt) &&
             Objects.equals(updatedAt, that.updatedAt) &&
@@ -394,6 +417,7 @@ public class SeatLockCriteria implements Serializable, Criteria {
             status,
             expiresAt,
             idempotencyKey,
+            lockGroupId,
             bookingId,
             createdAt,
             updatedAt,
@@ -415,6 +439,7 @@ public class SeatLockCriteria implements Serializable, Criteria {
             optionalStatus().map(f -> "status=" + f + ", ").orElse("") +
             optionalExpiresAt().map(f -> "expiresAt=" + f + ", ").orElse("") +
             optionalIdempotencyKey().map(f -> "idempotencyKey=" + f + ", ").orElse("") +
+            optionalLockGroupId().map(f -> "lockGroupId=" + f + ", ").orElse("") +
             optionalBookingId().map(f -> "bookingId=" + f + ", ").orElse("") +
             optionalCreatedAt().map(f -> "createdAt=" + f + ", ").orElse("") +
             optionalUpdatedAt().map(f -> "updatedAt=" + f + ", ").orElse("") +
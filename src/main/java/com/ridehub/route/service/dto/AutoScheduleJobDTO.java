@@ -0,0 +1,150 @@
+package com.ridehub.route.service.dto;
+
+import com.ridehub.route.domain.enumeration.AutoScheduleJobStatus;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO for the {@link com.ridehub.route.domain.AutoScheduleJob} entity, with the estimated
+ * completion time of a running job.
+ */
+public class AutoScheduleJobDTO implements Serializable {
+
+    private Long id;
+
+    private AutoScheduleJobStatus status;
+
+    private String instance;
+
+    private Integer schedulesTotal;
+
+    private Integer schedulesDone;
+
+    private Integer tripsCreated;
+
+    private Integer errors;
+
+    private String lastError;
+
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private Instant estimatedCompletion;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AutoScheduleJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AutoScheduleJobStatus status) {
+        this.status = status;
+    }
+
+    public String getInstance() {
+        return instance;
+    }
+
+    public void setInstance(String instance) {
+        this.instance = instance;
+    }
+
+    public Integer getSchedulesTotal() {
+        return schedulesTotal;
+    }
+
+    public void setSchedulesTotal(Integer schedulesTotal) {
+        this.schedulesTotal = schedulesTotal;
+    }
+
+    public Integer getSchedulesDone() {
+        return schedulesDone;
+    }
+
+    public void setSchedulesDone(Integer schedulesDone) {
+        this.schedulesDone = schedulesDone;
+    }
+
+    public Integer getTripsCreated() {
+        return tripsCreated;
+    }
+
+    public void setTripsCreated(Integer tripsCreated) {
+        this.tripsCreated = tripsCreated;
+    }
+
+    public Integer getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Integer errors) {
+        this.errors = errors;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Instant getEstimatedCompletion() {
+        return estimatedCompletion;
+    }
+
+    public void setEstimatedCompletion(Instant estimatedCompletion) {
+        this.estimatedCompletion = estimatedCompletion;
+    }
+
+    @Override
+    public String toString() {
+        return "AutoScheduleJobDTO{" +
+            "id=" + id +
+            ", status='" + status + "'" +
+            ", instance='" + instance + "'" +
+            ", schedulesTotal=" + schedulesTotal +
+            ", schedulesDone=" + schedulesDone +
+            ", tripsCreated=" + tripsCreated +
+            ", errors=" + errors +
+            ", lastError='" + lastError + "'" +
+            ", createdAt='" + createdAt + "'" +
+            ", startedAt='" + startedAt + "'" +
+            ", finishedAt='" + finishedAt + "'" +
+            ", estimatedCompletion='" + estimatedCompletion + "'" +
+            "}";
+    }
+}
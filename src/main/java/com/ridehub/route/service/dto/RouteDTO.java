@@ -24,6 +24,10 @@ public class RouteDTO implements Serializable {
     @NotNull
     private BigDecimal baseFare;
 
+    @Min(value = 1)
+    @Max(value = 366)
+    private Integer horizonDays;
+
     @NotNull
     private Instant createdAt;
 
@@ -73,6 +77,14 @@ public class RouteDTO implements Serializable {
         this.baseFare = baseFare;
     }
 
+    public Integer getHorizonDays() {
+        return horizonDays;
+    }
+
+    public void setHorizonDays(Integer horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -158,6 +170,7 @@ public class RouteDTO implements Serializable {
             ", routeCode='" + getRouteCode() + "'" +
             ", distanceKm=" + getDistanceKm() +
             ", baseFare=" + getBaseFare() +
+            ", horizonDays=" + getHorizonDays() +
             ", createdAt='" + getCreatedAt() + "'" +
             ", updatedAt='" + getUpdatedAt() + "'" +
             ", isDeleted='" + getIsDeleted() + "'" +
@@ -0,0 +1,64 @@
+package com.ridehub.route.service.dto;
+
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A DTO for the {@link com.ridehub.route.domain.ScheduleExceptionDate} entity.
+ */
+public class ScheduleExceptionDateDTO implements Serializable {
+
+    private Long id;
+
+    private Long scheduleId;
+
+    @NotNull
+    private LocalDate exceptionDate;
+
+    @Size(max = 255)
+    private String description;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+
+    public void setScheduleId(Long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+
+    public LocalDate getExceptionDate() {
+        return exceptionDate;
+    }
+
+    public void setExceptionDate(LocalDate exceptionDate) {
+        this.exceptionDate = exceptionDate;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ScheduleExceptionDateDTO{" +
+            "id=" + id +
+            ", scheduleId=" + scheduleId +
+            ", exceptionDate='" + exceptionDate + "'" +
+            ", description='" + description + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,93 @@
+package com.ridehub.route.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Current lease holder of a scheduled job and the outcome of its last run.
+ */
+public class ScheduledJobLockDTO implements Serializable {
+
+    private String name;
+
+    private String lockedBy;
+
+    private Instant lockedUntil;
+
+    private String lastRunBy;
+
+    private Instant lastStartedAt;
+
+    private Instant lastFinishedAt;
+
+    private String lastStatus;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public String getLastRunBy() {
+        return lastRunBy;
+    }
+
+    public void setLastRunBy(String lastRunBy) {
+        this.lastRunBy = lastRunBy;
+    }
+
+    public Instant getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public void setLastStartedAt(Instant lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public Instant getLastFinishedAt() {
+        return lastFinishedAt;
+    }
+
+    public void setLastFinishedAt(Instant lastFinishedAt) {
+        this.lastFinishedAt = lastFinishedAt;
+    }
+
+    public String getLastStatus() {
+        return lastStatus;
+    }
+
+    public void setLastStatus(String lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledJobLockDTO{" +
+            "name='" + name + "'" +
+            ", lockedBy='" + lockedBy + "'" +
+            ", lockedUntil='" + lockedUntil + "'" +
+            ", lastRunBy='" + lastRunBy + "'" +
+            ", lastStartedAt='" + lastStartedAt + "'" +
+            ", lastFinishedAt='" + lastFinishedAt + "'" +
+            ", lastStatus='" + lastStatus + "'" +
+            "}";
+    }
+}
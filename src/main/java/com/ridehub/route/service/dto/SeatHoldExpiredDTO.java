@@ -0,0 +1,70 @@
+package com.ridehub.route.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Payload of the {@code seat.hold.expired} event: seats of a lock group whose hold lapsed.
+ */
+public class SeatHoldExpiredDTO implements Serializable {
+
+    private Long tripId;
+
+    private String lockGroupId;
+
+    private List<String> seatNos;
+
+    private Instant expiredAt;
+
+    public SeatHoldExpiredDTO() {}
+
+    public SeatHoldExpiredDTO(Long tripId, String lockGroupId, List<String> seatNos, Instant expiredAt) {
+        this.tripId = tripId;
+        this.lockGroupId = lockGroupId;
+        this.seatNos = seatNos;
+        this.expiredAt = expiredAt;
+    }
+
+    public Long getTripId() {
+        return tripId;
+    }
+
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    public String getLockGroupId() {
+        return lockGroupId;
+    }
+
+    public void setLockGroupId(String lockGroupId) {
+        this.lockGroupId = lockGroupId;
+    }
+
+    public List<String> getSeatNos() {
+        return seatNos;
+    }
+
+    public void setSeatNos(List<String> seatNos) {
+        this.seatNos = seatNos;
+    }
+
+    public Instant getExpiredAt() {
+        return expiredAt;
+    }
+
+    public void setExpiredAt(Instant expiredAt) {
+        this.expiredAt = expiredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHoldExpiredDTO{" +
+            "tripId=" + tripId +
+            ", lockGroupId='" + lockGroupId + "'" +
+            ", seatNos=" + seatNos +
+            ", expiredAt=" + expiredAt +
+            "}";
+    }
+}
@@ -30,6 +30,9 @@ public class SeatLockDTO implements Serializable {
     @Size(max = 80)
     private String idempotencyKey;
 
+    @Size(max = 64)
+    private String lockGroupId;
+
     private Long bookingId;
 
     @NotNull
@@ -94,6 +97,14 @@ public class SeatLockDTO implements Serializable {
         this.idempotencyKey = idempotencyKey;
     }
 
+    public String getLockGroupId() {
+        return lockGroupId;
+    }
+
+    public void setLockGroupId(String lockGroupId) {
+        this.lockGroupId = lockGroupId;
+    }
+
     public Long getBookingId() {
         return bookingId;
     }
@@ -181,6 +192,7 @@ public class SeatLockDTO implements Serializable {
             ", status='" + getStatus() + "'" +
             ", expiresAt='" + getExpiresAt() + "'" +
             ", idempotencyKey='" + getIdempotencyKey() + "'" +
+            ", lockGroupId='" + getLockGroupId() + "'" +
             ", bookingId=" + getBookingId() +
             ", createdAt='" + getCreatedAt() + "'" +
             ", updatedAt='" + getUpdatedAt() + "'" +
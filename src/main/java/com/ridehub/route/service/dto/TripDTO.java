@@ -52,6 +52,8 @@ public class TripDTO implements Serializable {
 
     private AttendantDTO attendant;
 
+    private TripOccupancyDTO occupancy;
+
     public Long getId() {
         return id;
     }
@@ -172,6 +174,14 @@ public class TripDTO implements Serializable {
         this.attendant = attendant;
     }
 
+    public TripOccupancyDTO getOccupancy() {
+        return occupancy;
+    }
+
+    public void setOccupancy(TripOccupancyDTO occupancy) {
+        this.occupancy = occupancy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -212,6 +222,7 @@ public class TripDTO implements Serializable {
             ", slot=" + getSlot() +
             ", driver=" + getDriver() +
             ", attendant=" + getAttendant() +
+            ", occupancy=" + getOccupancy() +
             "}";
     }
 }
@@ -0,0 +1,68 @@
+package com.ridehub.route.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * Seat availability of a trip: its capacity, seats held or sold, and seats left.
+ */
+public class TripOccupancyDTO implements Serializable {
+
+    private Integer capacity;
+
+    private Integer held;
+
+    private Integer committed;
+
+    private Integer available;
+
+    public TripOccupancyDTO() {}
+
+    public TripOccupancyDTO(int capacity, int held, int committed) {
+        this.capacity = capacity;
+        this.held = held;
+        this.committed = committed;
+        this.available = Math.max(0, capacity - held - committed);
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getHeld() {
+        return held;
+    }
+
+    public void setHeld(Integer held) {
+        this.held = held;
+    }
+
+    public Integer getCommitted() {
+        return committed;
+    }
+
+    public void setCommitted(Integer committed) {
+        this.committed = committed;
+    }
+
+    public Integer getAvailable() {
+        return available;
+    }
+
+    public void setAvailable(Integer available) {
+        this.available = available;
+    }
+
+    @Override
+    public String toString() {
+        return "TripOccupancyDTO{" +
+            "capacity=" + capacity +
+            ", held=" + held +
+            ", committed=" + committed +
+            ", available=" + available +
+            "}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.ridehub.route.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Payload of the {@code trips.generated} event: trips of a route that trip generation created,
+ * departing between two dates.
+ */
+public class TripsGeneratedDTO implements Serializable {
+
+    private Long routeId;
+
+    private LocalDate fromDate;
+
+    private LocalDate toDate;
+
+    private Instant generatedAt;
+
+    private List<GeneratedTrip> trips;
+
+    public TripsGeneratedDTO() {}
+
+    public TripsGeneratedDTO(Long routeId, LocalDate fromDate, LocalDate toDate, Instant generatedAt, List<GeneratedTrip> trips) {
+        this.routeId = routeId;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.generatedAt = generatedAt;
+        this.trips = trips;
+    }
+
+    public Long getRouteId() {
+        return routeId;
+    }
+
+    public void setRouteId(Long routeId) {
+        this.routeId = routeId;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public Instant getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(Instant generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public List<GeneratedTrip> getTrips() {
+        return trips;
+    }
+
+    public void setTrips(List<GeneratedTrip> trips) {
+        this.trips = trips;
+    }
+
+    @Override
+    public String toString() {
+        return "TripsGeneratedDTO{" +
+            "routeId=" + getRouteId() +
+            ", fromDate='" + getFromDate() + "'" +
+            ", toDate='" + getToDate() + "'" +
+            ", generatedAt='" + getGeneratedAt() + "'" +
+            ", trips=" + (getTrips() == null ? 0 : getTrips().size()) +
+            "}";
+    }
+
+    /**
+     * A created trip: its id, slot and times.
+     */
+    public record GeneratedTrip(Long id, Long slotId, LocalDate departureDate, Instant departureTime, Instant arrivalTime)
+        implements Serializable {}
+}
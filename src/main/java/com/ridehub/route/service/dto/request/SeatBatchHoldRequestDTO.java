@@ -0,0 +1,79 @@
+package com.ridehub.route.service.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Request DTO for holding seats on several trips (e.g. round-trip or connecting legs)
+ * under one lock group, all or nothing.
+ */
+public class SeatBatchHoldRequestDTO implements Serializable {
+
+    @NotEmpty
+    @Valid
+    private List<SeatHoldLegDTO> legs;
+
+    @NotBlank
+    private String lockGroupId;
+
+    @NotBlank
+    private String idemKey;
+
+    private Integer holdTtlSec;  // default 180..300
+
+    private Long userId;
+
+    public List<SeatHoldLegDTO> getLegs() {
+        return legs;
+    }
+
+    public void setLegs(List<SeatHoldLegDTO> legs) {
+        this.legs = legs;
+    }
+
+    public String getLockGroupId() {
+        return lockGroupId;
+    }
+
+    public void setLockGroupId(String lockGroupId) {
+        this.lockGroupId = lockGroupId;
+    }
+
+    public String getIdemKey() {
+        return idemKey;
+    }
+
+    public void setIdemKey(String idemKey) {
+        this.idemKey = idemKey;
+    }
+
+    public Integer getHoldTtlSec() {
+        return holdTtlSec;
+    }
+
+    public void setHoldTtlSec(Integer holdTtlSec) {
+        this.holdTtlSec = holdTtlSec;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatBatchHoldRequestDTO{" +
+            "legs=" + legs +
+            ", lockGroupId='" + lockGroupId + '\'' +
+            ", idemKey='" + idemKey + '\'' +
+            ", holdTtlSec=" + holdTtlSec +
+            ", userId=" + userId +
+            '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.ridehub.route.service.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * One leg (trip and seats) of a batch seat hold.
+ */
+public class SeatHoldLegDTO implements Serializable {
+
+    @NotNull
+    private Long tripId;
+
+    @NotEmpty
+    private List<@NotBlank String> seatNumbers;
+
+    public SeatHoldLegDTO() {}
+
+    public SeatHoldLegDTO(Long tripId, List<String> seatNumbers) {
+        this.tripId = tripId;
+        this.seatNumbers = seatNumbers;
+    }
+
+    public Long getTripId() {
+        return tripId;
+    }
+
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    public List<String> getSeatNumbers() {
+        return seatNumbers;
+    }
+
+    public void setSeatNumbers(List<String> seatNumbers) {
+        this.seatNumbers = seatNumbers;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHoldLegDTO{" +
+            "tripId=" + tripId +
+            ", seatNumbers=" + seatNumbers +
+            '}';
+    }
+}
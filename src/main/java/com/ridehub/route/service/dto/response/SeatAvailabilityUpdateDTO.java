@@ -0,0 +1,55 @@
+package com.ridehub.route.service.dto.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Coalesced seat state changes of one trip, pushed on the seat availability stream.
+ */
+public class SeatAvailabilityUpdateDTO implements Serializable {
+
+    private Long tripId;
+    private boolean resync;                // true: deltas may have been missed, reload the seat map
+    private List<SeatStateDeltaDTO> seats;
+
+    public SeatAvailabilityUpdateDTO() {}
+
+    public SeatAvailabilityUpdateDTO(Long tripId, boolean resync, List<SeatStateDeltaDTO> seats) {
+        this.tripId = tripId;
+        this.resync = resync;
+        this.seats = seats;
+    }
+
+    public Long getTripId() {
+        return tripId;
+    }
+
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    public boolean isResync() {
+        return resync;
+    }
+
+    public void setResync(boolean resync) {
+        this.resync = resync;
+    }
+
+    public List<SeatStateDeltaDTO> getSeats() {
+        return seats;
+    }
+
+    public void setSeats(List<SeatStateDeltaDTO> seats) {
+        this.seats = seats;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatAvailabilityUpdateDTO{" +
+            "tripId=" + tripId +
+            ", resync=" + resync +
+            ", seats=" + seats +
+            '}';
+    }
+}
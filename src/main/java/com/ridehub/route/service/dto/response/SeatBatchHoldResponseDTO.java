@@ -0,0 +1,67 @@
+package com.ridehub.route.service.dto.response;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for batch seat hold operations.
+ */
+public class SeatBatchHoldResponseDTO implements Serializable {
+
+    private String status;                 // "HELD" (all legs) | "REJECTED" (no leg held)
+    private String message;
+    private Instant expiresAt;
+    private List<SeatHoldLegResultDTO> legs;
+
+    public SeatBatchHoldResponseDTO() {}
+
+    public SeatBatchHoldResponseDTO(String status, String message, Instant expiresAt, List<SeatHoldLegResultDTO> legs) {
+        this.status = status;
+        this.message = message;
+        this.expiresAt = expiresAt;
+        this.legs = legs;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public List<SeatHoldLegResultDTO> getLegs() {
+        return legs;
+    }
+
+    public void setLegs(List<SeatHoldLegResultDTO> legs) {
+        this.legs = legs;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatBatchHoldResponseDTO{" +
+            "status='" + status + '\'' +
+            ", message='" + message + '\'' +
+            ", expiresAt=" + expiresAt +
+            ", legs=" + legs +
+            '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.ridehub.route.service.dto.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Result of one trip of a batch seat hold or of a seat reclaim.
+ */
+public class SeatHoldLegResultDTO implements Serializable {
+
+    private Long tripId;
+    private String status;                 // "HELD" | "REJECTED" | "AVAILABLE" (not held, another leg failed) | "NOT_FOUND" | "RECLAIMED" | "LOST" | "UNCHANGED"
+    private List<String> heldSeats;
+    private List<String> unavailableSeats;
+
+    public SeatHoldLegResultDTO() {}
+
+    public SeatHoldLegResultDTO(Long tripId, String status, List<String> heldSeats, List<String> unavailableSeats) {
+        this.tripId = tripId;
+        this.status = status;
+        this.heldSeats = heldSeats;
+        this.unavailableSeats = unavailableSeats;
+    }
+
+    public Long getTripId() {
+        return tripId;
+    }
+
+    public void setTripId(Long tripId) {
+        this.tripId = tripId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<String> getHeldSeats() {
+        return heldSeats;
+    }
+
+    public void setHeldSeats(List<String> heldSeats) {
+        this.heldSeats = heldSeats;
+    }
+
+    public List<String> getUnavailableSeats() {
+        return unavailableSeats;
+    }
+
+    public void setUnavailableSeats(List<String> unavailableSeats) {
+        this.unavailableSeats = unavailableSeats;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHoldLegResultDTO{" +
+            "tripId=" + tripId +
+            ", status='" + status + '\'' +
+            ", heldSeats=" + heldSeats +
+            ", unavailableSeats=" + unavailableSeats +
+            '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.ridehub.route.service.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for reclaiming the expired seats of a booking.
+ */
+public class SeatReclaimResponseDTO extends SeatLockActionResponseDTO {
+
+    private Instant expiresAt;
+    private List<SeatHoldLegResultDTO> trips;   // per trip: heldSeats = reclaimed, unavailableSeats = lost to another booking
+
+    public SeatReclaimResponseDTO() {
+    }
+
+    public SeatReclaimResponseDTO(String status, String message, Instant expiresAt, List<SeatHoldLegResultDTO> trips) {
+        super(status, message);
+        this.expiresAt = expiresAt;
+        this.trips = trips;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public List<SeatHoldLegResultDTO> getTrips() {
+        return trips;
+    }
+
+    public void setTrips(List<SeatHoldLegResultDTO> trips) {
+        this.trips = trips;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatReclaimResponseDTO{" +
+            "status='" + getStatus() + '\'' +
+            ", message='" + getMessage() + '\'' +
+            ", expiresAt=" + expiresAt +
+            ", trips=" + trips +
+            '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.ridehub.route.service.dto.response;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Latest state of one seat, pushed to seat-map subscribers.
+ */
+public class SeatStateDeltaDTO implements Serializable {
+
+    private String seatNo;
+    private String state;                  // "HELD" | "RELEASED" | "COMMITTED"
+    private Instant expiresAt;             // hold expiry for HELD; the seat is free again afterwards
+
+    public SeatStateDeltaDTO() {}
+
+    public SeatStateDeltaDTO(String seatNo, String state, Instant expiresAt) {
+        this.seatNo = seatNo;
+        this.state = state;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSeatNo() {
+        return seatNo;
+    }
+
+    public void setSeatNo(String seatNo) {
+        this.seatNo = seatNo;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatStateDeltaDTO{" +
+            "seatNo='" + seatNo + '\'' +
+            ", state='" + state + '\'' +
+            ", expiresAt=" + expiresAt +
+            '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.ridehub.route.service.event;
+
+import com.ridehub.route.domain.enumeration.LockStatus;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Published when seat locks of a trip move to a new status.
+ * Released holds are reported as {@link LockStatus#EXPIRED}.
+ *
+ * @param tripId      the trip the seats belong to.
+ * @param lockGroupId the lock group of the affected locks (nullable).
+ * @param seatNos     the affected seat numbers.
+ * @param status      the status the locks moved to.
+ * @param expiresAt   the hold expiry for {@link LockStatus#HELD}, otherwise the transition time.
+ */
+public record SeatLockChangedEvent(Long tripId, String lockGroupId, List<String> seatNos, LockStatus status, Instant expiresAt) {}
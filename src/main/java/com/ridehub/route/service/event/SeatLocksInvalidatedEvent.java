@@ -0,0 +1,10 @@
+package com.ridehub.route.service.event;
+
+/**
+ * Published when seat locks of a trip were changed in a way that cannot be described
+ * as a status transition (e.g. plain CRUD updates or deletes).
+ * Listeners should drop any derived state kept for the trip.
+ *
+ * @param tripId the trip whose seat locks changed.
+ */
+public record SeatLocksInvalidatedEvent(Long tripId) {}
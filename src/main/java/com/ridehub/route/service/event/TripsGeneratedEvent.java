@@ -0,0 +1,12 @@
+package com.ridehub.route.service.event;
+
+import com.ridehub.route.service.dto.TripsGeneratedDTO.GeneratedTrip;
+import java.util.List;
+
+/**
+ * Published when trip generation created trips of a route, in the transaction that inserted them.
+ *
+ * @param routeId the route of the trips.
+ * @param trips   the created trips.
+ */
+public record TripsGeneratedEvent(Long routeId, List<GeneratedTrip> trips) {}
@@ -0,0 +1,4 @@
+/**
+ * Application events published by services, consumed after the surrounding transaction commits.
+ */
+package com.ridehub.route.service.event;
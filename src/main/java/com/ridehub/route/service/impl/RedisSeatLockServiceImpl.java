@@ -0,0 +1,731 @@
+package com.ridehub.route.service.impl;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.repository.TripRepository;
+import com.ridehub.route.service.SeatLockQueryService;
+import com.ridehub.route.service.SeatLockService;
+import com.ridehub.route.service.TripOccupancyService;
+import com.ridehub.route.service.dto.SeatLockDTO;
+import com.ridehub.route.service.dto.request.*;
+import com.ridehub.route.service.dto.response.SeatBatchHoldResponseDTO;
+import com.ridehub.route.service.dto.response.SeatHoldLegResultDTO;
+import com.ridehub.route.service.dto.response.SeatHoldResponseDTO;
+import com.ridehub.route.service.dto.response.SeatLockActionResponseDTO;
+import com.ridehub.route.service.dto.response.SeatReclaimResponseDTO;
+import com.ridehub.route.service.dto.response.SeatLockResponseDTO;
+import com.ridehub.route.service.dto.response.SeatValidateLockResponseDTO;
+import com.ridehub.route.service.event.SeatLockChangedEvent;
+import com.ridehub.route.service.event.SeatLocksInvalidatedEvent;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link SeatLockService} that takes seat holds in Redis instead of MySQL.
+ * Enabled with {@code application.seat-lock.engine=redis}.
+ * <p>
+ * Each trip has one hash {@code seat-lock:trip:<tripId>} mapping seat number to
+ * {@code <state>|<group>|<expiresAtMs>}: {@code P} held with its durable write pending,
+ * {@code H} held, {@code C} committed. Every hold (single, batch, legacy try-lock and
+ * reclaim) is claimed by one Lua script that checks every requested seat, then writes them
+ * all, so Redis decides which group gets a seat. The hash is seeded from {@code seat_lock}
+ * the first time a trip is touched and expires after the trip has departed.
+ * <p>
+ * Durable {@code seat_lock} rows are written asynchronously on {@code taskExecutor}, upserted
+ * by idempotency key without the trip stripes or trip row lock the JPA engine takes; writes
+ * that hit a lock wait or deadlock are retried. A write that finds a seat taken in
+ * {@code seat_lock} by a row Redis never saw saves nothing, releases the group's claims and
+ * records {@code FAILED} in {@code seat-lock:hold:<group>}, which {@link #findHoldStatus} reports. Every other operation
+ * is delegated to {@link SeatLockServiceImpl}; its status changes are mirrored back into Redis
+ * from {@link SeatLockChangedEvent}s without overwriting another group's hold. Group operations
+ * wait for the group's pending durable write first.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "application.seat-lock", name = "engine", havingValue = "redis")
+public class RedisSeatLockServiceImpl implements SeatLockService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisSeatLockServiceImpl.class);
+
+    private static final String KEY_PREFIX = "seat-lock:trip:";
+    private static final String STATUS_PREFIX = "seat-lock:hold:";
+    private static final String PENDING = "PENDING|";
+    private static final String FAILED = "FAILED|";
+    private static final Duration RETAIN_AFTER_DEPARTURE = Duration.ofDays(1);
+    private static final long PENDING_POLL_MS = 25L;
+    private static final int PERSIST_ATTEMPTS = 3;
+    private static final long PERSIST_RETRY_MS = 50L;
+
+    // KEYS[1] trip hash; ARGV: nowMs, expiresAtMs, group, keyTtlMs, mode (ALL, ANY or CHECK), seats...
+    // -> {'SEED'} | {'HELD' | 'REJECTED', ownEarliestExpiryMs, freshCount, fresh..., taken...}
+    // ALL writes the fresh seats only if none is taken, ANY writes them regardless, CHECK never writes
+    private static final DefaultRedisScript<List> HOLD_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('HEXISTS', KEYS[1], '__seeded') == 0 then return {'SEED'} end
+            local now, mode = tonumber(ARGV[1]), ARGV[5]
+            local taken, fresh = {}, {}
+            local ownExpiry = 0
+            for i = 6, #ARGV do
+              local v = redis.call('HGET', KEYS[1], ARGV[i])
+              local state, group, exp
+              if v then state, group, exp = string.match(v, '^(%a)|(.*)|(%d+)$') end
+              if state == 'C' then
+                table.insert(taken, ARGV[i])
+              elseif state and tonumber(exp) > now then
+                if group ~= ARGV[3] then
+                  table.insert(taken, ARGV[i])
+                elseif ownExpiry == 0 or tonumber(exp) < ownExpiry then
+                  ownExpiry = tonumber(exp)
+                end
+              else
+                table.insert(fresh, ARGV[i])
+              end
+            end
+            local status = 'HELD'
+            if #taken > 0 and mode ~= 'ANY' then status = 'REJECTED' end
+            if status == 'HELD' and mode ~= 'CHECK' and #fresh > 0 then
+              for _, seat in ipairs(fresh) do
+                redis.call('HSET', KEYS[1], seat, 'P|' .. ARGV[3] .. '|' .. ARGV[2])
+              end
+              if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[4]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[4])
+              end
+            end
+            local result = {status, tostring(ownExpiry), tostring(#fresh)}
+            for _, seat in ipairs(fresh) do table.insert(result, seat) end
+            for _, seat in ipairs(taken) do table.insert(result, seat) end
+            return result
+            """,
+            List.class);
+
+    // KEYS[1] trip hash; ARGV: keyTtlMs, seat1, value1, seat2, value2...
+    // Pending claims that survived an invalidation are kept unless seat_lock has the same group's row
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('HEXISTS', KEYS[1], '__seeded') == 1 then return 0 end
+            for i = 2, #ARGV, 2 do
+              local v = redis.call('HGET', KEYS[1], ARGV[i])
+              if not v or (string.sub(v, 1, 1) == 'P'
+                  and string.match(v, '^P|(.*)|%d+$') == string.match(ARGV[i + 1], '^%a|(.*)|%d+$')) then
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+              end
+            end
+            redis.call('HSET', KEYS[1], '__seeded', '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """,
+            Long.class);
+
+    // KEYS[1] trip hash; ARGV: state (H, C or X to release), group, expiresAtMs, nowMs, seats...
+    // -> seats left alone because another group holds or has committed them
+    private static final DefaultRedisScript<List> APPLY_SCRIPT = new DefaultRedisScript<>(
+            """
+            local seeded = redis.call('HEXISTS', KEYS[1], '__seeded') == 1
+            local conflicts = {}
+            for i = 5, #ARGV do
+              local v = redis.call('HGET', KEYS[1], ARGV[i])
+              local state, group, exp
+              if v then state, group, exp = string.match(v, '^(%a)|(.*)|(%d+)$') end
+              if ARGV[1] == 'X' then
+                if (state == 'H' and (ARGV[2] == '' or group == ARGV[2])) or (state == 'P' and group == ARGV[2]) then
+                  redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+              elseif seeded then
+                if ARGV[1] == 'C' or not state
+                    or (state ~= 'C' and (group == ARGV[2] or tonumber(exp) <= tonumber(ARGV[4]))) then
+                  redis.call('HSET', KEYS[1], ARGV[i], ARGV[1] .. '|' .. ARGV[2] .. '|' .. ARGV[3])
+                else
+                  table.insert(conflicts, ARGV[i])
+                end
+              end
+            end
+            return conflicts
+            """,
+            List.class);
+
+    // KEYS[1] trip hash; ARGV: nowMs. Drops every field but unexpired pending claims, so the next hold reseeds
+    private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            """
+            local now = tonumber(ARGV[1])
+            local fields = redis.call('HGETALL', KEYS[1])
+            for i = 1, #fields, 2 do
+              local state, exp = string.match(fields[i + 1], '^(%a)|.*|(%d+)$')
+              if state ~= 'P' or tonumber(exp) <= now then
+                redis.call('HDEL', KEYS[1], fields[i])
+              end
+            end
+            return 1
+            """,
+            Long.class);
+
+    // KEYS[1] hold status; ARGV: the PENDING token this write set
+    private static final DefaultRedisScript<Long> CLEAR_STATUS_SCRIPT = new DefaultRedisScript<>(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """,
+            Long.class);
+
+    private final SeatLockServiceImpl delegate;
+    private final SeatLockRepository seatLockRepository;
+    private final TripRepository tripRepository;
+    private final SeatLockQueryService queryService;
+    private final TripOccupancyService tripOccupancyService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationProperties applicationProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+
+    private final Map<String, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
+
+    public RedisSeatLockServiceImpl(
+            SeatLockServiceImpl delegate,
+            SeatLockRepository seatLockRepository,
+            TripRepository tripRepository,
+            SeatLockQueryService queryService,
+            TripOccupancyService tripOccupancyService,
+            RedisTemplate<String, String> redisTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ApplicationProperties applicationProperties,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.delegate = delegate;
+        this.seatLockRepository = seatLockRepository;
+        this.tripRepository = tripRepository;
+        this.queryService = queryService;
+        this.tripOccupancyService = tripOccupancyService;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.applicationProperties = applicationProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+    }
+
+    private static String normSeat(String s) { return s == null ? null : s.trim().toUpperCase(); }
+
+    private static String tripKey(Long tripId) { return KEY_PREFIX + tripId; }
+
+    private static String statusKey(String group) { return STATUS_PREFIX + group; }
+
+    private static String entry(String state, String group, Instant at) {
+        return state + "|" + (group == null ? "" : group) + "|" + (at == null ? 0L : at.toEpochMilli());
+    }
+
+    private static Instant holdExpiry(Integer holdTtlSec, Instant now) {
+        return now.plusSeconds((holdTtlSec == null || holdTtlSec < 30) ? 180 : holdTtlSec);
+    }
+
+    // ===== try-hold (Redis) =====
+    @Override
+    public SeatHoldResponseDTO tryHold(SeatHoldRequestDTO req) {
+        String group = req.getLockGroupId();
+        if (group == null || group.isBlank()) {
+            return new SeatHoldResponseDTO("BAD_REQUEST", "Provide lockGroupId", null, null);
+        }
+        Instant now = Instant.now();
+        Instant expires = holdExpiry(req.getHoldTtlSec(), now);
+
+        Trip trip = tripRepository.findById(req.getTripId())
+                .orElseThrow(() -> new EntityNotFoundException("Trip not found: " + req.getTripId()));
+
+        List<String> seats = req.getSeatNumbers().stream()
+                .map(RedisSeatLockServiceImpl::normSeat).filter(Objects::nonNull).distinct().toList();
+
+        Claim claim = claim(trip, seats, group, now, expires, "ALL");
+        if (claim.rejected()) {
+            return new SeatHoldResponseDTO("REJECTED", "Seat not available: " + String.join(", ", claim.taken()), null, null);
+        }
+
+        SeatHoldResponseDTO r = new SeatHoldResponseDTO();
+        r.setStatus("HELD");
+        r.setHeldSeats(seats);
+        if (claim.fresh().isEmpty()) {
+            r.setExpiresAt(claim.ownExpiryMs() > 0 ? Instant.ofEpochMilli(claim.ownExpiryMs()) : expires);
+            r.setMessage("Already held");
+            return r;
+        }
+
+        writeDurably(Map.of(trip.getId(), claim.fresh()), group, req.getUserId(), (tripId, seat) -> group + ":" + seat,
+                now, expires);
+        r.setExpiresAt(expires);
+        r.setMessage("Held " + claim.fresh().size() + " seats");
+        return r;
+    }
+
+    // ===== try-hold-batch (all legs or none) =====
+    @Override
+    public SeatBatchHoldResponseDTO tryHoldBatch(SeatBatchHoldRequestDTO req) {
+        String group = req.getLockGroupId();
+        if (group == null || group.isBlank()) {
+            return new SeatBatchHoldResponseDTO("BAD_REQUEST", "Provide lockGroupId", null, List.of());
+        }
+        Instant now = Instant.now();
+        Instant expires = holdExpiry(req.getHoldTtlSec(), now);
+
+        Map<Long, List<String>> seatsByTrip = SeatLockServiceImpl.seatsByTrip(req.getLegs());
+        Map<Long, Trip> trips = tripRepository.findAllById(seatsByTrip.keySet()).stream()
+                .collect(Collectors.toMap(Trip::getId, Function.identity()));
+        Set<Long> missing = seatsByTrip.keySet().stream().filter(id -> !trips.containsKey(id)).collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            return SeatLockServiceImpl.rejectedBatch(seatsByTrip, Map.of(), missing);
+        }
+
+        // Claim the legs in ascending trip order; after the first rejection the rest are only checked
+        Map<Long, List<String>> freshByTrip = new LinkedHashMap<>();
+        Map<Long, Set<String>> conflictsByTrip = new HashMap<>();
+        long ownExpiry = 0L;
+        for (Long tripId : seatsByTrip.keySet().stream().sorted().toList()) {
+            Claim claim = claim(trips.get(tripId), seatsByTrip.get(tripId), group, now, expires,
+                    conflictsByTrip.isEmpty() ? "ALL" : "CHECK");
+            if (claim.rejected()) {
+                conflictsByTrip.put(tripId, Set.copyOf(claim.taken()));
+            } else if (conflictsByTrip.isEmpty()) {
+                if (!claim.fresh().isEmpty()) {
+                    freshByTrip.put(tripId, claim.fresh());
+                }
+                if (claim.ownExpiryMs() > 0 && (ownExpiry == 0 || claim.ownExpiryMs() < ownExpiry)) {
+                    ownExpiry = claim.ownExpiryMs();
+                }
+            }
+        }
+        if (!conflictsByTrip.isEmpty()) {
+            freshByTrip.forEach((tripId, seats) -> apply(tripId, "X", group, null, seats));
+            return SeatLockServiceImpl.rejectedBatch(seatsByTrip, conflictsByTrip, Set.of());
+        }
+
+        List<SeatHoldLegResultDTO> legs = seatsByTrip.entrySet().stream()
+                .map(e -> new SeatHoldLegResultDTO(e.getKey(), "HELD", e.getValue(), List.of())).toList();
+        if (freshByTrip.isEmpty()) {
+            return new SeatBatchHoldResponseDTO("HELD", "Already held", ownExpiry > 0 ? Instant.ofEpochMilli(ownExpiry) : expires, legs);
+        }
+
+        // idempotencyKey "<group>:<tripId>:<seat>" keeps legs with equal seat numbers apart
+        writeDurably(freshByTrip, group, req.getUserId(), (tripId, seat) -> group + ":" + tripId + ":" + seat, now, expires);
+        int held = freshByTrip.values().stream().mapToInt(List::size).sum();
+        return new SeatBatchHoldResponseDTO("HELD", "Held " + held + " seats on " + legs.size() + " trips", expires, legs);
+    }
+
+    /**
+     * Result of {@link #HOLD_SCRIPT} on one trip.
+     *
+     * @param rejected    whether a seat was taken and the mode refused partial claims.
+     * @param ownExpiryMs the earliest expiry of seats the group already held, {@code 0} if none.
+     * @param fresh       the seats that were free; written as pending claims unless rejected or checked only.
+     * @param taken       the seats another group holds or has committed.
+     */
+    private record Claim(boolean rejected, long ownExpiryMs, List<String> fresh, List<String> taken) {}
+
+    private Claim claim(Trip trip, List<String> seats, String group, Instant now, Instant expires, String mode) {
+        long keyTtlMs = keyTtlMs(trip, now, expires);
+        List<String> result = hold(trip.getId(), seats, group, now, expires, keyTtlMs, mode);
+        if ("SEED".equals(result.get(0))) {
+            seed(trip.getId(), now, keyTtlMs);
+            result = hold(trip.getId(), seats, group, now, expires, keyTtlMs, mode);
+        }
+        int fresh = Integer.parseInt(result.get(2));
+        return new Claim("REJECTED".equals(result.get(0)), Long.parseLong(result.get(1)),
+                List.copyOf(result.subList(3, 3 + fresh)), List.copyOf(result.subList(3 + fresh, result.size())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> hold(Long tripId, List<String> seats, String group, Instant now, Instant expires, long keyTtlMs,
+            String mode) {
+        List<String> args = new ArrayList<>(seats.size() + 5);
+        args.add(String.valueOf(now.toEpochMilli()));
+        args.add(String.valueOf(expires.toEpochMilli()));
+        args.add(group);
+        args.add(String.valueOf(keyTtlMs));
+        args.add(mode);
+        args.addAll(seats);
+        return (List<String>) redisTemplate.execute(HOLD_SCRIPT, List.of(tripKey(tripId)), args.toArray());
+    }
+
+    // Copy the trip's active seat_lock rows into its hash, once
+    private void seed(Long tripId, Instant now, long keyTtlMs) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(keyTtlMs));
+        for (SeatLock lock : queryService.findActiveLocksByTrip(tripId, now)) {
+            args.add(lock.getSeatNo());
+            args.add(lock.getStatus() == LockStatus.COMMITTED
+                    ? entry("C", lock.getLockGroupId(), null)
+                    : entry("H", lock.getLockGroupId(), lock.getExpiresAt()));
+        }
+        redisTemplate.execute(SEED_SCRIPT, List.of(tripKey(tripId)), args.toArray());
+    }
+
+    private static long keyTtlMs(Trip trip, Instant now, Instant expires) {
+        Instant until = trip.getDepartureTime() == null ? expires : trip.getDepartureTime().plus(RETAIN_AFTER_DEPARTURE);
+        return Math.max(Duration.between(now, until).toMillis(), Duration.between(now, expires).toMillis() + 60_000L);
+    }
+
+    // ===== durable seat_lock rows =====
+    private void writeDurably(Map<Long, List<String>> seatsByTrip, String group, Long userId,
+            BiFunction<Long, String, String> keyOf, Instant now, Instant expires) {
+        String token = PENDING + UUID.randomUUID();
+        Duration statusTtl = Duration.between(now, expires);
+        redisTemplate.opsForValue().set(statusKey(group), token, statusTtl);
+
+        // Writes of one group run in order, so a later hold never lands before an earlier one
+        CompletableFuture<Void> write = pendingWrites.compute(group, (g, previous) ->
+                (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous.exceptionally(e -> null))
+                        .thenRunAsync(() -> {
+                            Map<Long, Set<String>> conflicts = persistHoldsWithRetry(seatsByTrip, group, userId, keyOf, now, expires);
+                            if (conflicts.isEmpty()) {
+                                redisTemplate.execute(CLEAR_STATUS_SCRIPT, List.of(statusKey(group)), token);
+                                return;
+                            }
+                            LOG.warn("Seats of group {} were taken in seat_lock before its Redis hold was saved: {}", group, conflicts);
+                            releaseFailedHold(seatsByTrip, group, conflicts, statusTtl, "Seat not available: "
+                                    + conflicts.entrySet().stream()
+                                            .map(e -> "trip " + e.getKey() + ": " + String.join(", ", e.getValue()))
+                                            .collect(Collectors.joining("; ")));
+                        }, taskExecutor)
+                        .whenComplete((v, e) -> {
+                            if (e != null) {
+                                LOG.error("Failed to persist Redis holds of group {} on trips {}, releasing them", group,
+                                        seatsByTrip.keySet(), e);
+                                releaseFailedHold(seatsByTrip, group, Map.of(), statusTtl, "Hold could not be saved, please retry");
+                            }
+                        }));
+        write.whenComplete((v, e) -> pendingWrites.remove(group, write));
+    }
+
+    // A write that lost a lock wait or deadlock on seat_lock is retried; Redis already granted the hold
+    private Map<Long, Set<String>> persistHoldsWithRetry(Map<Long, List<String>> seatsByTrip, String group, Long userId,
+            BiFunction<Long, String, String> keyOf, Instant now, Instant expires) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return persistHolds(seatsByTrip, group, userId, keyOf, now, expires);
+            } catch (TransientDataAccessException e) {
+                if (attempt >= PERSIST_ATTEMPTS) {
+                    throw e;
+                }
+                LOG.debug("Retrying Redis holds of group {} after attempt {}: {}", group, attempt, e.getMessage());
+                try {
+                    Thread.sleep(PERSIST_RETRY_MS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // Redis arbitrates holds, so the rows are upserted by idempotency key without locking the trips;
+    // writes of one group are serialized by pendingWrites, which keeps the held counts exact
+    private Map<Long, Set<String>> persistHolds(Map<Long, List<String>> seatsByTrip, String group, Long userId,
+            BiFunction<Long, String, String> keyOf, Instant now, Instant expires) {
+        return transactionTemplate.execute(status -> {
+            Map<String, SeatLock> existing = seatLockRepository
+                    .findByIdempotencyKeyIn(seatsByTrip.entrySet().stream()
+                            .flatMap(e -> e.getValue().stream().map(seat -> keyOf.apply(e.getKey(), seat)))
+                            .toList())
+                    .stream()
+                    .collect(Collectors.toMap(SeatLock::getIdempotencyKey, Function.identity()));
+
+            // Seats held by another group or committed in seat_lock without going through Redis; a
+            // COMMITTED row under the hold's own key is never turned back into HELD
+            Instant checkedAt = Instant.now();
+            Map<Long, Set<String>> conflicts = new HashMap<>();
+            seatsByTrip.forEach((tripId, seats) -> {
+                Set<String> taken = new LinkedHashSet<>(queryService.findConflictingSeatNos(tripId, seats, checkedAt, group));
+                seats.stream()
+                        .filter(seat -> Optional.ofNullable(existing.get(keyOf.apply(tripId, seat)))
+                                .map(l -> l.getStatus() == LockStatus.COMMITTED).orElse(false))
+                        .forEach(taken::add);
+                if (!taken.isEmpty()) {
+                    conflicts.put(tripId, taken);
+                }
+            });
+            if (!conflicts.isEmpty()) {
+                return conflicts;
+            }
+
+            Map<Long, Integer> heldByTrip = new HashMap<>();
+            seatsByTrip.forEach((tripId, seats) -> {
+                for (String seat : seats) {
+                    String key = keyOf.apply(tripId, seat);
+                    SeatLock lock = existing.get(key);
+                    // trip_occupancy already counts a HELD row, lapsed or not, unless it was deleted
+                    if (lock == null || lock.getStatus() != LockStatus.HELD || Boolean.TRUE.equals(lock.getIsDeleted())) {
+                        heldByTrip.merge(tripId, 1, Integer::sum);
+                    }
+                    seatLockRepository.upsertHeld(tripId, seat, key, group, userId, now, expires);
+                }
+            });
+            heldByTrip.forEach((tripId, held) -> tripOccupancyService.adjust(tripId, held, 0));
+            seatsByTrip.forEach((tripId, seats) ->
+                    eventPublisher.publishEvent(new SeatLockChangedEvent(tripId, group, seats, LockStatus.HELD, expires)));
+            return Map.<Long, Set<String>>of();
+        });
+    }
+
+    // Release the group's claims, copy the winners from seat_lock into Redis and leave a pollable FAILED status
+    private void releaseFailedHold(Map<Long, List<String>> seatsByTrip, String group, Map<Long, Set<String>> conflicts,
+            Duration statusTtl, String reason) {
+        seatsByTrip.forEach((tripId, seats) -> apply(tripId, "X", group, null, seats));
+        conflicts.forEach(this::resync);
+        redisTemplate.opsForValue().set(statusKey(group), FAILED + reason, statusTtl);
+    }
+
+    private void resync(Long tripId, Set<String> seats) {
+        for (SeatLock lock : queryService.findActiveLocksByTrip(tripId, Instant.now())) {
+            if (seats.contains(lock.getSeatNo())) {
+                apply(tripId, lock.getStatus() == LockStatus.COMMITTED ? "C" : "H", lock.getLockGroupId(),
+                        lock.getExpiresAt(), List.of(lock.getSeatNo()));
+            }
+        }
+    }
+
+    // Wait for the group's durable writes: this instance's future, then the status any instance left in Redis
+    private boolean awaitPendingWrite(String group) {
+        if (group == null || group.isBlank()) {
+            return true;
+        }
+        CompletableFuture<Void> pending = pendingWrites.get(group);
+        if (pending != null) {
+            pending.exceptionally(e -> null).join();
+        }
+        long deadline = System.currentTimeMillis() + applicationProperties.getSeatLock().getLockTimeoutMs();
+        while (Optional.ofNullable(redisTemplate.opsForValue().get(statusKey(group))).filter(s -> s.startsWith(PENDING)).isPresent()) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(PENDING_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static SeatLockActionResponseDTO stillSaving() {
+        return new SeatLockActionResponseDTO("REJECTED", "Hold is still being saved, please retry");
+    }
+
+    // ===== hold status =====
+    @Override
+    public Optional<SeatHoldResponseDTO> findHoldStatus(String lockGroupId) {
+        String status = lockGroupId == null ? null : redisTemplate.opsForValue().get(statusKey(lockGroupId));
+        if (status != null && status.startsWith(PENDING)) {
+            return Optional.of(new SeatHoldResponseDTO("PENDING", "Hold is being saved", null, null));
+        }
+        if (status != null && status.startsWith(FAILED)) {
+            return Optional.of(new SeatHoldResponseDTO("FAILED", status.substring(FAILED.length()), null, null));
+        }
+        return delegate.findHoldStatus(lockGroupId);
+    }
+
+    // ===== mirror status changes into Redis =====
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatLockChanged(SeatLockChangedEvent event) {
+        String state = switch (event.status()) {
+            case HELD -> "H";
+            case COMMITTED -> "C";
+            case EXPIRED -> "X";
+        };
+        apply(event.tripId(), state, event.lockGroupId(), event.expiresAt(), event.seatNos());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatLocksInvalidated(SeatLocksInvalidatedEvent event) {
+        // reseeded from seat_lock on the next hold; pending claims are kept until their write settles
+        invalidate(event.tripId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(Long tripId, String state, String group, Instant at, List<String> seats) {
+        List<String> args = new ArrayList<>(seats.size() + 4);
+        args.add(state);
+        args.add(group == null ? "" : group);
+        args.add(String.valueOf("C".equals(state) || at == null ? 0L : at.toEpochMilli()));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.addAll(seats);
+        try {
+            List<String> conflicts = (List<String>) redisTemplate.execute(APPLY_SCRIPT, List.of(tripKey(tripId)), args.toArray());
+            if (conflicts != null && !conflicts.isEmpty()) {
+                LOG.warn("Not mirroring {} of group {} on trip {} into Redis, held by another group: {}", state, group, tripId, conflicts);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to mirror seat lock change of trip {} into Redis, resetting its hash: {}", tripId, e.getMessage());
+            invalidate(tripId);
+        }
+    }
+
+    private void invalidate(Long tripId) {
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(tripKey(tripId)), String.valueOf(System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            LOG.error("Failed to reset the Redis hash of trip {}", tripId, e);
+        }
+    }
+
+    // ===== group operations: wait for the group's durable rows, then JPA =====
+    @Override
+    public SeatLockActionResponseDTO attachBooking(AttachBookingRequestDTO req) {
+        if (!awaitPendingWrite(req.getLockGroupId())) {
+            return stillSaving();
+        }
+        return delegate.attachBooking(req);
+    }
+
+    @Override
+    public SeatLockActionResponseDTO cancelGroup(CancelGroupRequestDTO req) {
+        if (!awaitPendingWrite(req.getLockGroupId())) {
+            return stillSaving();
+        }
+        return delegate.cancelGroup(req);
+    }
+
+    @Override
+    public SeatLockActionResponseDTO confirmGroup(ConfirmGroupRequestDTO req) {
+        if (!awaitPendingWrite(req.getLockGroupId())) {
+            return stillSaving();
+        }
+        return delegate.confirmGroup(req);
+    }
+
+    @Override
+    public List<SeatLockDTO> findActive(Long tripId, Long bookingId, String lockGroupId) {
+        awaitPendingWrite(lockGroupId);
+        return delegate.findActive(tripId, bookingId, lockGroupId);
+    }
+
+    // ===== legacy holds: converted like the JPA engine, then claimed in Redis =====
+    @Override
+    public SeatLockResponseDTO tryLockSeats(SeatLockRequestDTO request) {
+        return SeatLockServiceImpl.toLockResponse(request, tryHold(SeatLockServiceImpl.toHoldRequest(request)));
+    }
+
+    @Override
+    public SeatValidateLockResponseDTO validateAndLockSeats(SeatValidateLockRequestDTO request) {
+        return SeatLockServiceImpl.toValidateLockResponse(request, tryHold(SeatLockServiceImpl.toHoldRequest(request)));
+    }
+
+    // seat_lock first, then the claims Redis accepted whose rows are not written yet
+    @Override
+    public SeatValidateLockResponseDTO validateSeatsOnly(SeatValidateLockRequestDTO request) {
+        SeatValidateLockResponseDTO response = delegate.validateSeatsOnly(request);
+        if (!"VALIDATED".equals(response.getStatus()) || request.getSeatNumbers() == null) {
+            return response;
+        }
+        List<String> seats = request.getSeatNumbers().stream()
+                .map(RedisSeatLockServiceImpl::normSeat).filter(Objects::nonNull).distinct().toList();
+        Optional<Trip> trip = tripRepository.findById(request.getTripId());
+        if (seats.isEmpty() || trip.isEmpty()) {
+            return response;
+        }
+        Instant now = Instant.now();
+        Claim claim = claim(trip.get(), seats, Objects.toString(request.getIdemKey(), ""), now, now, "CHECK");
+        if (!claim.taken().isEmpty()) {
+            return new SeatValidateLockResponseDTO("REJECTED",
+                    "Seat not available: " + String.join(", ", claim.taken()), request.getTripId());
+        }
+        return response;
+    }
+
+    // ===== reclaim: seats are claimed in Redis while the JPA engine holds the trip locks =====
+    @Override
+    public SeatReclaimResponseDTO reclaimExpiredSeats(ConfirmGroupRequestDTO req) {
+        Map<Long, List<String>> claimedByTrip = new HashMap<>();
+        Map<Long, String> groupByTrip = new HashMap<>();
+        SeatReclaimResponseDTO response = delegate.reclaimExpiredSeats(req, (tripId, seats, group, now, expires) -> {
+            Set<String> taken = new LinkedHashSet<>(queryService.findConflictingSeatNos(tripId, seats, now, group));
+            List<String> wanted = seats.stream().filter(seat -> !taken.contains(seat)).toList();
+            if (wanted.isEmpty()) {
+                return taken;
+            }
+            String redisGroup = Objects.toString(group, "");
+            Claim claim = claim(tripRepository.getReferenceById(tripId), wanted, redisGroup, now, expires, "ANY");
+            taken.addAll(claim.taken());
+            claimedByTrip.put(tripId, claim.fresh());
+            groupByTrip.put(tripId, redisGroup);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        apply(tripId, "X", redisGroup, null, claim.fresh());
+                    }
+                }
+            });
+            return taken;
+        });
+
+        // Claims of seats that had no reclaimable row are released; won seats were mirrored as H on commit
+        Map<Long, List<String>> wonByTrip = response.getTrips() == null ? Map.of() : response.getTrips().stream()
+                .collect(Collectors.toMap(SeatHoldLegResultDTO::getTripId, SeatHoldLegResultDTO::getHeldSeats));
+        claimedByTrip.forEach((tripId, seats) -> {
+            List<String> notWon = seats.stream().filter(seat -> !wonByTrip.getOrDefault(tripId, List.of()).contains(seat)).toList();
+            if (!notWon.isEmpty()) {
+                apply(tripId, "X", groupByTrip.get(tripId), null, notWon);
+            }
+        });
+        return response;
+    }
+
+    // ===== delegated to the JPA engine =====
+    @Override
+    public SeatLockDTO save(SeatLockDTO seatLockDTO) {
+        return delegate.save(seatLockDTO);
+    }
+
+    @Override
+    public SeatLockDTO update(SeatLockDTO seatLockDTO) {
+        return delegate.update(seatLockDTO);
+    }
+
+    @Override
+    public Optional<SeatLockDTO> partialUpdate(SeatLockDTO seatLockDTO) {
+        return delegate.partialUpdate(seatLockDTO);
+    }
+
+    @Override
+    public Optional<SeatLockDTO> findOne(Long id) {
+        return delegate.findOne(id);
+    }
+
+    @Override
+    public void delete(Long id) {
+        delegate.delete(id);
+    }
+
+    @Override
+    public SeatLockActionResponseDTO confirmSeatLocks(SeatLockActionRequestDTO request) {
+        return delegate.confirmSeatLocks(request);
+    }
+
+    @Override
+    public SeatLockActionResponseDTO cancelSeatLocks(SeatLockActionRequestDTO request) {
+        return delegate.cancelSeatLocks(request);
+    }
+}
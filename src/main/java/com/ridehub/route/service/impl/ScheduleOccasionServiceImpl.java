@@ -1,10 +1,12 @@
 package com.ridehub.route.service.impl;
 
 import com.ridehub.route.domain.ScheduleOccasion;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
 import com.ridehub.route.repository.ScheduleOccasionRepository;
 import com.ridehub.route.service.ScheduleOccasionService;
 import com.ridehub.route.service.dto.ScheduleOccasionDTO;
 import com.ridehub.route.service.mapper.ScheduleOccasionMapper;
+import java.time.Instant;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,12 +26,16 @@ public class ScheduleOccasionServiceImpl implements ScheduleOccasionService {
 
     private final ScheduleOccasionMapper scheduleOccasionMapper;
 
+    private final ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+
     public ScheduleOccasionServiceImpl(
         ScheduleOccasionRepository scheduleOccasionRepository,
-        ScheduleOccasionMapper scheduleOccasionMapper
+        ScheduleOccasionMapper scheduleOccasionMapper,
+        ScheduleGenerationStateRepository scheduleGenerationStateRepository
     ) {
         this.scheduleOccasionRepository = scheduleOccasionRepository;
         this.scheduleOccasionMapper = scheduleOccasionMapper;
+        this.scheduleGenerationStateRepository = scheduleGenerationStateRepository;
     }
 
     @Override
@@ -45,6 +51,7 @@ public class ScheduleOccasionServiceImpl implements ScheduleOccasionService {
         LOG.debug("Request to update ScheduleOccasion : {}", scheduleOccasionDTO);
         ScheduleOccasion scheduleOccasion = scheduleOccasionMapper.toEntity(scheduleOccasionDTO);
         scheduleOccasion = scheduleOccasionRepository.save(scheduleOccasion);
+        markForRegeneration(scheduleOccasion);
         return scheduleOccasionMapper.toDto(scheduleOccasion);
     }
 
@@ -60,6 +67,7 @@ public class ScheduleOccasionServiceImpl implements ScheduleOccasionService {
                 return existingScheduleOccasion;
             })
             .map(scheduleOccasionRepository::save)
+            .map(this::markForRegeneration)
             .map(scheduleOccasionMapper::toDto);
     }
 
@@ -75,4 +83,12 @@ public class ScheduleOccasionServiceImpl implements ScheduleOccasionService {
         LOG.debug("Request to delete ScheduleOccasion : {}", id);
         scheduleOccasionRepository.deleteById(id);
     }
+
+    /**
+     * Have the auto-scheduler generate the trips of the schedules using the rule on its next pass.
+     */
+    private ScheduleOccasion markForRegeneration(ScheduleOccasion scheduleOccasion) {
+        scheduleGenerationStateRepository.invalidateByOccasion(scheduleOccasion.getId(), Instant.now());
+        return scheduleOccasion;
+    }
 }
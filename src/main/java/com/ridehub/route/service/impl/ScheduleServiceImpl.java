@@ -1,10 +1,12 @@
 package com.ridehub.route.service.impl;
 
 import com.ridehub.route.domain.Schedule;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
 import com.ridehub.route.repository.ScheduleRepository;
 import com.ridehub.route.service.ScheduleService;
 import com.ridehub.route.service.dto.ScheduleDTO;
 import com.ridehub.route.service.mapper.ScheduleMapper;
+import java.time.Instant;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,9 +26,16 @@ public class ScheduleServiceImpl implements ScheduleService {
 
     private final ScheduleMapper scheduleMapper;
 
-    public ScheduleServiceImpl(ScheduleRepository scheduleRepository, ScheduleMapper scheduleMapper) {
+    private final ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+
+    public ScheduleServiceImpl(
+        ScheduleRepository scheduleRepository,
+        ScheduleMapper scheduleMapper,
+        ScheduleGenerationStateRepository scheduleGenerationStateRepository
+    ) {
         this.scheduleRepository = scheduleRepository;
         this.scheduleMapper = scheduleMapper;
+        this.scheduleGenerationStateRepository = scheduleGenerationStateRepository;
     }
 
     @Override
@@ -34,6 +43,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         LOG.debug("Request to save Schedule : {}", scheduleDTO);
         Schedule schedule = scheduleMapper.toEntity(scheduleDTO);
         schedule = scheduleRepository.save(schedule);
+        markForRegeneration(schedule);
         return scheduleMapper.toDto(schedule);
     }
 
@@ -42,6 +52,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         LOG.debug("Request to update Schedule : {}", scheduleDTO);
         Schedule schedule = scheduleMapper.toEntity(scheduleDTO);
         schedule = scheduleRepository.save(schedule);
+        markForRegeneration(schedule);
         return scheduleMapper.toDto(schedule);
     }
 
@@ -57,6 +68,7 @@ public class ScheduleServiceImpl implements ScheduleService {
                 return existingSchedule;
             })
             .map(scheduleRepository::save)
+            .map(this::markForRegeneration)
             .map(scheduleMapper::toDto);
     }
 
@@ -72,4 +84,12 @@ public class ScheduleServiceImpl implements ScheduleService {
         LOG.debug("Request to delete Schedule : {}", id);
         scheduleRepository.deleteById(id);
     }
+
+    /**
+     * Have the auto-scheduler generate the trips of a new or changed schedule on its next pass.
+     */
+    private Schedule markForRegeneration(Schedule schedule) {
+        scheduleGenerationStateRepository.invalidate(schedule.getId(), Instant.now());
+        return schedule;
+    }
 }
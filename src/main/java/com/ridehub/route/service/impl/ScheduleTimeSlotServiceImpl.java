@@ -1,10 +1,12 @@
 package com.ridehub.route.service.impl;
 
 import com.ridehub.route.domain.ScheduleTimeSlot;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
 import com.ridehub.route.repository.ScheduleTimeSlotRepository;
 import com.ridehub.route.service.ScheduleTimeSlotService;
 import com.ridehub.route.service.dto.ScheduleTimeSlotDTO;
 import com.ridehub.route.service.mapper.ScheduleTimeSlotMapper;
+import java.time.Instant;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,12 +26,16 @@ public class ScheduleTimeSlotServiceImpl implements ScheduleTimeSlotService {
 
     private final ScheduleTimeSlotMapper scheduleTimeSlotMapper;
 
+    private final ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+
     public ScheduleTimeSlotServiceImpl(
         ScheduleTimeSlotRepository scheduleTimeSlotRepository,
-        ScheduleTimeSlotMapper scheduleTimeSlotMapper
+        ScheduleTimeSlotMapper scheduleTimeSlotMapper,
+        ScheduleGenerationStateRepository scheduleGenerationStateRepository
     ) {
         this.scheduleTimeSlotRepository = scheduleTimeSlotRepository;
         this.scheduleTimeSlotMapper = scheduleTimeSlotMapper;
+        this.scheduleGenerationStateRepository = scheduleGenerationStateRepository;
     }
 
     @Override
@@ -37,6 +43,7 @@ public class ScheduleTimeSlotServiceImpl implements ScheduleTimeSlotService {
         LOG.debug("Request to save ScheduleTimeSlot : {}", scheduleTimeSlotDTO);
         ScheduleTimeSlot scheduleTimeSlot = scheduleTimeSlotMapper.toEntity(scheduleTimeSlotDTO);
         scheduleTimeSlot = scheduleTimeSlotRepository.save(scheduleTimeSlot);
+        markForRegeneration(scheduleTimeSlot);
         return scheduleTimeSlotMapper.toDto(scheduleTimeSlot);
     }
 
@@ -45,6 +52,7 @@ public class ScheduleTimeSlotServiceImpl implements ScheduleTimeSlotService {
         LOG.debug("Request to update ScheduleTimeSlot : {}", scheduleTimeSlotDTO);
         ScheduleTimeSlot scheduleTimeSlot = scheduleTimeSlotMapper.toEntity(scheduleTimeSlotDTO);
         scheduleTimeSlot = scheduleTimeSlotRepository.save(scheduleTimeSlot);
+        markForRegeneration(scheduleTimeSlot);
         return scheduleTimeSlotMapper.toDto(scheduleTimeSlot);
     }
 
@@ -60,6 +68,7 @@ public class ScheduleTimeSlotServiceImpl implements ScheduleTimeSlotService {
                 return existingScheduleTimeSlot;
             })
             .map(scheduleTimeSlotRepository::save)
+            .map(this::markForRegeneration)
             .map(scheduleTimeSlotMapper::toDto);
     }
 
@@ -75,4 +84,14 @@ public class ScheduleTimeSlotServiceImpl implements ScheduleTimeSlotService {
         LOG.debug("Request to delete ScheduleTimeSlot : {}", id);
         scheduleTimeSlotRepository.deleteById(id);
     }
+
+    /**
+     * Have the auto-scheduler generate the trips of the slot's schedule on its next pass.
+     */
+    private ScheduleTimeSlot markForRegeneration(ScheduleTimeSlot scheduleTimeSlot) {
+        if (scheduleTimeSlot.getSchedule() != null && scheduleTimeSlot.getSchedule().getId() != null) {
+            scheduleGenerationStateRepository.invalidate(scheduleTimeSlot.getSchedule().getId(), Instant.now());
+        }
+        return scheduleTimeSlot;
+    }
 }
@@ -4,26 +4,37 @@ import com.ridehub.route.domain.SeatLock;
 import com.ridehub.route.domain.Trip;
 import com.ridehub.route.domain.enumeration.LockStatus;
 import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.repository.SeatLockRepository.BookingSeat;
+import com.ridehub.route.repository.SeatLockRepository.HeldSeat;
+import com.ridehub.route.repository.SeatLockRepository.ReclaimableSeat;
+import com.ridehub.route.repository.SeatLockRepository.SeatLockRef;
 import com.ridehub.route.repository.TripRepository;
 import com.ridehub.route.service.SeatLockQueryService;
 import com.ridehub.route.service.SeatLockService;
-import com.ridehub.route.service.criteria.SeatLockCriteria;
+import com.ridehub.route.service.TripOccupancyService;
+import com.ridehub.route.service.TripSeatLocks;
 import com.ridehub.route.service.dto.SeatLockDTO;
+import com.ridehub.route.service.event.SeatLockChangedEvent;
+import com.ridehub.route.service.event.SeatLocksInvalidatedEvent;
 import com.ridehub.route.service.dto.request.*;
+import com.ridehub.route.service.dto.response.SeatBatchHoldResponseDTO;
+import com.ridehub.route.service.dto.response.SeatHoldLegResultDTO;
 import com.ridehub.route.service.dto.response.SeatHoldResponseDTO;
 import com.ridehub.route.service.dto.response.SeatLockActionResponseDTO;
 import com.ridehub.route.service.dto.response.SeatLockResponseDTO;
+import com.ridehub.route.service.dto.response.SeatReclaimResponseDTO;
 import com.ridehub.route.service.dto.response.SeatValidateLockResponseDTO;
 import com.ridehub.route.service.mapper.SeatLockMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tech.jhipster.service.filter.*;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,26 +47,72 @@ public class SeatLockServiceImpl implements SeatLockService {
     private final TripRepository tripRepository;
     private final SeatLockQueryService queryService;
     private final SeatLockMapper seatLockMapper;
+    private final TripSeatLocks tripSeatLocks;
+    private final TripOccupancyService tripOccupancyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SeatLockServiceImpl(
             SeatLockRepository seatLockRepository,
             TripRepository tripRepository,
             SeatLockQueryService queryService,
-            SeatLockMapper seatLockMapper) {
+            SeatLockMapper seatLockMapper,
+            TripSeatLocks tripSeatLocks,
+            TripOccupancyService tripOccupancyService,
+            ApplicationEventPublisher eventPublisher) {
         this.seatLockRepository = seatLockRepository;
         this.tripRepository = tripRepository;
         this.queryService = queryService;
         this.seatLockMapper = seatLockMapper;
+        this.tripSeatLocks = tripSeatLocks;
+        this.tripOccupancyService = tripOccupancyService;
+        this.eventPublisher = eventPublisher;
     }
 
     private static String normSeat(String s) { return s == null ? null : s.trim().toUpperCase(); }
 
+    // Report status changes per trip and group; the availability stream relays them after commit
+    private void publishChanged(Collection<SeatLock> locks, LockStatus status, Instant at) {
+        publishChanged(locks, l -> l.getTrip().getId(), SeatLock::getLockGroupId, SeatLock::getSeatNo, status, at);
+    }
+
+    // Count and report HELD -> status. A bulk update that touched fewer rows than were read lost a race:
+    // recount those trips and let listeners reload them
+    private void recordTransition(List<HeldSeat> held, int updated, LockStatus status, Instant at) {
+        if (updated == held.size()) {
+            tripOccupancyService.adjust(held, HeldSeat::getTripId, -1, status == LockStatus.COMMITTED ? 1 : 0);
+            publishChanged(held, HeldSeat::getTripId, HeldSeat::getLockGroupId, HeldSeat::getSeatNo, status, at);
+        } else {
+            List<Long> tripIds = held.stream().map(HeldSeat::getTripId).distinct().toList();
+            tripOccupancyService.recompute(tripIds);
+            tripIds.forEach(tripId -> eventPublisher.publishEvent(new SeatLocksInvalidatedEvent(tripId)));
+        }
+    }
+
+    private <T> void publishChanged(Collection<T> rows, Function<T, Long> trip, Function<T, String> group,
+            Function<T, String> seat, LockStatus status, Instant at) {
+        rows.stream()
+                .collect(Collectors.groupingBy(trip, LinkedHashMap::new,
+                        Collectors.groupingBy(r -> Optional.ofNullable(group.apply(r)), LinkedHashMap::new,
+                                Collectors.mapping(seat, Collectors.toList()))))
+                .forEach((tripId, byGroup) -> byGroup.forEach((g, seatNos) ->
+                        eventPublisher.publishEvent(new SeatLockChangedEvent(tripId, g.orElse(null), seatNos, status, at))));
+    }
+
+    // A plain CRUD change has no known delta: recount the trip and let listeners reload it
+    private void publishInvalidated(SeatLock lock) {
+        if (lock != null && lock.getTrip() != null) {
+            tripOccupancyService.recompute(List.of(lock.getTrip().getId()));
+            eventPublisher.publishEvent(new SeatLocksInvalidatedEvent(lock.getTrip().getId()));
+        }
+    }
+
     // Required interface methods from existing service
     @Override
     public SeatLockDTO save(SeatLockDTO seatLockDTO) {
         LOG.debug("Request to save SeatLock : {}", seatLockDTO);
         SeatLock seatLock = seatLockMapper.toEntity(seatLockDTO);
         seatLock = seatLockRepository.save(seatLock);
+        publishInvalidated(seatLock);
         return seatLockMapper.toDto(seatLock);
     }
 
@@ -64,6 +121,7 @@ public class SeatLockServiceImpl implements SeatLockService {
         LOG.debug("Request to update SeatLock : {}", seatLockDTO);
         SeatLock seatLock = seatLockMapper.toEntity(seatLockDTO);
         seatLock = seatLockRepository.save(seatLock);
+        publishInvalidated(seatLock);
         return seatLockMapper.toDto(seatLock);
     }
 
@@ -77,7 +135,10 @@ public class SeatLockServiceImpl implements SeatLockService {
                     return existingSeatLock;
                 })
                 .map(seatLockRepository::save)
-                .map(seatLockMapper::toDto);
+                .map(saved -> {
+                    publishInvalidated(saved);
+                    return seatLockMapper.toDto(saved);
+                });
     }
 
     @Override
@@ -90,7 +151,9 @@ public class SeatLockServiceImpl implements SeatLockService {
     @Override
     public void delete(Long id) {
         LOG.debug("Request to delete SeatLock : {}", id);
+        Optional<SeatLock> seatLock = seatLockRepository.findById(id);
         seatLockRepository.deleteById(id);
+        seatLock.ifPresent(this::publishInvalidated);
     }
 
     // ===== try-hold (group-first) =====
@@ -100,22 +163,22 @@ public class SeatLockServiceImpl implements SeatLockService {
         int ttl = (req.getHoldTtlSec() == null || req.getHoldTtlSec() < 30) ? 180 : req.getHoldTtlSec();
         Instant expires = now.plusSeconds(ttl);
 
-        Trip trip = tripRepository.findById(req.getTripId())
-                .orElseThrow(() -> new EntityNotFoundException("Trip not found: " + req.getTripId()));
-
         List<String> seats = req.getSeatNumbers().stream()
                 .map(SeatLockServiceImpl::normSeat).filter(Objects::nonNull).distinct().toList();
         String group = req.getLockGroupId();
 
-        // 1) Conflict check via Criteria: active HELD (not expired) OR COMMITTED
-        if (hasAnyActiveConflict(trip.getId(), seats, now, group)) {
-            // Find which seat conflicts to build a friendly message
-            for (String seat : seats) {
-                if (isSeatConflicting(trip.getId(), seat, now, group)) {
-                    return new SeatHoldResponseDTO("REJECTED", "Seat not available: " + seat, null, null);
-                }
-            }
-            return new SeatHoldResponseDTO("REJECTED", "Seat(s) not available", null, null);
+        // Serialize holds per trip until commit: striped JVM lock, then the trip row (SELECT ... FOR UPDATE)
+        if (!tripSeatLocks.lockForTransaction(req.getTripId())) {
+            return new SeatHoldResponseDTO("REJECTED", "Trip is busy, please retry", null, null);
+        }
+        Trip trip = tripRepository.findByIdForUpdate(req.getTripId())
+                .orElseThrow(() -> new EntityNotFoundException("Trip not found: " + req.getTripId()));
+
+        // 1) Conflict check in one set-based query: active HELD (not expired, other group) OR COMMITTED
+        Set<String> conflicts = queryService.findConflictingSeatNos(trip.getId(), seats, now, group);
+        if (!conflicts.isEmpty()) {
+            List<String> unavailable = seats.stream().filter(conflicts::contains).toList();
+            return new SeatHoldResponseDTO("REJECTED", "Seat not available: " + String.join(", ", unavailable), null, null);
         }
 
         // 2) Idempotency by group prefix — if already HELD and unexpired, just return them
@@ -129,23 +192,14 @@ public class SeatLockServiceImpl implements SeatLockService {
             return r;
         }
 
-        // 3) Create one row per seat; group via idempotencyKey prefix "<group>:<seat>"
+        // 3) Create one row per seat; idempotencyKey "<group>:<seat>" keeps retries unique
         List<SeatLock> toSave = new ArrayList<>();
         for (String seat : seats) {
-            SeatLock lock = new SeatLock();
-            lock.setSeatNo(seat);
-            lock.setUserId(req.getUserId());
-            lock.setStatus(LockStatus.HELD);
-            lock.setExpiresAt(expires);
-            lock.setIdempotencyKey(group + ":" + seat);   // <-- group prefix trick
-            lock.setBookingId(null);
-            lock.setCreatedAt(now);
-            lock.setUpdatedAt(now);
-            lock.setIsDeleted(Boolean.FALSE);
-            lock.setTrip(trip);
-            toSave.add(lock);
+            toSave.add(newHeldLock(trip, seat, group + ":" + seat, group, req.getUserId(), now, expires));
         }
         List<SeatLock> saved = seatLockRepository.saveAll(toSave);
+        tripOccupancyService.adjust(saved, l -> l.getTrip().getId(), 1, 0);
+        publishChanged(saved, LockStatus.HELD, expires);
 
         SeatHoldResponseDTO r = new SeatHoldResponseDTO();
         r.setStatus("HELD");
@@ -155,23 +209,113 @@ public class SeatLockServiceImpl implements SeatLockService {
         return r;
     }
 
+    private static SeatLock newHeldLock(Trip trip, String seat, String idempotencyKey, String group, Long userId,
+            Instant now, Instant expires) {
+        SeatLock lock = new SeatLock();
+        lock.setSeatNo(seat);
+        lock.setUserId(userId);
+        lock.setStatus(LockStatus.HELD);
+        lock.setExpiresAt(expires);
+        lock.setIdempotencyKey(idempotencyKey);
+        lock.setLockGroupId(group);
+        lock.setBookingId(null);
+        lock.setCreatedAt(now);
+        lock.setUpdatedAt(now);
+        lock.setIsDeleted(Boolean.FALSE);
+        lock.setTrip(trip);
+        return lock;
+    }
+
+    // ===== try-hold-batch (all legs or none) =====
+    @Override
+    public SeatBatchHoldResponseDTO tryHoldBatch(SeatBatchHoldRequestDTO req) {
+        Instant now = Instant.now();
+        int ttl = (req.getHoldTtlSec() == null || req.getHoldTtlSec() < 30) ? 180 : req.getHoldTtlSec();
+        Instant expires = now.plusSeconds(ttl);
+        String group = req.getLockGroupId();
+
+        Map<Long, List<String>> seatsByTrip = seatsByTrip(req.getLegs());
+
+        // 1) Idempotency by group — a retried batch returns what the group already holds
+        List<SeatLock> existing = findUnexpiredHeldByGroup(group, now);
+        if (!existing.isEmpty()) {
+            Map<Long, List<String>> heldByTrip = existing.stream().collect(Collectors.groupingBy(
+                    l -> l.getTrip().getId(), LinkedHashMap::new, Collectors.mapping(SeatLock::getSeatNo, Collectors.toList())));
+            List<SeatHoldLegResultDTO> legs = heldByTrip.entrySet().stream()
+                    .map(e -> new SeatHoldLegResultDTO(e.getKey(), "HELD", e.getValue(), List.of())).toList();
+            Instant earliest = existing.stream().map(SeatLock::getExpiresAt).min(Instant::compareTo).orElse(expires);
+            return new SeatBatchHoldResponseDTO("HELD", "Already held", earliest, legs);
+        }
+
+        // 2) Lock every trip (stripes and rows in ascending trip order), then one conflict query per trip
+        List<Long> tripIds = seatsByTrip.keySet().stream().sorted().toList();
+        if (!tripSeatLocks.lockForTransaction(tripIds)) {
+            return new SeatBatchHoldResponseDTO("REJECTED", "Trip is busy, please retry", null, List.of());
+        }
+        Map<Long, Trip> trips = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long tripId : tripIds) {
+            tripRepository.findByIdForUpdate(tripId).ifPresentOrElse(t -> trips.put(tripId, t), () -> missing.add(tripId));
+        }
+        Map<Long, Set<String>> conflictsByTrip = new LinkedHashMap<>();
+        seatsByTrip.forEach((tripId, seats) -> conflictsByTrip.put(tripId, missing.contains(tripId)
+                ? Set.of()
+                : queryService.findConflictingSeatNos(tripId, seats, now, group)));
+        if (!missing.isEmpty() || conflictsByTrip.values().stream().anyMatch(c -> !c.isEmpty())) {
+            return rejectedBatch(seatsByTrip, conflictsByTrip, missing);
+        }
+
+        // 3) Hold every leg; idempotencyKey "<group>:<tripId>:<seat>" keeps legs with equal seat numbers apart
+        List<SeatLock> toSave = new ArrayList<>();
+        seatsByTrip.forEach((tripId, seats) -> seats.forEach(seat -> toSave.add(newHeldLock(
+                trips.get(tripId), seat, group + ":" + tripId + ":" + seat, group, req.getUserId(), now, expires))));
+        List<SeatLock> saved = seatLockRepository.saveAll(toSave);
+        tripOccupancyService.adjust(saved, l -> l.getTrip().getId(), 1, 0);
+        publishChanged(saved, LockStatus.HELD, expires);
+
+        List<SeatHoldLegResultDTO> legs = seatsByTrip.entrySet().stream()
+                .map(e -> new SeatHoldLegResultDTO(e.getKey(), "HELD", e.getValue(), List.of())).toList();
+        return new SeatBatchHoldResponseDTO("HELD", "Held " + saved.size() + " seats on " + legs.size() + " trips", expires, legs);
+    }
+
+    // Legs on the same trip are merged; request order is kept for the response
+    static Map<Long, List<String>> seatsByTrip(List<SeatHoldLegDTO> legs) {
+        Map<Long, List<String>> seatsByTrip = new LinkedHashMap<>();
+        for (SeatHoldLegDTO leg : legs) {
+            List<String> seats = seatsByTrip.computeIfAbsent(leg.getTripId(), id -> new ArrayList<>());
+            leg.getSeatNumbers().stream().map(SeatLockServiceImpl::normSeat).filter(Objects::nonNull)
+                    .filter(seat -> !seats.contains(seat)).forEach(seats::add);
+        }
+        return seatsByTrip;
+    }
+
+    static SeatBatchHoldResponseDTO rejectedBatch(Map<Long, List<String>> seatsByTrip,
+            Map<Long, Set<String>> conflictsByTrip, Set<Long> missing) {
+        List<SeatHoldLegResultDTO> legs = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        seatsByTrip.forEach((tripId, seats) -> {
+            List<String> unavailable = seats.stream().filter(conflictsByTrip.getOrDefault(tripId, Set.of())::contains).toList();
+            if (missing.contains(tripId)) {
+                legs.add(new SeatHoldLegResultDTO(tripId, "NOT_FOUND", List.of(), List.of()));
+                problems.add("trip " + tripId + " not found");
+            } else if (!unavailable.isEmpty()) {
+                legs.add(new SeatHoldLegResultDTO(tripId, "REJECTED", List.of(), unavailable));
+                problems.add("trip " + tripId + ": " + String.join(", ", unavailable));
+            } else {
+                legs.add(new SeatHoldLegResultDTO(tripId, "AVAILABLE", List.of(), List.of()));
+            }
+        });
+        return new SeatBatchHoldResponseDTO("REJECTED", "Seat not available: " + String.join("; ", problems), null, legs);
+    }
+
     // ===== attach-booking =====
     @Override
     public SeatLockActionResponseDTO attachBooking(AttachBookingRequestDTO req) {
         Instant now = Instant.now();
-        List<SeatLock> held = findUnexpiredHeldByGroup(req.getLockGroupId(), now);
-        if (held.isEmpty()) {
+        int updated = seatLockRepository.attachBookingToHeldGroup(req.getLockGroupId(), req.getBookingId(), now);
+        if (updated == 0 && seatLockRepository.findUnexpiredHeldSeatsByGroup(req.getLockGroupId(), now).isEmpty()) {
             return new SeatLockActionResponseDTO("NOT_FOUND", "No unexpired HELD locks for group");
         }
-        int updated = 0;
-        for (SeatLock l : held) {
-            if (l.getBookingId() == null) {
-                l.setBookingId(req.getBookingId());
-                l.setUpdatedAt(now);
-                updated++;
-            }
-        }
-        seatLockRepository.saveAll(held);
         return new SeatLockActionResponseDTO("ATTACHED", "Attached bookingId to " + updated + " locks");
     }
 
@@ -182,20 +326,16 @@ public class SeatLockServiceImpl implements SeatLockService {
             return new SeatLockActionResponseDTO("BAD_REQUEST", "Provide bookingId or lockGroupId");
         }
         Instant now = Instant.now();
-        List<SeatLock> held = (req.getBookingId() != null)
-                ? findUnexpiredHeldByBooking(req.getBookingId(), now)
-                : findUnexpiredHeldByGroup(req.getLockGroupId(), now);
+        List<HeldSeat> held = findUnexpiredHeldSeats(req.getBookingId(), req.getLockGroupId(), now);
+        int updated = held.isEmpty() ? 0 : (req.getBookingId() != null)
+                ? seatLockRepository.expireHeldByBooking(req.getBookingId(), now)
+                : seatLockRepository.expireHeldByGroup(req.getLockGroupId(), now);
 
-        if (held.isEmpty()) {
+        if (updated == 0) {
             return new SeatLockActionResponseDTO("NOT_FOUND", "No unexpired HELD locks to cancel");
         }
-        for (SeatLock l : held) {
-            l.setStatus(LockStatus.EXPIRED);
-            l.setExpiresAt(now);
-            l.setUpdatedAt(now);
-        }
-        seatLockRepository.saveAll(held);
-        return new SeatLockActionResponseDTO("RELEASED", "Cancelled " + held.size() + " held seats");
+        recordTransition(held, updated, LockStatus.EXPIRED, now);
+        return new SeatLockActionResponseDTO("RELEASED", "Cancelled " + updated + " held seats");
     }
 
     // ===== confirm-group (HELD -> COMMITTED) =====
@@ -205,119 +345,48 @@ public class SeatLockServiceImpl implements SeatLockService {
             return new SeatLockActionResponseDTO("BAD_REQUEST", "Provide bookingId or lockGroupId");
         }
         Instant now = Instant.now();
-        List<SeatLock> held = (req.getBookingId() != null)
-                ? findUnexpiredHeldByBooking(req.getBookingId(), now)
-                : findUnexpiredHeldByGroup(req.getLockGroupId(), now);
+        List<HeldSeat> held = findUnexpiredHeldSeats(req.getBookingId(), req.getLockGroupId(), now);
+        int updated = held.isEmpty() ? 0 : (req.getBookingId() != null)
+                ? seatLockRepository.commitHeldByBooking(req.getBookingId(), now)
+                : seatLockRepository.commitHeldByGroup(req.getLockGroupId(), now);
 
-        if (held.isEmpty()) {
+        if (updated == 0) {
             return new SeatLockActionResponseDTO("NOT_FOUND", "No unexpired HELD locks to confirm");
         }
-        for (SeatLock l : held) {
-            l.setStatus(LockStatus.COMMITTED);
-            l.setUpdatedAt(now);
+        recordTransition(held, updated, LockStatus.COMMITTED, now);
+        return new SeatLockActionResponseDTO("CONFIRMED", "Committed " + updated + " seats");
+    }
+
+    // ===== hold status =====
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<SeatHoldResponseDTO> findHoldStatus(String lockGroupId) {
+        List<SeatLock> held = findUnexpiredHeldByGroup(lockGroupId, Instant.now());
+        if (held.isEmpty()) {
+            return Optional.empty();
         }
-        seatLockRepository.saveAll(held);
-        return new SeatLockActionResponseDTO("CONFIRMED", "Committed " + held.size() + " seats");
+        return Optional.of(new SeatHoldResponseDTO("HELD", "Held " + held.size() + " seats",
+                held.stream().map(SeatLock::getExpiresAt).min(Instant::compareTo).orElse(null),
+                held.stream().map(SeatLock::getSeatNo).toList()));
     }
 
     // ===== active inspection =====
     @Transactional(readOnly = true)
     @Override
     public List<SeatLockDTO> findActive(Long tripId, Long bookingId, String lockGroupId) {
-        Instant now = Instant.now();
-
-        SeatLockCriteria c = new SeatLockCriteria();
-
-        // tripId
-        if (tripId != null) {
-            LongFilter f = new LongFilter(); f.setEquals(tripId);
-            c.setTripId(f);
-        }
-        // bookingId
-        if (bookingId != null) {
-            LongFilter f = new LongFilter(); f.setEquals(bookingId);
-            c.setBookingId(f);
-        }
-        // group prefix via contains "<group>:"
-        if (lockGroupId != null && !lockGroupId.isBlank()) {
-            StringFilter f = new StringFilter(); f.setContains(lockGroupId + ":");
-            c.setIdempotencyKey(f);
-        }
-        // active = (HELD & not expired) OR COMMITTED
-        // We'll return both and let caller filter; here we fetch both in two passes and merge.
-
-        // HELD & not expired
-        SeatLockCriteria hc = c.copy();
-        SeatLockCriteria.LockStatusFilter s = new SeatLockCriteria.LockStatusFilter();
-        s.setEquals(LockStatus.HELD);
-        hc.setStatus(s);
-        InstantFilter exp = new InstantFilter(); exp.setGreaterThan(now);
-        hc.setExpiresAt(exp);
-        List<SeatLock> held = queryService.findByCriteria(hc).stream().map(seatLockMapper::toEntity).collect(Collectors.toList());
-
-        // COMMITTED (no expiry check)
-        SeatLockCriteria cc = c.copy();
-        SeatLockCriteria.LockStatusFilter s2 = new SeatLockCriteria.LockStatusFilter();
-        s2.setEquals(LockStatus.COMMITTED);
-        cc.setStatus(s2);
-        List<SeatLock> committed = queryService.findByCriteria(cc).stream().map(seatLockMapper::toEntity).collect(Collectors.toList());
-
-        // merge unique by id
-        Map<Long, SeatLock> merged = new LinkedHashMap<>();
-        (held == null ? List.<SeatLock>of() : held).forEach(l -> merged.put(l.getId(), l));
-        (committed == null ? List.<SeatLock>of() : committed).forEach(l -> merged.put(l.getId(), l));
-
-        return merged.values().stream().map(seatLockMapper::toDto).toList();
+        return queryService.findActiveSeatLocks(tripId, bookingId, lockGroupId, Instant.now());
     }
 
     // ---------- helpers (Criteria only) ----------
 
-    private boolean hasAnyActiveConflict(Long tripId, List<String> seats, Instant now, String groupPrefix) {
-        for (String seat : seats) {
-            if (isSeatConflicting(tripId, seat, now, groupPrefix)) return true;
-        }
-        return false;
-    }
-
-    private boolean isSeatConflicting(Long tripId, String seat, Instant now, String groupPrefix) {
-        // 1) active HELD & not expired, excluding our own group prefix
-        List<SeatLock> activeHeld = queryService.findActiveLocksByTripAndSeats(tripId, List.of(seat), LockStatus.HELD, now);
-        boolean heldConflict = activeHeld.stream()
-                .anyMatch(l -> l.getIdempotencyKey() == null || !l.getIdempotencyKey().startsWith(groupPrefix + ":"));
-
-        if (heldConflict) return true;
-
-        // 2) any COMMITTED for this seat
-        SeatLockCriteria c = new SeatLockCriteria();
-        LongFilter tripF = new LongFilter(); tripF.setEquals(tripId); c.setTripId(tripF);
-        StringFilter seatF = new StringFilter(); seatF.setEquals(seat); c.setSeatNo(seatF);
-        SeatLockCriteria.LockStatusFilter statusF = new SeatLockCriteria.LockStatusFilter();
-        statusF.setEquals(LockStatus.COMMITTED); c.setStatus(statusF);
-
-        List<SeatLockDTO> committed = queryService.findByCriteria(c);
-        return !committed.isEmpty();
-    }
-
     private List<SeatLock> findUnexpiredHeldByGroup(String group, Instant now) {
-        SeatLockCriteria c = new SeatLockCriteria();
-
-        StringFilter key = new StringFilter(); key.setContains(group + ":"); // LIKE %group:%
-        c.setIdempotencyKey(key);
-
-        SeatLockCriteria.LockStatusFilter status = new SeatLockCriteria.LockStatusFilter();
-        status.setEquals(LockStatus.HELD); c.setStatus(status);
-
-        InstantFilter exp = new InstantFilter(); exp.setGreaterThan(now); c.setExpiresAt(exp);
-
-        List<SeatLockDTO> dtos = queryService.findByCriteria(c);
-        return dtos.stream().map(seatLockMapper::toEntity).toList();
+        return queryService.findUnexpiredHeldByGroup(group, now);
     }
 
-    private List<SeatLock> findUnexpiredHeldByBooking(Long bookingId, Instant now) {
-        // Reuse existing helper:
-        return queryService.findByBookingId(bookingId).stream()
-                .filter(l -> l.getStatus() == LockStatus.HELD && l.getExpiresAt() != null && l.getExpiresAt().isAfter(now))
-                .toList();
+    private List<HeldSeat> findUnexpiredHeldSeats(Long bookingId, String group, Instant now) {
+        return (bookingId != null)
+                ? seatLockRepository.findUnexpiredHeldSeatsByBooking(bookingId, now)
+                : seatLockRepository.findUnexpiredHeldSeatsByGroup(group, now);
     }
 
     // ===== Legacy interface methods (for backward compatibility) =====
@@ -325,7 +394,10 @@ public class SeatLockServiceImpl implements SeatLockService {
     @Override
     public SeatLockResponseDTO tryLockSeats(SeatLockRequestDTO request) {
         LOG.debug("Legacy tryLockSeats called - converting to tryHold");
-        
+        return toLockResponse(request, tryHold(toHoldRequest(request)));
+    }
+
+    static SeatHoldRequestDTO toHoldRequest(SeatLockRequestDTO request) {
         // Convert legacy request to new format
         SeatHoldRequestDTO holdRequest = new SeatHoldRequestDTO();
         holdRequest.setTripId(request.getTripId());
@@ -334,9 +406,10 @@ public class SeatLockServiceImpl implements SeatLockService {
         holdRequest.setIdemKey(request.getIdemKey());
         holdRequest.setUserId(request.getUserId()); // Not available in legacy request
         holdRequest.setHoldTtlSec(request.getHoldTtlSec()); // Use default
+        return holdRequest;
+    }
 
-        SeatHoldResponseDTO holdResponse = tryHold(holdRequest);
-        
+    static SeatLockResponseDTO toLockResponse(SeatLockRequestDTO request, SeatHoldResponseDTO holdResponse) {
         // Convert response back to legacy format
         SeatLockResponseDTO response = new SeatLockResponseDTO();
         response.setStatus(holdResponse.getStatus());
@@ -374,7 +447,10 @@ public class SeatLockServiceImpl implements SeatLockService {
     @Override
     public SeatValidateLockResponseDTO validateAndLockSeats(SeatValidateLockRequestDTO request) {
         LOG.debug("Legacy validateAndLockSeats called - using tryHold with validation");
-        
+        return toValidateLockResponse(request, tryHold(toHoldRequest(request)));
+    }
+
+    static SeatHoldRequestDTO toHoldRequest(SeatValidateLockRequestDTO request) {
         // Convert to hold request for now - this is a simplified implementation
         SeatHoldRequestDTO holdRequest = new SeatHoldRequestDTO();
         holdRequest.setTripId(request.getTripId());
@@ -383,9 +459,11 @@ public class SeatLockServiceImpl implements SeatLockService {
         holdRequest.setIdemKey(request.getIdemKey());
         holdRequest.setUserId(null);
         holdRequest.setHoldTtlSec(null);
+        return holdRequest;
+    }
 
-        SeatHoldResponseDTO holdResponse = tryHold(holdRequest);
-        
+    static SeatValidateLockResponseDTO toValidateLockResponse(SeatValidateLockRequestDTO request,
+            SeatHoldResponseDTO holdResponse) {
         // Convert to validate response
         SeatValidateLockResponseDTO response = new SeatValidateLockResponseDTO();
         response.setStatus(holdResponse.getStatus());
@@ -410,8 +488,18 @@ public class SeatLockServiceImpl implements SeatLockService {
             // Check if trip exists
             tripRepository.findById(request.getTripId())
                     .orElseThrow(() -> new EntityNotFoundException("Trip not found: " + request.getTripId()));
-            
-            // For now, just return validated status - would need actual seat validation logic
+
+            // Availability from seat_lock, not the per-instance index; holds of the caller's own group are not conflicts
+            List<String> seats = request.getSeatNumbers() == null ? List.of() : request.getSeatNumbers().stream()
+                    .map(SeatLockServiceImpl::normSeat).filter(Objects::nonNull).distinct().toList();
+            Set<String> conflicts = seats.isEmpty() ? Set.of()
+                    : queryService.findConflictingSeatNos(request.getTripId(), seats, Instant.now(), request.getIdemKey());
+            List<String> occupied = seats.stream().filter(conflicts::contains).toList();
+            if (!occupied.isEmpty()) {
+                return new SeatValidateLockResponseDTO("REJECTED",
+                        "Seat not available: " + String.join(", ", occupied), request.getTripId());
+            }
+
             SeatValidateLockResponseDTO response = new SeatValidateLockResponseDTO();
             response.setStatus("VALIDATED");
             response.setMessage("Seats validation completed");
@@ -424,88 +512,122 @@ public class SeatLockServiceImpl implements SeatLockService {
         }
     }
 
-    // ===== reclaim-expired-seats =====
+    /**
+     * Decides which seats of a trip a reclaim loses to another lock group.
+     */
+    @FunctionalInterface
+    interface SeatClaim {
+        /**
+         * @param tripId  the trip, row-locked by the caller's transaction.
+         * @param seats   the seats to reclaim.
+         * @param group   the lock group reclaiming them (nullable).
+         * @param now     the reference time for hold expiry.
+         * @param expires the expiry of the reclaimed holds.
+         * @return the seats another group holds or has committed.
+         */
+        Set<String> taken(Long tripId, Set<String> seats, String group, Instant now, Instant expires);
+    }
+
+    // ===== reclaim-expired-seats (set-based) =====
     @Override
-    public SeatLockActionResponseDTO reclaimExpiredSeats(ConfirmGroupRequestDTO req) {
+    public SeatReclaimResponseDTO reclaimExpiredSeats(ConfirmGroupRequestDTO req) {
+        return reclaimExpiredSeats(req, (tripId, seats, group, now, expires) ->
+                queryService.findConflictingSeatNos(tripId, seats, now, group));
+    }
+
+    /**
+     * Reclaim expired seats for a booking, asking {@code claim} which seats were lost.
+     *
+     * @param req   the reclaim seats request containing booking details.
+     * @param claim the seats of each trip lost to other groups.
+     * @return the reclaim response listing reclaimed and lost seats per trip.
+     */
+    SeatReclaimResponseDTO reclaimExpiredSeats(ConfirmGroupRequestDTO req, SeatClaim claim) {
         if (req.getBookingId() == null) {
-            return new SeatLockActionResponseDTO("BAD_REQUEST", "Provide bookingId");
+            return new SeatReclaimResponseDTO("BAD_REQUEST", "Provide bookingId", null, List.of());
         }
-        
+        Long bookingId = req.getBookingId();
         Instant now = Instant.now();
-        
-        // Find all seatlocks for the booking (regardless of status)
-        List<SeatLock> bookingLocks = queryService.findByBookingId(req.getBookingId());
-        
-        if (bookingLocks.isEmpty()) {
-            return new SeatLockActionResponseDTO("NOT_FOUND", "No seat locks found for booking");
+        Instant expires = now.plusSeconds(180); // 3 minutes TTL
+
+        // (trip, seat) pairs of the booking, regardless of status
+        List<BookingSeat> bookingSeats = seatLockRepository.findSeatsByBooking(bookingId);
+        if (bookingSeats.isEmpty()) {
+            return new SeatReclaimResponseDTO("NOT_FOUND", "No seat locks found for booking", null, List.of());
         }
-        
-        List<SeatLock> reclaimedSeats = new ArrayList<>();
-        
-        for (SeatLock bookingLock : bookingLocks) {
-            // Find expired seatlocks with same seatNo and trip
-            List<SeatLock> expiredLocks = findExpiredLocksOrHeldBySeatAndTrip(
-                bookingLock.getSeatNo(), 
-                bookingLock.getTrip().getId(), 
-                now
-            );
-            
-            for (SeatLock expiredLock : expiredLocks) {
-                // Check if expired lock is not held by other bookingId and is actually expired
-                if (expiredLock.getBookingId() == null || 
-                    expiredLock.getBookingId().equals(req.getBookingId())) {
-                    
-                    // Reclaim the expired seat for current booking
-                    expiredLock.setBookingId(req.getBookingId());
-                    expiredLock.setStatus(LockStatus.HELD);
-                    expiredLock.setExpiresAt(now.plusSeconds(180)); // 3 minutes TTL
-                    expiredLock.setUpdatedAt(now);
-                    reclaimedSeats.add(expiredLock);
-                }
-            }
+        Map<Long, Set<String>> seatsByTrip = bookingSeats.stream().collect(Collectors.groupingBy(
+                HeldSeat::getTripId, TreeMap::new, Collectors.mapping(HeldSeat::getSeatNo, Collectors.toCollection(LinkedHashSet::new))));
+
+        // Serialize with concurrent holds on the same trips until commit
+        List<Long> tripIds = List.copyOf(seatsByTrip.keySet());
+        if (!tripSeatLocks.lockForTransaction(tripIds)) {
+            return new SeatReclaimResponseDTO("REJECTED", "Trip is busy, please retry", null, List.of());
         }
-        
-        if (reclaimedSeats.isEmpty()) {
-            return new SeatLockActionResponseDTO("NOT_FOUND", "No expired seats available to reclaim");
+        tripIds.forEach(tripRepository::findByIdForUpdate);
+
+        // Seats the booking still holds or has committed are its own: neither reclaimed nor lost
+        Map<Long, Set<String>> ownByTrip = bookingSeats.stream()
+                .filter(s -> s.getStatus() == LockStatus.COMMITTED || (s.getStatus() == LockStatus.HELD && s.getExpiresAt().isAfter(now)))
+                .collect(Collectors.groupingBy(HeldSeat::getTripId, Collectors.mapping(HeldSeat::getSeatNo, Collectors.toSet())));
+
+        // Seats taken meanwhile by another group (active HELD or COMMITTED), one query per trip
+        Map<Long, Set<String>> lostByTrip = new HashMap<>();
+        seatsByTrip.forEach((tripId, seats) -> {
+            Set<String> wanted = new LinkedHashSet<>(seats);
+            wanted.removeAll(ownByTrip.getOrDefault(tripId, Set.of()));
+            lostByTrip.put(tripId, wanted.isEmpty() ? Set.of() : claim.taken(
+                    tripId, wanted, bookingSeats.stream()
+                            .filter(s -> tripId.equals(s.getTripId()))
+                            .map(HeldSeat::getLockGroupId).filter(Objects::nonNull).findFirst().orElse(null), now, expires));
+        });
+
+        // Expired or lapsed rows of every (trip, seat) pair in one query, then one conditional update
+        List<ReclaimableSeat> candidates = seatLockRepository.findReclaimableSeats(
+                        tripIds, seatsByTrip.values().stream().flatMap(Set::stream).collect(Collectors.toSet()), bookingId, now)
+                .stream()
+                .filter(r -> seatsByTrip.get(r.getTripId()).contains(r.getSeatNo()))
+                .filter(r -> !lostByTrip.get(r.getTripId()).contains(r.getSeatNo()))
+                .toList();
+        List<SeatLockRef> reclaimed = List.copyOf(candidates);
+        if (!candidates.isEmpty()) {
+            // one update per status read, so the held count only grows by the EXPIRED rows won back
+            Map<LockStatus, List<Long>> idsByStatus = candidates.stream().collect(Collectors.groupingBy(
+                    ReclaimableSeat::getStatus, () -> new EnumMap<>(LockStatus.class), Collectors.mapping(SeatLockRef::getId, Collectors.toList())));
+            int updated = 0;
+            for (Map.Entry<LockStatus, List<Long>> e : idsByStatus.entrySet()) {
+                updated += seatLockRepository.reclaimByIdIn(e.getValue(), e.getKey(), bookingId, expires, now);
+            }
+            if (updated == candidates.size()) {
+                tripOccupancyService.adjust(candidates.stream().filter(c -> c.getStatus() == LockStatus.EXPIRED).toList(),
+                        SeatLockRef::getTripId, 1, 0);
+            } else {
+                // a row changed between read and update (e.g. swept or a plain CRUD edit): report what was actually reclaimed
+                reclaimed = seatLockRepository.findHeldByIdIn(candidates.stream().map(SeatLockRef::getId).toList(), bookingId, expires);
+                tripOccupancyService.recompute(tripIds);
+            }
+            publishChanged(reclaimed, HeldSeat::getTripId, HeldSeat::getLockGroupId, HeldSeat::getSeatNo,
+                    LockStatus.HELD, expires);
         }
-        
-        // Save all reclaimed seats
-        seatLockRepository.saveAll(reclaimedSeats);
-        
-        return new SeatLockActionResponseDTO("RECLAIMED", 
-            "Reclaimed " + reclaimedSeats.size() + " expired seats");
-    }
 
-    // Helper method to find expired locks by seat number and trip
-    List<SeatLock> findExpiredLocksOrHeldBySeatAndTrip(String seatNo, Long tripId, Instant now) {
-        SeatLockCriteria c = new SeatLockCriteria();
-        
-        // Trip filter
-        LongFilter tripF = new LongFilter(); 
-        tripF.setEquals(tripId); 
-        c.setTripId(tripF);
-        
-        // Seat number filter
-        StringFilter seatF = new StringFilter(); 
-        seatF.setEquals(seatNo); 
-        c.setSeatNo(seatF);
-        
-        // Status filter for expired or held locks
-        SeatLockCriteria.LockStatusFilter statusF = new SeatLockCriteria.LockStatusFilter();
-        statusF.setIn(Arrays.asList(LockStatus.EXPIRED, LockStatus.HELD)); 
-        c.setStatus(statusF);
-        
-        // For HELD status, find only expired ones
-        InstantFilter exp = new InstantFilter(); 
-        exp.setLessThan(now); // Expired before now
-        c.setExpiresAt(exp);
-        
-        // Not deleted filter
-        BooleanFilter deletedF = new BooleanFilter();
-        deletedF.setEquals(false);
-        c.setIsDeleted(deletedF);
-        
-        List<SeatLockDTO> dtos = queryService.findByCriteria(c);
-        return dtos.stream().map(seatLockMapper::toEntity).toList();
+        Map<Long, Set<String>> reclaimedByTrip = reclaimed.stream().collect(Collectors.groupingBy(
+                HeldSeat::getTripId, Collectors.mapping(HeldSeat::getSeatNo, Collectors.toSet())));
+        List<SeatHoldLegResultDTO> trips = new ArrayList<>();
+        seatsByTrip.forEach((tripId, seats) -> {
+            List<String> won = seats.stream().filter(reclaimedByTrip.getOrDefault(tripId, Set.of())::contains).toList();
+            List<String> lost = seats.stream().filter(lostByTrip.get(tripId)::contains).toList();
+            String status = !won.isEmpty() ? "RECLAIMED" : !lost.isEmpty() ? "LOST" : "UNCHANGED";
+            trips.add(new SeatHoldLegResultDTO(tripId, status, won, lost));
+        });
+
+        long reclaimedSeats = trips.stream().mapToLong(t -> t.getHeldSeats().size()).sum();
+        long lostSeats = trips.stream().mapToLong(t -> t.getUnavailableSeats().size()).sum();
+        if (reclaimedSeats == 0) {
+            return new SeatReclaimResponseDTO("NOT_FOUND",
+                    "No expired seats available to reclaim" + (lostSeats > 0 ? ", " + lostSeats + " lost to another booking" : ""),
+                    null, trips);
+        }
+        return new SeatReclaimResponseDTO("RECLAIMED",
+                "Reclaimed " + reclaimedSeats + " expired seats" + (lostSeats > 0 ? ", " + lostSeats + " lost to another booking" : ""),
+                expires, trips);
     }
 }
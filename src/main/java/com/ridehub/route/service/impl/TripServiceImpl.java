@@ -1,10 +1,14 @@
 package com.ridehub.route.service.impl;
 
 import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.Vehicle;
 import com.ridehub.route.repository.TripRepository;
+import com.ridehub.route.service.TripOccupancyService;
 import com.ridehub.route.service.TripService;
 import com.ridehub.route.service.dto.TripDTO;
 import com.ridehub.route.service.mapper.TripMapper;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,9 +28,12 @@ public class TripServiceImpl implements TripService {
 
     private final TripMapper tripMapper;
 
-    public TripServiceImpl(TripRepository tripRepository, TripMapper tripMapper) {
+    private final TripOccupancyService tripOccupancyService;
+
+    public TripServiceImpl(TripRepository tripRepository, TripMapper tripMapper, TripOccupancyService tripOccupancyService) {
         this.tripRepository = tripRepository;
         this.tripMapper = tripMapper;
+        this.tripOccupancyService = tripOccupancyService;
     }
 
     @Override
@@ -40,8 +47,10 @@ public class TripServiceImpl implements TripService {
     @Override
     public TripDTO update(TripDTO tripDTO) {
         LOG.debug("Request to update Trip : {}", tripDTO);
+        Long previousVehicleId = tripRepository.findById(tripDTO.getId()).map(TripServiceImpl::vehicleId).orElse(null);
         Trip trip = tripMapper.toEntity(tripDTO);
         trip = tripRepository.save(trip);
+        recomputeOccupancyOnVehicleChange(trip, previousVehicleId);
         return tripMapper.toDto(trip);
     }
 
@@ -52,14 +61,27 @@ public class TripServiceImpl implements TripService {
         return tripRepository
             .findById(tripDTO.getId())
             .map(existingTrip -> {
+                Long previousVehicleId = vehicleId(existingTrip);
                 tripMapper.partialUpdate(existingTrip, tripDTO);
-
-                return existingTrip;
+                Trip trip = tripRepository.save(existingTrip);
+                recomputeOccupancyOnVehicleChange(trip, previousVehicleId);
+                return trip;
             })
-            .map(tripRepository::save)
             .map(tripMapper::toDto);
     }
 
+    // trip_occupancy keeps the seat count of the vehicle, taken when the trip's row was written
+    private void recomputeOccupancyOnVehicleChange(Trip trip, Long previousVehicleId) {
+        if (!Objects.equals(previousVehicleId, vehicleId(trip))) {
+            tripOccupancyService.recompute(List.of(trip.getId()));
+        }
+    }
+
+    private static Long vehicleId(Trip trip) {
+        Vehicle vehicle = trip.getVehicle();
+        return vehicle == null ? null : vehicle.getId();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<TripDTO> findOne(Long id) {
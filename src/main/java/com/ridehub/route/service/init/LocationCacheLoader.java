@@ -17,20 +17,26 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ridehub.route.helper.TextUtils;
+import com.ridehub.route.service.ScheduledJobLockService;
 
 import jakarta.annotation.PostConstruct;
 
 @Service
 public class LocationCacheLoader {
 
+    private static final String JOB_NAME = "location-cache";
+
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ScheduledJobLockService scheduledJobLockService;
 
     private final HttpClient httpClient = HttpClient.newHttpClient();
 
-    public LocationCacheLoader(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+    public LocationCacheLoader(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+            ScheduledJobLockService scheduledJobLockService) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.scheduledJobLockService = scheduledJobLockService;
     }
 
     // 1) Run once on startup
@@ -42,7 +48,8 @@ public class LocationCacheLoader {
     // 2) Run every day at 1:00 AM
     @Scheduled(cron = "0 0 */2 * * ?", zone = "Asia/Ho_Chi_Minh")
     public void dailyJob() {
-        reloadLocations();
+        // once per cluster; the cache lives in the shared Redis
+        scheduledJobLockService.runExclusively(JOB_NAME, this::reloadLocations);
     }
 
     // Your shared logic
@@ -34,6 +34,7 @@ public interface TripMapper extends EntityMapper<TripDTO, Trip> {
     @Mapping(target = "slot", source = "slot", qualifiedByName = "scheduleTimeSlotId")
     @Mapping(target = "driver", source = "driver", qualifiedByName = "driverId")
     @Mapping(target = "attendant", source = "attendant", qualifiedByName = "attendantId")
+    @Mapping(target = "occupancy", ignore = true)
     TripDTO toDto(Trip s);
 
     /*
@@ -1,13 +1,19 @@
 package com.ridehub.route.web.rest;
 
+import com.ridehub.route.service.AutoScheduleJobService;
 import com.ridehub.route.service.AutoScheduleService;
+import com.ridehub.route.service.TripPlanner;
+import com.ridehub.route.service.dto.AutoScheduleJobDTO;
+import com.ridehub.route.service.dto.ScheduledJobLockDTO;
+import com.ridehub.route.web.rest.errors.BadRequestAlertException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for auto-scheduling trips.
@@ -19,48 +25,58 @@ public class AutoScheduleResource {
 
     private static final Logger LOG = LoggerFactory.getLogger(AutoScheduleResource.class);
 
+    private static final String ENTITY_NAME = "autoSchedule";
+
+    private static final int MAX_PLAN_DAYS = 366;
+
     private final AutoScheduleService autoScheduleService;
+    private final AutoScheduleJobService autoScheduleJobService;
 
-    public AutoScheduleResource(AutoScheduleService autoScheduleService) {
+    public AutoScheduleResource(AutoScheduleService autoScheduleService, AutoScheduleJobService autoScheduleJobService) {
         this.autoScheduleService = autoScheduleService;
+        this.autoScheduleJobService = autoScheduleJobService;
     }
 
     /**
-     * POST /api/auto-schedule/trigger : Manually trigger auto-scheduling process
+     * POST /api/auto-schedule/trigger : Start auto-scheduling in the background
      *
-     * @return the ResponseEntity with status 200 (OK) and with auto-schedule result
+     * @return the ResponseEntity with status 202 (Accepted) and the started job, or the job already in flight
      */
     @PostMapping("/trigger")
-    @Operation(summary = "Manually trigger auto-scheduling process", description = "Triggers the auto-scheduling process to create trips for active schedules")
-    public ResponseEntity<AutoScheduleResponse> triggerAutoSchedule() {
+    @Operation(summary = "Trigger auto-scheduling in the background", description = "Starts a job that creates trips for active schedules and returns it, or returns the job already in flight")
+    public ResponseEntity<AutoScheduleJobDTO> triggerAutoSchedule() {
         LOG.info("REST request to trigger auto-scheduling");
-        
-        try {
-            AutoScheduleService.AutoScheduleResult result = autoScheduleService.createTripsForActiveSchedules();
-            
-            AutoScheduleResponse response = new AutoScheduleResponse(
-                true,
-                "Auto-scheduling completed successfully",
-                result.getSchedulesProcessed(),
-                result.getTripsCreated(),
-                result.getTripsBySchedule()
-            );
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            LOG.error("Error during auto-scheduling: {}", e.getMessage(), e);
-            
-            AutoScheduleResponse response = new AutoScheduleResponse(
-                false,
-                "Auto-scheduling failed: " + e.getMessage(),
-                0,
-                0,
-                null
-            );
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        AutoScheduleJobDTO job = autoScheduleJobService.trigger();
+        return ResponseEntity.accepted().location(URI.create("/api/auto-schedule/jobs/" + job.getId())).body(job);
+    }
+
+    /**
+     * GET /api/auto-schedule/jobs/:id : Get an auto-scheduling job and its progress
+     *
+     * @param id the id of the job
+     * @return the ResponseEntity with status 200 (OK) and the job, or with status 404 (Not Found)
+     */
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "Get auto-scheduling job progress", description = "Returns schedules done and total, trips created, errors and estimated completion of a job")
+    public ResponseEntity<AutoScheduleJobDTO> getJob(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get auto-schedule job : {}", id);
+        return ResponseUtil.wrapOrNotFound(autoScheduleJobService.findOne(id));
+    }
+
+    /**
+     * GET /api/auto-schedule/plan : Preview the trips auto-scheduling would create, without writing them
+     *
+     * @param days the days to plan after today, 1 to 366; defaults to each route's horizon
+     * @return the ResponseEntity with status 200 (OK) and the trips to create, the existing trips and the orphaned trips
+     */
+    @GetMapping("/plan")
+    @Operation(summary = "Dry-run auto-scheduling", description = "Returns the trips to create, the trips that already exist and the trips no active schedule plans any more")
+    public ResponseEntity<TripPlanner.TripPlan> planAutoSchedule(@RequestParam(name = "days", required = false) Integer days) {
+        LOG.debug("REST request to plan auto-scheduling for {} days", days);
+        if (days != null && (days < 1 || days > MAX_PLAN_DAYS)) {
+            throw new BadRequestAlertException("Days must be between 1 and " + MAX_PLAN_DAYS, ENTITY_NAME, "daysinvalid");
         }
+        return ResponseEntity.ok(autoScheduleService.planTrips(days));
     }
 
     /**
@@ -76,52 +92,13 @@ public class AutoScheduleResource {
         AutoScheduleStatus status = new AutoScheduleStatus(
             "Auto-scheduling service is running",
             "Cron job is configured to run daily at 2:00 AM",
-            System.currentTimeMillis()
+            System.currentTimeMillis(),
+            autoScheduleService.getJobStatus().orElse(null)
         );
         
         return ResponseEntity.ok(status);
     }
 
-    /**
-     * Response class for auto-schedule operations.
-     */
-    public static class AutoScheduleResponse {
-        private final boolean success;
-        private final String message;
-        private final int schedulesProcessed;
-        private final int tripsCreated;
-        private final java.util.Map<String, Integer> tripsBySchedule;
-
-        public AutoScheduleResponse(boolean success, String message, int schedulesProcessed, 
-                               int tripsCreated, java.util.Map<String, Integer> tripsBySchedule) {
-            this.success = success;
-            this.message = message;
-            this.schedulesProcessed = schedulesProcessed;
-            this.tripsCreated = tripsCreated;
-            this.tripsBySchedule = tripsBySchedule;
-        }
-
-        public boolean isSuccess() {
-            return success;
-        }
-
-        public String getMessage() {
-            return message;
-        }
-
-        public int getSchedulesProcessed() {
-            return schedulesProcessed;
-        }
-
-        public int getTripsCreated() {
-            return tripsCreated;
-        }
-
-        public java.util.Map<String, Integer> getTripsBySchedule() {
-            return tripsBySchedule;
-        }
-    }
-
     /**
      * Status class for auto-schedule system.
      */
@@ -129,11 +106,13 @@ public class AutoScheduleResource {
         private final String status;
         private final String cronExpression;
         private final long timestamp;
+        private final ScheduledJobLockDTO lock;
 
-        public AutoScheduleStatus(String status, String cronExpression, long timestamp) {
+        public AutoScheduleStatus(String status, String cronExpression, long timestamp, ScheduledJobLockDTO lock) {
             this.status = status;
             this.cronExpression = cronExpression;
             this.timestamp = timestamp;
+            this.lock = lock;
         }
 
         public String getStatus() {
@@ -147,5 +126,12 @@ public class AutoScheduleResource {
         public long getTimestamp() {
             return timestamp;
         }
+
+        /**
+         * Current lease holder and last run of the job, or {@code null} if it never ran.
+         */
+        public ScheduledJobLockDTO getLock() {
+            return lock;
+        }
     }
 }
\ No newline at end of file
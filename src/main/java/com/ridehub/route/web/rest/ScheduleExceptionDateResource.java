@@ -0,0 +1,98 @@
+package com.ridehub.route.web.rest;
+
+import com.ridehub.route.repository.ScheduleRepository;
+import com.ridehub.route.service.ScheduleExceptionDateService;
+import com.ridehub.route.service.dto.ScheduleExceptionDateDTO;
+import com.ridehub.route.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+
+/**
+ * REST controller for managing the exception dates of a schedule.
+ */
+@RestController
+@RequestMapping("/api/schedules/{scheduleId}/exception-dates")
+public class ScheduleExceptionDateResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduleExceptionDateResource.class);
+
+    private static final String ENTITY_NAME = "msRouteScheduleExceptionDate";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final ScheduleExceptionDateService scheduleExceptionDateService;
+
+    private final ScheduleRepository scheduleRepository;
+
+    public ScheduleExceptionDateResource(ScheduleExceptionDateService scheduleExceptionDateService, ScheduleRepository scheduleRepository) {
+        this.scheduleExceptionDateService = scheduleExceptionDateService;
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    /**
+     * {@code POST  /schedules/:scheduleId/exception-dates} : Add an exception date to a schedule and mark it to regenerate.
+     *
+     * @param scheduleId the id of the schedule.
+     * @param exceptionDateDTO the exception date to add.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new exception date,
+     * or with status {@code 400 (Bad Request)} if it has already an ID or the schedule does not exist.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("")
+    public ResponseEntity<ScheduleExceptionDateDTO> createScheduleExceptionDate(
+        @PathVariable("scheduleId") Long scheduleId,
+        @Valid @RequestBody ScheduleExceptionDateDTO exceptionDateDTO
+    ) throws URISyntaxException {
+        LOG.debug("REST request to add exception date {} to schedule {}", exceptionDateDTO, scheduleId);
+        if (exceptionDateDTO.getId() != null) {
+            throw new BadRequestAlertException("A new scheduleExceptionDate cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        if (!scheduleRepository.existsById(scheduleId)) {
+            throw new BadRequestAlertException("Schedule not found", ENTITY_NAME, "idnotfound");
+        }
+        ScheduleExceptionDateDTO result = scheduleExceptionDateService.save(scheduleId, exceptionDateDTO);
+        return ResponseEntity.created(new URI("/api/schedules/" + scheduleId + "/exception-dates/" + result.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * {@code GET  /schedules/:scheduleId/exception-dates} : get the exception dates of a schedule.
+     *
+     * @param scheduleId the id of the schedule.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the exception dates in date order in body.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<ScheduleExceptionDateDTO>> getScheduleExceptionDates(@PathVariable("scheduleId") Long scheduleId) {
+        LOG.debug("REST request to get the exception dates of schedule {}", scheduleId);
+        return ResponseEntity.ok(scheduleExceptionDateService.findAllBySchedule(scheduleId));
+    }
+
+    /**
+     * {@code DELETE  /schedules/:scheduleId/exception-dates/:id} : remove an exception date from a schedule and mark it to regenerate.
+     *
+     * @param scheduleId the id of the schedule.
+     * @param id the id of the exception date.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 404 (Not Found)}
+     * if the schedule has no such exception date.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteScheduleExceptionDate(@PathVariable("scheduleId") Long scheduleId, @PathVariable("id") Long id) {
+        LOG.debug("REST request to remove exception date {} from schedule {}", id, scheduleId);
+        if (!scheduleExceptionDateService.delete(scheduleId, id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .build();
+    }
+}
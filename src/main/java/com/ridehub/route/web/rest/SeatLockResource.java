@@ -1,6 +1,7 @@
 package com.ridehub.route.web.rest;
 
 import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.service.SeatAvailabilityStream;
 import com.ridehub.route.service.SeatLockQueryService;
 import com.ridehub.route.service.SeatLockService;
 import com.ridehub.route.service.criteria.SeatLockCriteria;
@@ -9,13 +10,17 @@ import com.ridehub.route.service.dto.request.SeatLockRequestDTO;
 import com.ridehub.route.service.dto.request.SeatLockActionRequestDTO;
 import com.ridehub.route.service.dto.request.SeatValidateLockRequestDTO;
 import com.ridehub.route.service.dto.request.SeatHoldRequestDTO;
+import com.ridehub.route.service.dto.request.SeatBatchHoldRequestDTO;
 import com.ridehub.route.service.dto.request.AttachBookingRequestDTO;
 import com.ridehub.route.service.dto.request.CancelGroupRequestDTO;
 import com.ridehub.route.service.dto.request.ConfirmGroupRequestDTO;
+import com.ridehub.route.service.dto.response.SeatAvailabilityUpdateDTO;
 import com.ridehub.route.service.dto.response.SeatLockResponseDTO;
+import com.ridehub.route.service.dto.response.SeatReclaimResponseDTO;
 import com.ridehub.route.service.dto.response.SeatLockActionResponseDTO;
 import com.ridehub.route.service.dto.response.SeatValidateLockResponseDTO;
 import com.ridehub.route.service.dto.response.SeatHoldResponseDTO;
+import com.ridehub.route.service.dto.response.SeatBatchHoldResponseDTO;
 import com.ridehub.route.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -27,8 +32,12 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -52,13 +61,17 @@ public class SeatLockResource {
 
     private final SeatLockQueryService seatLockQueryService;
 
+    private final SeatAvailabilityStream seatAvailabilityStream;
+
     public SeatLockResource(
             SeatLockService seatLockService,
             SeatLockRepository seatLockRepository,
-            SeatLockQueryService seatLockQueryService) {
+            SeatLockQueryService seatLockQueryService,
+            SeatAvailabilityStream seatAvailabilityStream) {
         this.seatLockService = seatLockService;
         this.seatLockRepository = seatLockRepository;
         this.seatLockQueryService = seatLockQueryService;
+        this.seatAvailabilityStream = seatAvailabilityStream;
     }
 
     /**
@@ -328,6 +341,38 @@ public class SeatLockResource {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * {@code POST  /seat-locks/hold-batch} : Hold seats on several trips (round trip or connecting legs)
+     * under one lock group. Either every leg is held or none is.
+     *
+     * @param request the batch hold request containing the legs and lock group info.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the batch hold response.
+     */
+    @PostMapping("/hold-batch")
+    public ResponseEntity<SeatBatchHoldResponseDTO> holdSeatsBatch(@Valid @RequestBody SeatBatchHoldRequestDTO request) {
+        LOG.debug("REST request to hold seats on {} legs: lockGroupId={}, userId={}",
+                request.getLegs() == null ? 0 : request.getLegs().size(), request.getLockGroupId(), request.getUserId());
+
+        if (request.getLegs() == null || request.getLegs().isEmpty()) {
+            throw new BadRequestAlertException("Leg list must not be empty", ENTITY_NAME, "emptylegs");
+        }
+        if (request.getLegs().stream().anyMatch(leg -> leg.getTripId() == null)) {
+            throw new BadRequestAlertException("TripId is required", ENTITY_NAME, "tripidnull");
+        }
+        if (request.getLegs().stream().anyMatch(leg -> leg.getSeatNumbers() == null || leg.getSeatNumbers().isEmpty())) {
+            throw new BadRequestAlertException("Seat list must not be empty", ENTITY_NAME, "emptyseats");
+        }
+        if (request.getLockGroupId() == null || request.getLockGroupId().isBlank()) {
+            throw new BadRequestAlertException("LockGroupId is required", ENTITY_NAME, "lockgroupidnull");
+        }
+        if (request.getIdemKey() == null || request.getIdemKey().isBlank()) {
+            throw new BadRequestAlertException("Idempotency key is required", ENTITY_NAME, "idemkeynull");
+        }
+
+        SeatBatchHoldResponseDTO result = seatLockService.tryHoldBatch(request);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * {@code POST  /seat-locks/attach-booking} : Attach bookingId to a seat hold group.
      *
@@ -410,21 +455,74 @@ public class SeatLockResource {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * {@code GET  /seat-locks/hold-status} : Get the state of a lock group's hold.
+     *
+     * @param lockGroupId the lock group ID.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the hold state
+     * ({@code HELD}, {@code PENDING} or {@code FAILED}), or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/hold-status")
+    public ResponseEntity<SeatHoldResponseDTO> getHoldStatus(@RequestParam String lockGroupId) {
+        LOG.debug("REST request to get hold status of lock group {}", lockGroupId);
+        return ResponseUtil.wrapOrNotFound(seatLockService.findHoldStatus(lockGroupId));
+    }
+
+    /**
+     * {@code GET  /seat-locks/trips/:tripId/stream} : Stream seat state changes of a trip as server-sent events.
+     * <p>
+     * The first {@code seats} event has {@code resync=true}: load the seat map (e.g. from
+     * {@code /seat-locks/active}) once, then apply the deltas of the following events.
+     *
+     * @param tripId the trip to watch.
+     * @return the event stream, or status {@code 503 (Service Unavailable)} when too many streams are open.
+     */
+    @GetMapping(value = "/trips/{tripId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatAvailability(@PathVariable("tripId") Long tripId) {
+        LOG.debug("REST request to stream seat availability of trip: {}", tripId);
+
+        SseEmitter emitter = new SseEmitter(seatAvailabilityStream.getTimeoutMs());
+        SeatAvailabilityStream.Listener listener = new SeatAvailabilityStream.Listener() {
+            @Override
+            public void onUpdate(SeatAvailabilityUpdateDTO update) throws Exception {
+                emitter.send(SseEmitter.event().name("seats").data(update, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void onHeartbeat() throws Exception {
+                emitter.send(SseEmitter.event().comment("ping"));
+            }
+
+            @Override
+            public void onDropped() {
+                emitter.complete();
+            }
+        };
+        emitter.onCompletion(() -> seatAvailabilityStream.unsubscribe(tripId, listener));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> seatAvailabilityStream.unsubscribe(tripId, listener));
+
+        if (!seatAvailabilityStream.subscribe(tripId, listener)) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many seat availability streams");
+        }
+        return emitter;
+    }
+
     /**
      * {@code POST  /seat-locks/reclaim-expired} : Reclaim expired seats for a booking.
      *
      * @param request the reclaim request containing bookingId.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the action response.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the reclaimed and lost seats per trip.
      */
     @PostMapping("/reclaim-expired")
-    public ResponseEntity<SeatLockActionResponseDTO> reclaimExpiredSeats(@Valid @RequestBody ConfirmGroupRequestDTO request) {
+    public ResponseEntity<SeatReclaimResponseDTO> reclaimExpiredSeats(@Valid @RequestBody ConfirmGroupRequestDTO request) {
         LOG.debug("REST request to reclaim expired seats for booking: {}", request.getBookingId());
 
         if (request.getBookingId() == null) {
             throw new BadRequestAlertException("BookingId is required", ENTITY_NAME, "bookingidnull");
         }
 
-        SeatLockActionResponseDTO result = seatLockService.reclaimExpiredSeats(request);
+        SeatReclaimResponseDTO result = seatLockService.reclaimExpiredSeats(request);
         return ResponseEntity.ok(result);
     }
 }
@@ -34,12 +34,12 @@ public class RedisTestContainersSpringContextCustomizerFactory implements Contex
                         beanFactory.registerSingleton(RedisTestContainer.class.getName(), redisBean);
                         // ((DefaultListableBeanFactory)beanFactory).registerDisposableBean(RedisTestContainer.class.getName(), redisBean);
                     }
-                    testValues = testValues.and(
-                        "jhipster.cache.redis.server=redis://" +
+                    String redisUrl =
+                        "redis://" +
                         redisBean.getRedisContainer().getContainerIpAddress() +
                         ":" +
-                        redisBean.getRedisContainer().getMappedPort(6379)
-                    );
+                        redisBean.getRedisContainer().getMappedPort(6379);
+                    testValues = testValues.and("jhipster.cache.redis.server=" + redisUrl).and("spring.data.redis.url=" + redisUrl);
                 }
                 testValues.applyTo(context);
             }
@@ -0,0 +1,80 @@
+package com.ridehub.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.enumeration.AutoScheduleJobStatus;
+import com.ridehub.route.service.dto.AutoScheduleJobDTO;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for {@link AutoScheduleJobService}. The regeneration pass is pushed out of
+ * the tests, so it cannot hold the job lease and make a triggered job skip.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "application.auto-schedule.regeneration-interval-ms=3600000")
+class AutoScheduleJobServiceIT {
+
+    @Autowired
+    private AutoScheduleJobService autoScheduleJobService;
+
+    @Test
+    void runsATriggeredJobInTheBackground() {
+        AutoScheduleJobDTO triggered = autoScheduleJobService.trigger();
+        assertThat(triggered.getId()).isNotNull();
+
+        AutoScheduleJobDTO finished = awaitFinished(triggered.getId());
+
+        assertThat(finished.getStatus()).isEqualTo(AutoScheduleJobStatus.SUCCEEDED);
+        assertThat(finished.getSchedulesDone()).isEqualTo(finished.getSchedulesTotal());
+        assertThat(finished.getStartedAt()).isNotNull();
+        assertThat(finished.getFinishedAt()).isNotNull();
+        assertThat(finished.getEstimatedCompletion()).isNull();
+    }
+
+    @Test
+    void concurrentTriggersGetTheSameJob() throws Exception {
+        int triggers = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(triggers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Long> ids = new ArrayList<>();
+        try {
+            List<Future<AutoScheduleJobDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < triggers; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return autoScheduleJobService.trigger();
+                }));
+            }
+            start.countDown();
+            for (Future<AutoScheduleJobDTO> future : futures) {
+                ids.add(future.get().getId());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(ids).doesNotContainNull().containsOnly(ids.get(0));
+        assertThat(awaitFinished(ids.get(0)).getStatus()).isEqualTo(AutoScheduleJobStatus.SUCCEEDED);
+    }
+
+    private AutoScheduleJobDTO awaitFinished(Long id) {
+        return await()
+            .atMost(Duration.ofSeconds(30))
+            .until(
+                () -> autoScheduleJobService.findOne(id).orElseThrow(),
+                job -> EnumSet.of(AutoScheduleJobStatus.SUCCEEDED, AutoScheduleJobStatus.FAILED, AutoScheduleJobStatus.SKIPPED).contains(job.getStatus())
+            );
+    }
+}
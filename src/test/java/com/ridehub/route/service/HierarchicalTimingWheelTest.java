@@ -0,0 +1,74 @@
+package com.ridehub.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void keyFiresOnceItsDeadlinePassed() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 6, 4, START);
+        wheel.schedule("a", START + 2_500);
+
+        assertThat(wheel.advance(START + 2_999)).isEmpty();
+        assertThat(wheel.advance(START + 3_000)).containsExactly("a");
+        assertThat(wheel.advance(START + 10_000)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 6, 4, START);
+        wheel.schedule("late", START - 60_000);
+
+        assertThat(wheel.advance(START + 1_000)).containsExactly("late");
+    }
+
+    @Test
+    void cancelledAndRescheduledKeysFollowTheirLatestDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 6, 4, START);
+        wheel.schedule("cancelled", START + 5_000);
+        wheel.schedule("moved", START + 5_000);
+        wheel.cancel("cancelled");
+        wheel.schedule("moved", START + 200_000);
+
+        assertThat(wheel.advance(START + 199_000)).isEmpty();
+        assertThat(wheel.advance(START + 200_000)).containsExactly("moved");
+    }
+
+    @Test
+    void keysCascadeThroughLevelsAtTheRightTick() {
+        // 2 bits per level keeps the wheel small so every level and the overflow slot are used
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1000, 2, 3, START);
+        Map<Long, List<Integer>> expected = new TreeMap<>();
+        for (int i = 0; i < 200; i++) {
+            long deadlineTick = START / 1000 + 1 + (i * 7L) % 150;
+            wheel.schedule(i, deadlineTick * 1000);
+            expected.computeIfAbsent(deadlineTick, t -> new ArrayList<>()).add(i);
+        }
+
+        for (long tick = START / 1000 + 1; tick <= START / 1000 + 150; tick++) {
+            List<Integer> due = wheel.advance(tick * 1000);
+            assertThat(due).as("tick %d", tick).containsExactlyInAnyOrderElementsOf(expected.getOrDefault(tick, List.of()));
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void catchingUpAfterAPauseReturnsEverythingDue() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 6, 4, START);
+        wheel.schedule("a", START + 1_000);
+        wheel.schedule("b", START + 90_000);
+        wheel.schedule("c", START + 5_000_000);
+
+        assertThat(wheel.advance(START + 100_000)).containsExactly("a", "b");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
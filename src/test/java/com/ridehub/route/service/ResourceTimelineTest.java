@@ -0,0 +1,54 @@
+package com.ridehub.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ResourceTimelineTest {
+
+    @Test
+    void resourceIsFreeAroundItsBookingsButNotDuringThem() {
+        ResourceTimeline<String> timeline = new ResourceTimeline<>();
+        timeline.book("bus", 100, 200);
+        timeline.book("bus", 300, 400);
+
+        assertThat(timeline.isFree("bus", 0, 100)).isTrue();
+        assertThat(timeline.isFree("bus", 200, 300)).isTrue();
+        assertThat(timeline.isFree("bus", 400, 500)).isTrue();
+        assertThat(timeline.isFree("bus", 150, 160)).isFalse();
+        assertThat(timeline.isFree("bus", 50, 150)).isFalse();
+        assertThat(timeline.isFree("bus", 199, 301)).isFalse();
+        assertThat(timeline.isFree("bus", 0, 1000)).isFalse();
+        assertThat(timeline.isFree("other", 150, 160)).isTrue();
+    }
+
+    @Test
+    void overlappingBookingsAreMerged() {
+        ResourceTimeline<String> timeline = new ResourceTimeline<>();
+        timeline.book("bus", 100, 200);
+        timeline.book("bus", 300, 400);
+        timeline.book("bus", 500, 600);
+        timeline.book("bus", 150, 350);
+
+        assertThat(timeline.size("bus")).isEqualTo(2);
+        assertThat(timeline.isFree("bus", 200, 300)).isFalse();
+        assertThat(timeline.isFree("bus", 400, 500)).isTrue();
+
+        timeline.book("bus", 50, 700);
+        assertThat(timeline.size("bus")).isEqualTo(1);
+        assertThat(timeline.isFree("bus", 650, 700)).isFalse();
+        assertThat(timeline.isFree("bus", 700, 800)).isTrue();
+    }
+
+    @Test
+    void firstFreeSkipsBusyCandidatesInOrder() {
+        ResourceTimeline<Long> timeline = new ResourceTimeline<>();
+        timeline.book(1L, 100, 200);
+        timeline.book(2L, 150, 250);
+
+        assertThat(timeline.firstFree(List.of(1L, 2L, 3L), 120, 180)).isEqualTo(3L);
+        assertThat(timeline.firstFree(List.of(1L, 2L, 3L), 200, 300)).isEqualTo(1L);
+        assertThat(timeline.firstFree(List.of(1L, 2L), 120, 180)).isNull();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ridehub.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ScheduleCalendarTest {
+
+    // a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2031, 1, 6);
+
+    @Test
+    void compilesDaysOfWeekIntoAMask() {
+        assertThat(ScheduleCalendar.of("1, 3,7").getMask()).isEqualTo(0b1000101);
+        assertThat(ScheduleCalendar.of("").getMask()).isZero();
+        assertThat(ScheduleCalendar.of(null).dates(MONDAY, MONDAY.plusDays(30))).isEmpty();
+        assertThatThrownBy(() -> ScheduleCalendar.of("0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScheduleCalendar.of("mon")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void expandsOnlyRunningDaysAndSkipsExceptions() {
+        ScheduleCalendar calendar = ScheduleCalendar.of("1,5", List.of(MONDAY.plusDays(7), MONDAY.plusDays(4)));
+
+        assertThat(calendar.dates(MONDAY.plusDays(1), MONDAY.plusDays(21))).containsExactly(
+            MONDAY.plusDays(11),
+            MONDAY.plusDays(14),
+            MONDAY.plusDays(18),
+            MONDAY.plusDays(21)
+        );
+        assertThat(calendar.runsOn(MONDAY)).isTrue();
+        assertThat(calendar.runsOn(MONDAY.plusDays(7))).isFalse();
+        assertThat(calendar.runsOn(MONDAY.plusDays(1))).isFalse();
+        assertThat(calendar.dates(MONDAY.plusDays(1), MONDAY)).isEmpty();
+    }
+
+    @Test
+    void expansionMatchesADayByDayWalk() {
+        Random random = new Random(7);
+        for (int run = 0; run < 200; run++) {
+            StringBuilder days = new StringBuilder();
+            for (int day = 1; day <= 7; day++) {
+                if (random.nextBoolean()) {
+                    days.append(days.isEmpty() ? "" : ",").append(day);
+                }
+            }
+            LocalDate from = MONDAY.plusDays(random.nextInt(14));
+            LocalDate through = from.plusDays(random.nextInt(60));
+            List<LocalDate> exceptions = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                exceptions.add(MONDAY.plusDays(random.nextInt(80)));
+            }
+            ScheduleCalendar calendar = ScheduleCalendar.of(days.toString(), exceptions);
+
+            List<LocalDate> expected = new ArrayList<>();
+            for (LocalDate date = from; !date.isAfter(through); date = date.plusDays(1)) {
+                if (calendar.runsOn(date)) {
+                    expected.add(date);
+                }
+            }
+            assertThat(calendar.dates(from, through)).as("days %s from %s", days, from).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.ridehub.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.repository.ScheduledJobLockRepository;
+import com.ridehub.route.service.dto.ScheduledJobLockDTO;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link ScheduledJobLockService}.
+ */
+@IntegrationTest
+class ScheduledJobLockServiceIT {
+
+    @Autowired
+    private ScheduledJobLockService scheduledJobLockService;
+
+    @Autowired
+    private ScheduledJobLockRepository scheduledJobLockRepository;
+
+    @Test
+    void skipsAJobWhileItsLeaseIsHeld() {
+        String job = "test-" + UUID.randomUUID();
+
+        Optional<Optional<String>> nested = scheduledJobLockService.callExclusively(job, () -> {
+            ScheduledJobLockDTO running = scheduledJobLockService.findStatus(job).orElseThrow();
+            assertThat(running.getLockedBy()).isNotNull();
+            assertThat(running.getLastStatus()).isEqualTo("RUNNING");
+            return scheduledJobLockService.callExclusively(job, () -> "second run");
+        });
+
+        assertThat(nested).contains(Optional.empty());
+        ScheduledJobLockDTO finished = scheduledJobLockService.findStatus(job).orElseThrow();
+        assertThat(finished.getLockedBy()).isNull();
+        assertThat(finished.getLastStatus()).isEqualTo("SUCCEEDED");
+        assertThat(finished.getLastFinishedAt()).isNotNull();
+        assertThat(scheduledJobLockService.runExclusively(job, () -> {})).isTrue();
+
+        scheduledJobLockRepository.deleteById(job);
+    }
+
+    @Test
+    void releasesTheLeaseOfAFailedJob() {
+        String job = "test-" + UUID.randomUUID();
+
+        assertThatThrownBy(() ->
+            scheduledJobLockService.runExclusively(job, () -> {
+                throw new IllegalStateException("boom");
+            })
+        ).isInstanceOf(IllegalStateException.class);
+
+        ScheduledJobLockDTO failed = scheduledJobLockService.findStatus(job).orElseThrow();
+        assertThat(failed.getLockedBy()).isNull();
+        assertThat(failed.getLastStatus()).isEqualTo("FAILED");
+
+        scheduledJobLockRepository.deleteById(job);
+    }
+}
@@ -0,0 +1,216 @@
+package com.ridehub.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+import com.ridehub.route.config.ApplicationProperties;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.service.dto.response.SeatAvailabilityUpdateDTO;
+import com.ridehub.route.service.dto.response.SeatStateDeltaDTO;
+import com.ridehub.route.service.event.SeatLockChangedEvent;
+import com.ridehub.route.service.event.SeatLocksInvalidatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SeatAvailabilityStreamTest {
+
+    private static final Long TRIP_ID = 1L;
+
+    private ApplicationProperties applicationProperties;
+    private SeatAvailabilityStream stream;
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties = new ApplicationProperties();
+        stream = new SeatAvailabilityStream(applicationProperties, new SimpleMeterRegistry(), Runnable::run);
+    }
+
+    @Test
+    void subscriptionStartsWithResync() {
+        RecordingListener listener = new RecordingListener();
+
+        assertThat(stream.subscribe(TRIP_ID, listener)).isTrue();
+
+        assertThat(listener.updates).singleElement().satisfies(u -> {
+            assertThat(u.isResync()).isTrue();
+            assertThat(u.getSeats()).isEmpty();
+        });
+    }
+
+    @Test
+    void subscribeDoesNotWaitForTheInitialResync() throws Exception {
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        CountDownLatch busy = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener();
+        try {
+            SeatAvailabilityStream async = new SeatAvailabilityStream(applicationProperties, new SimpleMeterRegistry(), sender);
+            sender.execute(() -> {
+                try {
+                    busy.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            assertThat(async.subscribe(TRIP_ID, listener)).isTrue();
+            assertThat(listener.updates).isEmpty();
+
+            busy.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> listener.updates.size() == 1);
+        } finally {
+            busy.countDown();
+            sender.shutdownNow();
+        }
+    }
+
+    @Test
+    void listenerFailingTheInitialResyncIsDropped() {
+        RecordingListener listener = new RecordingListener();
+        listener.failing = true;
+
+        assertThat(stream.subscribe(TRIP_ID, listener)).isTrue();
+
+        assertThat(listener.dropped).isTrue();
+        listener.failing = false;
+        stream.onSeatLockChanged(new SeatLockChangedEvent(TRIP_ID, "g1", List.of("A1"), LockStatus.HELD, Instant.now()));
+        stream.flush();
+        assertThat(listener.updates).isEmpty();
+    }
+
+    @Test
+    void burstIsCoalescedToLatestStatePerSeat() {
+        RecordingListener listener = new RecordingListener();
+        stream.subscribe(TRIP_ID, listener);
+        listener.updates.clear();
+        Instant expires = Instant.now().plusSeconds(60);
+
+        stream.onSeatLockChanged(new SeatLockChangedEvent(TRIP_ID, "g1", List.of("A1", "A2"), LockStatus.HELD, expires));
+        stream.onSeatLockChanged(new SeatLockChangedEvent(TRIP_ID, "g1", List.of("A1"), LockStatus.EXPIRED, Instant.now()));
+        stream.onSeatLockChanged(new SeatLockChangedEvent(TRIP_ID, "g2", List.of("A2"), LockStatus.COMMITTED, Instant.now()));
+        stream.flush();
+        stream.flush();
+
+        assertThat(listener.updates).singleElement().satisfies(u -> {
+            assertThat(u.isResync()).isFalse();
+            assertThat(u.getSeats()).extracting(SeatStateDeltaDTO::getSeatNo, SeatStateDeltaDTO::getState)
+                .containsExactly(tuple("A1", "RELEASED"), tuple("A2", "COMMITTED"));
+        });
+    }
+
+    @Test
+    void invalidationSendsResync() {
+        RecordingListener listener = new RecordingListener();
+        stream.subscribe(TRIP_ID, listener);
+        listener.updates.clear();
+
+        stream.onSeatLockChanged(new SeatLockChangedEvent(TRIP_ID, "g1", List.of("B1"), LockStatus.HELD, Instant.now()));
+        stream.onSeatLocksInvalidated(new SeatLocksInvalidatedEvent(TRIP_ID));
+        stream.flush();
+
+        assertThat(listener.updates).singleElement().satisfies(u -> {
+            assertThat(u.isResync()).isTrue();
+            assertThat(u.getSeats()).isEmpty();
+        });
+    }
+
+    @Test
+    void changesOfUnwatchedTripsAreIgnored() {
+        RecordingListener listener = new RecordingListener();
+        stream.subscribe(TRIP_ID, listener);
+        listener.updates.clear();
+
+        stream.onSeatLockChanged(new SeatLockChangedEvent(2L, "g1", List.of("C1"), LockStatus.HELD, Instant.now()));
+        stream.flush();
+
+        assertThat(listener.updates).isEmpty();
+    }
+
+    @Test
+    void failingListenerIsDropped() {
+        RecordingListener listener = new RecordingListener();
+        stream.subscribe(TRIP_ID, listener);
+        listener.failing = true;
+
+        stream.heartbeat();
+        listener.failing = false;
+        stream.onSeatLockChanged(new SeatLockChangedEvent(TRIP_ID, "g1", List.of("D1"), LockStatus.HELD, Instant.now()));
+        stream.flush();
+
+        assertThat(listener.updates).hasSize(1); // only the initial resync
+    }
+
+    @Test
+    void subscriberLimitIsEnforced() {
+        applicationProperties.getSeatLock().getStream().setMaxSubscribers(1);
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+
+        assertThat(stream.subscribe(TRIP_ID, first)).isTrue();
+        assertThat(stream.subscribe(TRIP_ID, second)).isFalse();
+        stream.unsubscribe(TRIP_ID, first);
+        assertThat(stream.subscribe(TRIP_ID, second)).isTrue();
+    }
+
+    @Test
+    void listenerThatDoesNotTakeASendInTimeIsDropped() {
+        applicationProperties.getSeatLock().getStream().setSendTimeoutMs(100);
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        RecordingListener listener = new RecordingListener();
+        listener.stall = new CountDownLatch(1);
+        try {
+            SeatAvailabilityStream async = new SeatAvailabilityStream(applicationProperties, new SimpleMeterRegistry(), sender);
+            assertThat(async.subscribe(TRIP_ID, listener)).isTrue();
+
+            async.heartbeat();
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> listener.dropped);
+            listener.stall.countDown();
+            async.onSeatLockChanged(new SeatLockChangedEvent(TRIP_ID, "g1", List.of("E1"), LockStatus.HELD, Instant.now()));
+            async.flush();
+            assertThat(listener.updates).hasSize(1); // only the initial resync
+        } finally {
+            listener.stall.countDown();
+            sender.shutdownNow();
+        }
+    }
+
+    private static class RecordingListener implements SeatAvailabilityStream.Listener {
+
+        final List<SeatAvailabilityUpdateDTO> updates = new CopyOnWriteArrayList<>();
+        boolean failing;
+        CountDownLatch stall;
+        volatile boolean dropped;
+
+        @Override
+        public void onUpdate(SeatAvailabilityUpdateDTO update) throws Exception {
+            if (failing) {
+                throw new IllegalStateException("gone");
+            }
+            updates.add(update);
+        }
+
+        @Override
+        public void onHeartbeat() throws Exception {
+            if (failing) {
+                throw new IllegalStateException("gone");
+            }
+            if (stall != null) {
+                stall.await();
+            }
+        }
+
+        @Override
+        public void onDropped() {
+            dropped = true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ridehub.route.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.domain.Route;
+import com.ridehub.route.domain.Schedule;
+import com.ridehub.route.domain.ScheduleTimeSlot;
+import com.ridehub.route.repository.TripRepositoryWithBulkOperations.TripSlotDate;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class TripPlannerTest {
+
+    // a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2031, 1, 6);
+
+    @Test
+    void plansEachSlotOnTheScheduledDaysWithinTheScheduleDates() {
+        Schedule schedule = schedule("1,3").startDate(MONDAY.plusDays(1)).endDate(MONDAY.plusDays(9));
+
+        List<TripPlanner.PlannedTrip> trips = TripPlanner.tripsOf(schedule, MONDAY, MONDAY.plusDays(13), ZoneOffset.UTC);
+
+        assertThat(trips)
+            .extracting(TripPlanner.PlannedTrip::departureDate)
+            .containsExactly(MONDAY.plusDays(2), MONDAY.plusDays(2), MONDAY.plusDays(7), MONDAY.plusDays(7), MONDAY.plusDays(9), MONDAY.plusDays(9));
+        assertThat(trips.get(0).slotId()).isEqualTo(10L);
+        assertThat(trips.get(0).tripCode()).isEqualTo("TRP-S1-20310108-10");
+        assertThat(trips.get(0).departureTime()).isEqualTo(Instant.parse("2031-01-08T08:00:00Z"));
+    }
+
+    @Test
+    void overnightTripsArriveTheNextDay() {
+        TripPlanner.PlannedTrip night = TripPlanner.tripsOf(schedule("1"), MONDAY, MONDAY, ZoneOffset.UTC).get(1);
+
+        assertThat(night.departureTime()).isEqualTo(Instant.parse("2031-01-06T22:00:00Z"));
+        assertThat(night.arrivalTime()).isEqualTo(Instant.parse("2031-01-07T05:30:00Z"));
+    }
+
+    @Test
+    void splitsPlannedTripsByExistenceAndReportsOrphans() {
+        Schedule schedule = schedule("1,2");
+        TripSlotDate existing = new TripSlotDate(1L, 10L, MONDAY);
+        TripSlotDate removedSlot = new TripSlotDate(1L, 99L, MONDAY);
+        TripSlotDate beyondHorizon = new TripSlotDate(1L, 99L, MONDAY.plusDays(5));
+        TripSlotDate otherRoute = new TripSlotDate(2L, 10L, MONDAY);
+
+        TripPlanner.TripPlan plan = TripPlanner.plan(
+            List.of(schedule),
+            s -> ScheduleCalendar.of(s.getDaysOfWeek()),
+            MONDAY,
+            s -> MONDAY.plusDays(1),
+            Set.of(existing, removedSlot, beyondHorizon, otherRoute),
+            ZoneOffset.UTC
+        );
+
+        assertThat(plan.existing()).extracting(TripPlanner.PlannedTrip::key).containsExactly(existing);
+        assertThat(plan.toCreate()).hasSize(3);
+        assertThat(plan.orphaned()).containsExactly(removedSlot);
+    }
+
+    private static Schedule schedule(String daysOfWeek) {
+        return new Schedule()
+            .id(1L)
+            .scheduleCode("S1")
+            .daysOfWeek(daysOfWeek)
+            .route(new Route().id(1L))
+            .addTimeSlots(new ScheduleTimeSlot().id(11L).departureTime(LocalTime.of(22, 0)).arrivalTime(LocalTime.of(5, 30)))
+            .addTimeSlots(new ScheduleTimeSlot().id(10L).departureTime(LocalTime.of(8, 0)).arrivalTime(LocalTime.of(12, 0)));
+    }
+}
@@ -81,6 +81,7 @@ class SeatLockCriteriaTest {
         seatLockCriteria.status();
         seatLockCriteria.expiresAt();
         seatLockCriteria.idempotencyKey();
+        seatLockCriteria.lockGroupId();
         seatLockCriteria.bookingId();
         seatLockCriteria.createdAt();
         seatLockCriteria.updatedAt();
@@ -100,6 +101,7 @@ class SeatLockCriteriaTest {
                 condition.apply(criteria.getStatus()) &&
                 condition.apply(criteria.getExpiresAt()) &&
                 condition.apply(criteria.getIdempotencyKey()) &&
+                condition.apply(criteria.getLockGroupId()) &&
                 condition.apply(criteria.getBookingId()) &&
                 condition.apply(criteria.getCreatedAt()) &&
                 condition.apply(criteria.getUpdatedAt()) &&
@@ -121,6 +123,7 @@ class SeatLockCriteriaTest {
                 condition.apply(criteria.getStatus(), copy.getStatus()) &&
                 condition.apply(criteria.getExpiresAt(), copy.getExpiresAt()) &&
                 condition.apply(criteria.getIdempotencyKey(), copy.getIdempotencyKey()) &&
+                condition.apply(criteria.getLockGroupId(), copy.getLockGroupId()) &&
                 condition.apply(criteria.getBookingId(), copy.getBookingId()) &&
                 condition.apply(criteria.getCreatedAt(), copy.getCreatedAt()) &&
                 condition.apply(criteria.getUpdatedAt(), copy.getUpdatedAt()) &&
@@ -0,0 +1,175 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.Route;
+import com.ridehub.route.domain.Schedule;
+import com.ridehub.route.domain.ScheduleGenerationState;
+import com.ridehub.route.domain.ScheduleTimeSlot;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
+import com.ridehub.route.service.AutoScheduleService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the route partitions of {@link AutoScheduleService}: partitions run
+ * concurrently, each in its own transaction, and move only the watermarks of their own schedules.
+ */
+@IntegrationTest
+@TestPropertySource(properties = { "application.auto-schedule.parallelism=2", "application.auto-schedule.regeneration-interval-ms=3600000" })
+class AutoScheduleParallelGenerationIT {
+
+    @Autowired
+    private AutoScheduleService autoScheduleService;
+
+    @Autowired
+    private ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    private final List<Long> routeIds = new ArrayList<>();
+
+    private final List<Long> scheduleIds = new ArrayList<>();
+
+    private final List<Long> slotIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        tx.executeWithoutResult(status -> {
+            scheduleGenerationStateRepository.deleteAllById(scheduleIds);
+            slotIds.forEach(id -> em.remove(em.find(ScheduleTimeSlot.class, id)));
+            scheduleIds.forEach(id -> em.remove(em.find(Schedule.class, id)));
+            routeIds.forEach(id -> em.remove(em.find(Route.class, id)));
+        });
+        slotIds.clear();
+        scheduleIds.clear();
+        routeIds.clear();
+    }
+
+    @Test
+    void partitionsRunConcurrentlyAndAdvanceTheirOwnWatermarks() {
+        LocalDate today = LocalDate.now();
+        Long shortHorizon = createSchedule(createRoute(2));
+        Long longHorizon = createSchedule(createRoute(5));
+        // a slot that arrives as it departs never gets a vehicle, so its schedule is only marked as tried
+        Long unassigned = createSchedule(createRoute(3));
+        createSlot(unassigned, LocalTime.of(10, 0), LocalTime.of(10, 0));
+
+        // the first two partitions to complete wait for each other, which only works on two threads
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        AtomicBoolean concurrent = new AtomicBoolean();
+        Map<Long, String> threadByRoute = new ConcurrentHashMap<>();
+        AutoScheduleService.AutoScheduleResult result = autoScheduleService.createTripsForActiveSchedules(
+            new AutoScheduleService.Progress() {
+                @Override
+                public void partitionCompleted(AutoScheduleService.PartitionResult partition, int schedules) {
+                    threadByRoute.put(partition.routeId(), Thread.currentThread().getName());
+                    bothRunning.countDown();
+                    try {
+                        if (bothRunning.await(30, TimeUnit.SECONDS)) {
+                            concurrent.set(true);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        );
+
+        assertThat(result.isSkipped()).isFalse();
+        assertThat(concurrent).isTrue();
+        assertThat(result.getPartitions())
+            .filteredOn(partition -> routeIds.contains(partition.routeId()))
+            .extracting(AutoScheduleService.PartitionResult::routeId, AutoScheduleService.PartitionResult::error)
+            .containsExactlyInAnyOrder(
+                tuple(routeIds.get(0), null),
+                tuple(routeIds.get(1), null),
+                tuple(routeIds.get(2), null)
+            );
+        assertThat(routeIds).allSatisfy(routeId -> assertThat(threadByRoute.get(routeId)).startsWith("auto-schedule-"));
+
+        assertThat(state(shortHorizon).getGeneratedThrough()).isEqualTo(today.plusDays(2));
+        assertThat(state(longHorizon).getGeneratedThrough()).isEqualTo(today.plusDays(5));
+        // retried from today by the next daily run, not by every regeneration pass
+        assertThat(state(unassigned).getGeneratedThrough()).isEqualTo(today.minusDays(1));
+        assertThat(scheduleGenerationStateRepository.findPendingScheduleIds()).doesNotContain(shortHorizon, longHorizon, unassigned);
+    }
+
+    private ScheduleGenerationState state(Long scheduleId) {
+        return scheduleGenerationStateRepository.findById(scheduleId).orElseThrow();
+    }
+
+    private Long createRoute(int horizonDays) {
+        Long id = tx.execute(status -> {
+            Route route = RouteResourceIT.createEntity(em).routeCode("IT-" + UUID.randomUUID()).horizonDays(horizonDays);
+            em.persist(route);
+            em.flush();
+            return route.getId();
+        });
+        routeIds.add(id);
+        return id;
+    }
+
+    private Long createSchedule(Long routeId) {
+        LocalDate today = LocalDate.now();
+        Long id = tx.execute(status -> {
+            Schedule schedule = ScheduleResourceIT.createEntity(em)
+                .scheduleCode("GEN-" + UUID.randomUUID())
+                .startDate(today.minusDays(1))
+                .endDate(today.plusDays(30))
+                .daysOfWeek("1,2,3,4,5,6,7")
+                .active(true)
+                .route(em.find(Route.class, routeId));
+            em.persist(schedule);
+            em.flush();
+            return schedule.getId();
+        });
+        scheduleIds.add(id);
+        return id;
+    }
+
+    private void createSlot(Long scheduleId, LocalTime departure, LocalTime arrival) {
+        Long id = tx.execute(status -> {
+            ScheduleTimeSlot slot = ScheduleTimeSlotResourceIT.createEntity(em)
+                .slotCode("IT-" + UUID.randomUUID().toString().substring(0, 8))
+                .departureTime(departure)
+                .arrivalTime(arrival)
+                .bufferMinutes(0)
+                .active(true)
+                .schedule(em.find(Schedule.class, scheduleId));
+            em.persist(slot);
+            em.flush();
+            return slot.getId();
+        });
+        slotIds.add(id);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.Schedule;
+import com.ridehub.route.domain.ScheduleGenerationState;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
+import com.ridehub.route.service.AutoScheduleService;
+import com.ridehub.route.service.TripPlanner;
+import com.ridehub.route.service.dto.ScheduleExceptionDateDTO;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link ScheduleExceptionDateResource} REST controller: adding or
+ * removing an exception date marks the schedule to regenerate and changes its planned days.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ScheduleExceptionDateResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/schedules/{scheduleId}/exception-dates";
+    private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private AutoScheduleService autoScheduleService;
+
+    @Autowired
+    private ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restScheduleExceptionDateMockMvc;
+
+    @Test
+    @Transactional
+    void exceptionDatesRegenerateTheSchedule() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate holiday = today.plusDays(1);
+        Schedule schedule = ScheduleResourceIT.createEntity(em)
+            .scheduleCode("EXC-" + UUID.randomUUID())
+            .startDate(today.minusDays(1))
+            .endDate(today.plusDays(30))
+            .daysOfWeek("1,2,3,4,5,6,7")
+            .active(true);
+        em.persist(schedule);
+        em.persist(
+            ScheduleTimeSlotResourceIT.createEntity(em).slotCode("IT-" + UUID.randomUUID().toString().substring(0, 8)).active(true).schedule(schedule)
+        );
+        em.flush();
+        scheduleGenerationStateRepository.advance(schedule.getId(), today.plusDays(2), 0, Instant.now());
+        // compiles the calendar of the schedule at version 0
+        assertThat(plannedDates(schedule)).contains(holiday);
+
+        ScheduleExceptionDateDTO exceptionDate = new ScheduleExceptionDateDTO();
+        exceptionDate.setExceptionDate(holiday);
+        exceptionDate.setDescription("Holiday");
+        ScheduleExceptionDateDTO created = om.readValue(
+            restScheduleExceptionDateMockMvc
+                .perform(
+                    post(ENTITY_API_URL, schedule.getId())
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsBytes(exceptionDate))
+                )
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            ScheduleExceptionDateDTO.class
+        );
+
+        assertThat(state(schedule)).extracting(ScheduleGenerationState::getGeneratedThrough, ScheduleGenerationState::getVersion).containsExactly(null, 1);
+        assertThat(plannedDates(schedule)).doesNotContain(holiday).contains(today.plusDays(2));
+        restScheduleExceptionDateMockMvc
+            .perform(get(ENTITY_API_URL, schedule.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(created.getId().intValue())))
+            .andExpect(jsonPath("$.[*].exceptionDate").value(hasItem(holiday.toString())));
+
+        restScheduleExceptionDateMockMvc
+            .perform(delete(ENTITY_API_URL_ID, schedule.getId(), created.getId()).with(csrf()))
+            .andExpect(status().isNoContent());
+
+        assertThat(state(schedule).getVersion()).isEqualTo(2);
+        assertThat(plannedDates(schedule)).contains(holiday);
+        restScheduleExceptionDateMockMvc
+            .perform(delete(ENTITY_API_URL_ID, schedule.getId(), created.getId()).with(csrf()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void addingToAMissingScheduleIsRejected() throws Exception {
+        ScheduleExceptionDateDTO exceptionDate = new ScheduleExceptionDateDTO();
+        exceptionDate.setExceptionDate(LocalDate.now());
+
+        restScheduleExceptionDateMockMvc
+            .perform(
+                post(ENTITY_API_URL, Long.MAX_VALUE).with(csrf()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(exceptionDate))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    // the generation state is written with native queries, so the persistence context is cleared first
+    private ScheduleGenerationState state(Schedule schedule) {
+        em.clear();
+        return scheduleGenerationStateRepository.findById(schedule.getId()).orElseThrow();
+    }
+
+    private List<LocalDate> plannedDates(Schedule schedule) {
+        em.clear();
+        TripPlanner.TripPlan plan = autoScheduleService.planTrips(3);
+        return Stream.concat(plan.toCreate().stream(), plan.existing().stream())
+            .filter(trip -> schedule.getId().equals(trip.scheduleId()))
+            .map(TripPlanner.PlannedTrip::departureDate)
+            .toList();
+    }
+}
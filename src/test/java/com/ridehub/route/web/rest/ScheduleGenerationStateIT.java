@@ -0,0 +1,70 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.Schedule;
+import com.ridehub.route.domain.ScheduleGenerationState;
+import com.ridehub.route.repository.ScheduleGenerationStateRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the trip generation watermarks of {@link ScheduleGenerationStateRepository}.
+ */
+@IntegrationTest
+@Transactional
+class ScheduleGenerationStateIT {
+
+    @Autowired
+    private ScheduleGenerationStateRepository scheduleGenerationStateRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void aRunStartedBeforeAnInvalidationDoesNotAdvanceTheWatermark() {
+        Schedule schedule = ScheduleResourceIT.createEntity(em).scheduleCode("GEN-" + UUID.randomUUID()).active(true);
+        em.persist(schedule);
+        em.flush();
+        LocalDate through = LocalDate.of(2031, 1, 13);
+
+        assertThat(scheduleGenerationStateRepository.findPendingScheduleIds()).contains(schedule.getId());
+
+        scheduleGenerationStateRepository.advance(schedule.getId(), through, 0, Instant.now());
+        assertThat(state(schedule).getGeneratedThrough()).isEqualTo(through);
+        assertThat(scheduleGenerationStateRepository.findPendingScheduleIds()).doesNotContain(schedule.getId());
+
+        scheduleGenerationStateRepository.invalidate(schedule.getId(), Instant.now());
+        scheduleGenerationStateRepository.advance(schedule.getId(), through.plusDays(1), 0, Instant.now());
+        assertThat(state(schedule).getGeneratedThrough()).isNull();
+        assertThat(scheduleGenerationStateRepository.findPendingScheduleIds()).contains(schedule.getId());
+
+        scheduleGenerationStateRepository.advance(schedule.getId(), through.plusDays(1), 1, Instant.now());
+        assertThat(state(schedule).getGeneratedThrough()).isEqualTo(through.plusDays(1));
+    }
+
+    @Test
+    void changingAnOccasionRuleInvalidatesItsSchedules() {
+        Schedule schedule = ScheduleResourceIT.createEntity(em).scheduleCode("GEN-" + UUID.randomUUID()).active(true);
+        em.persist(schedule);
+        em.flush();
+        scheduleGenerationStateRepository.advance(schedule.getId(), LocalDate.of(2031, 1, 13), 0, Instant.now());
+
+        scheduleGenerationStateRepository.invalidateByOccasion(schedule.getOccasionRule().getId(), Instant.now());
+
+        ScheduleGenerationState state = state(schedule);
+        assertThat(state.getGeneratedThrough()).isNull();
+        assertThat(state.getVersion()).isEqualTo(1);
+    }
+
+    private ScheduleGenerationState state(Schedule schedule) {
+        em.clear();
+        return scheduleGenerationStateRepository.findById(schedule.getId()).orElseThrow();
+    }
+}
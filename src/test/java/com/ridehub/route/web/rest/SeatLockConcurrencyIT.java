@@ -0,0 +1,211 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.TripOccupancy;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.service.dto.request.CancelGroupRequestDTO;
+import com.ridehub.route.service.dto.request.ConfirmGroupRequestDTO;
+import com.ridehub.route.service.dto.request.SeatBatchHoldRequestDTO;
+import com.ridehub.route.service.dto.request.SeatHoldLegDTO;
+import com.ridehub.route.service.dto.request.SeatHoldRequestDTO;
+import com.ridehub.route.service.dto.response.SeatBatchHoldResponseDTO;
+import com.ridehub.route.service.dto.response.SeatHoldLegResultDTO;
+import com.ridehub.route.service.dto.response.SeatHoldResponseDTO;
+import com.ridehub.route.service.impl.SeatLockServiceImpl;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Stress tests for concurrent seat holds through {@link SeatLockServiceImpl}:
+ * no seat may end up HELD by two lock groups.
+ */
+@IntegrationTest
+class SeatLockConcurrencyIT {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private SeatLockServiceImpl seatLockService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeatLockTestTrips trips;
+
+    @BeforeEach
+    void setUp() {
+        trips = new SeatLockTestTrips(em, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        trips.deleteAll();
+    }
+
+    @Test
+    void sameSeatIsHeldOnlyOnce() throws Exception {
+        Long tripId = trips.create();
+
+        List<SeatHoldResponseDTO> responses = race(i -> hold(tripId, "g" + i, "C1"));
+
+        assertThat(responses).filteredOn(r -> "HELD".equals(r.getStatus())).hasSize(1);
+        assertThat(heldRowsPerSeat(tripId)).containsExactly(Map.entry("C1", 1L));
+    }
+
+    @Test
+    void overlappingSeatSetsNeverDoubleHold() throws Exception {
+        Long tripId = trips.create();
+
+        // thread i wants seats i and i+1 on a ring of THREADS seats
+        List<SeatHoldResponseDTO> responses = race(i -> hold(tripId, "g" + i, "R" + i, "R" + ((i + 1) % THREADS)));
+
+        List<String> heldSeats = responses
+            .stream()
+            .filter(r -> "HELD".equals(r.getStatus()))
+            .flatMap(r -> r.getHeldSeats().stream())
+            .toList();
+        assertThat(heldSeats).isNotEmpty().doesNotHaveDuplicates();
+        assertThat(heldRowsPerSeat(tripId).values()).allMatch(count -> count == 1L);
+    }
+
+    @Test
+    void holdsOnDifferentTripsAllSucceed() throws Exception {
+        List<Long> tripIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tripIds.add(trips.create());
+        }
+
+        List<SeatHoldResponseDTO> responses = race(i -> hold(tripIds.get(i), "g" + i, "D1"));
+
+        assertThat(responses).allMatch(r -> "HELD".equals(r.getStatus()));
+    }
+
+    @Test
+    void batchHoldsInOppositeLegOrderAreAllOrNothing() throws Exception {
+        Long outbound = trips.create();
+        Long inbound = trips.create();
+
+        // even threads list the outbound leg first, odd threads the inbound leg first
+        List<SeatBatchHoldResponseDTO> responses = race(i ->
+            i % 2 == 0
+                ? holdBatch("b" + i, leg(outbound, "E1"), leg(inbound, "E1"))
+                : holdBatch("b" + i, leg(inbound, "E1"), leg(outbound, "E1"))
+        );
+
+        assertThat(responses).filteredOn(r -> "HELD".equals(r.getStatus())).hasSize(1);
+        assertThat(heldRowsPerSeat(outbound)).containsExactly(Map.entry("E1", 1L));
+        assertThat(heldRowsPerSeat(inbound)).containsExactly(Map.entry("E1", 1L));
+    }
+
+    @Test
+    void rejectedBatchHoldsNoLeg() {
+        Long outbound = trips.create();
+        Long inbound = trips.create();
+        assertThat(hold(inbound, "single", "F1").getStatus()).isEqualTo("HELD");
+
+        SeatBatchHoldResponseDTO response = holdBatch("batch", leg(outbound, "F1"), leg(inbound, "F1"));
+
+        assertThat(response.getStatus()).isEqualTo("REJECTED");
+        assertThat(response.getLegs()).extracting(SeatHoldLegResultDTO::getStatus).containsExactly("AVAILABLE", "REJECTED");
+        assertThat(heldRowsPerSeat(outbound)).isEmpty();
+    }
+
+    @Test
+    void occupancyCountsFollowConcurrentTransitions() throws Exception {
+        Long tripId = trips.create();
+
+        List<SeatHoldResponseDTO> holds = race(i -> hold(tripId, "g" + i, "R" + i, "R" + ((i + 1) % THREADS)));
+        List<Integer> winners = IntStream.range(0, THREADS).filter(i -> "HELD".equals(holds.get(i).getStatus())).boxed().toList();
+        int heldSeats = winners.stream().mapToInt(i -> holds.get(i).getHeldSeats().size()).sum();
+        assertThat(trips.occupancy(tripId)).extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted).containsExactly(heldSeats, 0);
+
+        // the first winner buys, everyone else cancels
+        int buyer = winners.get(0);
+        race(i -> i == buyer
+            ? seatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, "g" + i + "-" + tripId))
+            : seatLockService.cancelGroup(new CancelGroupRequestDTO("g" + i + "-" + tripId, null))
+        );
+
+        assertThat(trips.occupancy(tripId))
+            .extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted)
+            .containsExactly(0, holds.get(buyer).getHeldSeats().size());
+    }
+
+    private <T> List<T> race(IntFunction<T> attempt) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int n = i;
+                futures.add(
+                    pool.submit(() -> {
+                        start.await();
+                        return attempt.apply(n);
+                    })
+                );
+            }
+            start.countDown();
+            List<T> responses = new ArrayList<>();
+            for (Future<T> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Map<String, Long> heldRowsPerSeat(Long tripId) {
+        Instant now = Instant.now();
+        return trips
+            .locks(tripId)
+            .stream()
+            .filter(l -> l.getStatus() == LockStatus.HELD && l.getExpiresAt().isAfter(now))
+            .collect(Collectors.groupingBy(SeatLock::getSeatNo, Collectors.counting()));
+    }
+
+    private SeatHoldResponseDTO hold(Long tripId, String group, String... seats) {
+        SeatHoldRequestDTO req = new SeatHoldRequestDTO();
+        req.setTripId(tripId);
+        req.setSeatNumbers(List.of(seats));
+        req.setLockGroupId(group + "-" + tripId);
+        req.setHoldTtlSec(120);
+        return seatLockService.tryHold(req);
+    }
+
+    private SeatBatchHoldResponseDTO holdBatch(String group, SeatHoldLegDTO... legs) {
+        SeatBatchHoldRequestDTO req = new SeatBatchHoldRequestDTO();
+        req.setLegs(List.of(legs));
+        req.setLockGroupId(group + "-" + legs[0].getTripId());
+        req.setIdemKey(UUID.randomUUID().toString());
+        req.setHoldTtlSec(120);
+        return seatLockService.tryHoldBatch(req);
+    }
+
+    private static SeatHoldLegDTO leg(Long tripId, String... seats) {
+        return new SeatHoldLegDTO(tripId, List.of(seats));
+    }
+}
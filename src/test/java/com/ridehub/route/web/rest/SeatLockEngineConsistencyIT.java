@@ -0,0 +1,248 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.service.SeatLockService;
+import com.ridehub.route.service.dto.request.CancelGroupRequestDTO;
+import com.ridehub.route.service.dto.request.ConfirmGroupRequestDTO;
+import com.ridehub.route.service.dto.request.SeatBatchHoldRequestDTO;
+import com.ridehub.route.service.dto.request.SeatHoldLegDTO;
+import com.ridehub.route.service.dto.request.SeatHoldRequestDTO;
+import com.ridehub.route.service.dto.request.SeatLockRequestDTO;
+import com.ridehub.route.service.dto.response.SeatBatchHoldResponseDTO;
+import com.ridehub.route.service.dto.response.SeatHoldLegResultDTO;
+import com.ridehub.route.service.dto.response.SeatHoldResponseDTO;
+import com.ridehub.route.service.impl.RedisSeatLockServiceImpl;
+import com.ridehub.route.service.impl.SeatLockServiceImpl;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Consistency tests of {@link RedisSeatLockServiceImpl} against {@link SeatLockServiceImpl}:
+ * the same scenario runs on one trip per engine and must give the same answers and
+ * leave the same {@code seat_lock} rows.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "application.seat-lock.engine=redis")
+class SeatLockEngineConsistencyIT {
+
+    @Autowired
+    private SeatLockService seatLockService;
+
+    @Autowired
+    private SeatLockServiceImpl jpaSeatLockService;
+
+    @Autowired
+    private SeatLockRepository seatLockRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeatLockTestTrips trips;
+
+    @BeforeEach
+    void setUp() {
+        trips = new SeatLockTestTrips(em, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        trips.ids().forEach(id -> {
+            redisTemplate.delete("seat-lock:trip:" + id);
+            redisTemplate.delete(redisTemplate.keys("seat-lock:hold:*-" + id));
+        });
+        trips.deleteAll();
+    }
+
+    @Test
+    void redisEngineIsPrimary() {
+        assertThat(seatLockService).isInstanceOf(RedisSeatLockServiceImpl.class);
+    }
+
+    @Test
+    void conflictingHoldsAreRejectedLikeJpa() {
+        assertSameOutcome((engine, tripId) ->
+            List.of(
+                hold(engine, tripId, "g1", "A1", "A2").getStatus(),
+                hold(engine, tripId, "g2", "A2", "A3").getMessage(),
+                hold(engine, tripId, "g2", "A3").getStatus()
+            )
+        );
+    }
+
+    @Test
+    void committedSeatsStayTakenLikeJpa() {
+        assertSameOutcome((engine, tripId) ->
+            List.of(
+                hold(engine, tripId, "g1", "A1").getStatus(),
+                engine.confirmGroup(new ConfirmGroupRequestDTO(null, group(tripId, "g1"))).getStatus(),
+                hold(engine, tripId, "g2", "A1").getMessage()
+            )
+        );
+    }
+
+    @Test
+    void cancelledSeatsAreFreeAgainLikeJpa() {
+        assertSameOutcome((engine, tripId) ->
+            List.of(
+                hold(engine, tripId, "g1", "A1", "A2").getStatus(),
+                engine.cancelGroup(new CancelGroupRequestDTO(group(tripId, "g1"), null)).getMessage(),
+                hold(engine, tripId, "g2", "A1").getMessage()
+            )
+        );
+    }
+
+    @Test
+    void redisEngineSeedsFromExistingLocks() {
+        Long tripId = trips.create();
+        hold(jpaSeatLockService, tripId, "g1", "B1");
+        jpaSeatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, group(tripId, "g1")));
+        redisTemplate.delete("seat-lock:trip:" + tripId);
+
+        SeatHoldResponseDTO response = hold(seatLockService, tripId, "g2", "B1", "B2");
+
+        assertThat(response.getStatus()).isEqualTo("REJECTED");
+        assertThat(response.getMessage()).isEqualTo("Seat not available: B1");
+    }
+
+    @Test
+    void batchHoldsAreClaimedInRedis() {
+        Long outbound = trips.create();
+        Long inbound = trips.create();
+        assertThat(hold(seatLockService, inbound, "single", "F1").getStatus()).isEqualTo("HELD");
+
+        SeatBatchHoldResponseDTO response = holdBatch("batch", leg(outbound, "F1"), leg(inbound, "F1"));
+
+        assertThat(response.getStatus()).isEqualTo("REJECTED");
+        assertThat(response.getLegs()).extracting(SeatHoldLegResultDTO::getStatus).containsExactly("AVAILABLE", "REJECTED");
+        // the outbound leg claimed before the rejection was released
+        assertThat(hold(seatLockService, outbound, "other", "F1").getStatus()).isEqualTo("HELD");
+        awaitSaved(group(outbound, "other"));
+        awaitSaved(group(inbound, "single"));
+        assertThat(rows(outbound)).containsExactly(Map.entry("F1", List.of(LockStatus.HELD)));
+    }
+
+    @Test
+    void legacyTryLockIsClaimedInRedis() {
+        Long tripId = trips.create();
+        assertThat(hold(seatLockService, tripId, "g1", "G1").getStatus()).isEqualTo("HELD");
+
+        SeatLockRequestDTO request = new SeatLockRequestDTO();
+        request.setTripId(tripId);
+        request.setSeatNumbers(List.of("G1"));
+        request.setIdemKey(group(tripId, "legacy"));
+
+        assertThat(seatLockService.tryLockSeats(request).getStatus()).isEqualTo("REJECTED");
+        awaitSaved(group(tripId, "g1"));
+        assertThat(rows(tripId)).containsExactly(Map.entry("G1", List.of(LockStatus.HELD)));
+    }
+
+    @Test
+    void holdTakenInSeatLockMeanwhileFails() {
+        Long tripId = trips.create();
+        assertThat(hold(seatLockService, tripId, "g1", "H1").getStatus()).isEqualTo("HELD");
+        awaitSaved(group(tripId, "g1"));
+        // a seat_lock row Redis never saw, e.g. written by an instance still on the JPA engine
+        trips.tx().executeWithoutResult(status ->
+            seatLockRepository.save(
+                new SeatLock()
+                    .seatNo("H2")
+                    .status(LockStatus.HELD)
+                    .expiresAt(Instant.now().plusSeconds(120))
+                    .idempotencyKey(group(tripId, "jpa") + ":H2")
+                    .lockGroupId(group(tripId, "jpa"))
+                    .createdAt(Instant.now())
+                    .isDeleted(false)
+                    .trip(em.getReference(Trip.class, tripId))
+            )
+        );
+
+        assertThat(hold(seatLockService, tripId, "g2", "H2").getStatus()).isEqualTo("HELD");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> "FAILED".equals(status(group(tripId, "g2"))));
+        assertThat(rows(tripId)).containsExactly(Map.entry("H1", List.of(LockStatus.HELD)), Map.entry("H2", List.of(LockStatus.HELD)));
+        assertThat(trips.locks(tripId)).filteredOn(l -> l.getSeatNo().equals("H2"))
+            .extracting(SeatLock::getLockGroupId).containsExactly(group(tripId, "jpa"));
+        // the seat was copied from seat_lock into Redis
+        assertThat(hold(seatLockService, tripId, "g3", "H2").getMessage()).isEqualTo("Seat not available: H2");
+    }
+
+    private void awaitSaved(String group) {
+        await().atMost(Duration.ofSeconds(10)).until(() -> "HELD".equals(status(group)));
+    }
+
+    private String status(String group) {
+        return seatLockService.findHoldStatus(group).map(SeatHoldResponseDTO::getStatus).orElse(null);
+    }
+
+    private void assertSameOutcome(BiFunction<SeatLockService, Long, List<String>> scenario) {
+        Long jpaTrip = trips.create();
+        Long redisTrip = trips.create();
+
+        List<String> jpaOutcome = scenario.apply(jpaSeatLockService, jpaTrip);
+        List<String> redisOutcome = scenario.apply(seatLockService, redisTrip);
+
+        assertThat(redisOutcome).isEqualTo(jpaOutcome);
+        assertThat(rows(redisTrip)).isEqualTo(rows(jpaTrip));
+    }
+
+    // seat -> statuses of its rows
+    private Map<String, List<LockStatus>> rows(Long tripId) {
+        return trips
+            .locks(tripId)
+            .stream()
+            .collect(Collectors.groupingBy(SeatLock::getSeatNo, TreeMap::new, Collectors.mapping(SeatLock::getStatus, Collectors.toList())));
+    }
+
+    private SeatHoldResponseDTO hold(SeatLockService engine, Long tripId, String group, String... seats) {
+        SeatHoldRequestDTO req = new SeatHoldRequestDTO();
+        req.setTripId(tripId);
+        req.setSeatNumbers(List.of(seats));
+        req.setLockGroupId(group(tripId, group));
+        req.setHoldTtlSec(120);
+        return engine.tryHold(req);
+    }
+
+    private SeatBatchHoldResponseDTO holdBatch(String group, SeatHoldLegDTO... legs) {
+        SeatBatchHoldRequestDTO req = new SeatBatchHoldRequestDTO();
+        req.setLegs(List.of(legs));
+        req.setLockGroupId(group(legs[0].getTripId(), group));
+        req.setIdemKey(UUID.randomUUID().toString());
+        req.setHoldTtlSec(120);
+        return seatLockService.tryHoldBatch(req);
+    }
+
+    private static SeatHoldLegDTO leg(Long tripId, String... seats) {
+        return new SeatHoldLegDTO(tripId, List.of(seats));
+    }
+
+    private static String group(Long tripId, String group) {
+        return group + "-" + tripId;
+    }
+}
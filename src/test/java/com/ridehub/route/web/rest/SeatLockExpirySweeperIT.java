@@ -0,0 +1,183 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.TripOccupancy;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.service.SeatLockExpirySweeper;
+import com.ridehub.route.service.TripOccupancyService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Integration tests for {@link SeatLockExpirySweeper}: lapsed holds are expired in
+ * {@code SKIP LOCKED} batches, and locks of departed trips are archived, then deleted.
+ */
+@IntegrationTest
+@TestPropertySource(properties = { "application.seat-lock.sweeper.enabled=false", "application.seat-lock.sweeper.batch-size=2" })
+class SeatLockExpirySweeperIT {
+
+    @Autowired
+    private SeatLockExpirySweeper sweeper;
+
+    @Autowired
+    private SeatLockRepository seatLockRepository;
+
+    @Autowired
+    private TripOccupancyService tripOccupancyService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeatLockTestTrips trips;
+
+    @BeforeEach
+    void setUp() {
+        trips = new SeatLockTestTrips(em, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (!trips.ids().isEmpty()) {
+            trips
+                .tx()
+                .executeWithoutResult(status ->
+                    em
+                        .createNativeQuery("DELETE FROM seat_lock_archive WHERE trip_id IN (:tripIds)")
+                        .setParameter("tripIds", trips.ids())
+                        .executeUpdate()
+                );
+        }
+        trips.deleteAll();
+    }
+
+    @Test
+    void lapsedHoldsAreExpiredAcrossBatches() {
+        Long tripId = trips.create(Instant.now().plus(1, ChronoUnit.DAYS));
+        Instant now = Instant.now();
+        for (String seat : List.of("A1", "A2", "A3", "A4", "A5")) {
+            insertLock(tripId, seat, LockStatus.HELD, now.minusSeconds(60));
+        }
+        insertLock(tripId, "A6", LockStatus.HELD, now.plusSeconds(600));
+        trips.tx().executeWithoutResult(status -> tripOccupancyService.recompute(List.of(tripId)));
+
+        // five rows at two per batch take three batches
+        assertThat(sweeper.expireStaleHolds(now)).isGreaterThanOrEqualTo(5);
+
+        assertThat(trips.statuses(tripId)).containsExactly(
+            Map.entry("A1", LockStatus.EXPIRED),
+            Map.entry("A2", LockStatus.EXPIRED),
+            Map.entry("A3", LockStatus.EXPIRED),
+            Map.entry("A4", LockStatus.EXPIRED),
+            Map.entry("A5", LockStatus.EXPIRED),
+            Map.entry("A6", LockStatus.HELD)
+        );
+        assertThat(trips.occupancy(tripId)).extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted).containsExactly(1, 0);
+    }
+
+    @Test
+    void holdsLockedByAnotherTransactionAreSkipped() throws Exception {
+        Long tripId = trips.create(Instant.now().plus(1, ChronoUnit.DAYS));
+        Instant now = Instant.now();
+        Long locked = insertLock(tripId, "B1", LockStatus.HELD, now.minusSeconds(60));
+        insertLock(tripId, "B2", LockStatus.HELD, now.minusSeconds(60));
+
+        CountDownLatch rowLocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+            trips.tx().executeWithoutResult(status -> {
+                em.find(SeatLock.class, locked, LockModeType.PESSIMISTIC_WRITE);
+                rowLocked.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            })
+        );
+        try {
+            assertThat(rowLocked.await(30, TimeUnit.SECONDS)).isTrue();
+
+            sweeper.expireStaleHolds(now);
+
+            assertThat(trips.statuses(tripId)).containsExactly(Map.entry("B1", LockStatus.HELD), Map.entry("B2", LockStatus.EXPIRED));
+        } finally {
+            release.countDown();
+            holder.get(30, TimeUnit.SECONDS);
+        }
+
+        sweeper.expireStaleHolds(now);
+
+        assertThat(trips.statuses(tripId)).containsExactly(Map.entry("B1", LockStatus.EXPIRED), Map.entry("B2", LockStatus.EXPIRED));
+    }
+
+    @Test
+    void locksOfDepartedTripsAreArchivedThenDeleted() {
+        Instant now = Instant.now();
+        Long departed = trips.create(now.minus(30, ChronoUnit.DAYS));
+        Long upcoming = trips.create(now.plus(1, ChronoUnit.DAYS));
+        Long alreadyArchived = insertLock(departed, "C1", LockStatus.EXPIRED, now.minus(31, ChronoUnit.DAYS));
+        insertLock(departed, "C2", LockStatus.COMMITTED, now.minus(31, ChronoUnit.DAYS));
+        insertLock(departed, "C3", LockStatus.EXPIRED, now.minus(31, ChronoUnit.DAYS));
+        insertLock(departed, "C4", LockStatus.HELD, now.minus(31, ChronoUnit.DAYS));
+        insertLock(upcoming, "C1", LockStatus.COMMITTED, now.minusSeconds(60));
+        // a copy left by an earlier run that failed before its delete
+        trips.tx().executeWithoutResult(status -> seatLockRepository.copyToArchive(List.of(alreadyArchived), now));
+
+        assertThat(sweeper.archiveDepartedTrips(now)).isGreaterThanOrEqualTo(3);
+
+        assertThat(trips.statuses(departed)).containsExactly(Map.entry("C4", LockStatus.HELD));
+        assertThat(trips.statuses(upcoming)).containsExactly(Map.entry("C1", LockStatus.COMMITTED));
+        assertThat(archivedSeats(departed)).containsExactly("C1", "C2", "C3");
+        assertThat(archivedSeats(upcoming)).isEmpty();
+    }
+
+    private Long insertLock(Long tripId, String seat, LockStatus status, Instant expiresAt) {
+        return trips.tx().execute(s ->
+            seatLockRepository
+                .save(
+                    new SeatLock()
+                        .seatNo(seat)
+                        .status(status)
+                        .expiresAt(expiresAt)
+                        .idempotencyKey("sweep:" + UUID.randomUUID())
+                        .lockGroupId("sweep-" + tripId)
+                        .createdAt(Instant.now())
+                        .isDeleted(false)
+                        .trip(em.getReference(Trip.class, tripId))
+                )
+                .getId()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> archivedSeats(Long tripId) {
+        return trips.tx().execute(status ->
+            (List<String>) em
+                .createNativeQuery("SELECT seat_no FROM seat_lock_archive WHERE trip_id = :tripId ORDER BY seat_no")
+                .setParameter("tripId", tripId)
+                .getResultList()
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.TripOccupancy;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.service.TripOccupancyService;
+import com.ridehub.route.service.dto.request.ConfirmGroupRequestDTO;
+import com.ridehub.route.service.dto.response.SeatHoldLegResultDTO;
+import com.ridehub.route.service.dto.response.SeatReclaimResponseDTO;
+import com.ridehub.route.service.impl.SeatLockServiceImpl;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Integration tests for the set-based reclaim of {@link SeatLockServiceImpl}: a booking wins back
+ * its lapsed seats per trip, and seats another group took meanwhile are reported as lost.
+ */
+@IntegrationTest
+class SeatLockReclaimIT {
+
+    @Autowired
+    private SeatLockServiceImpl seatLockService;
+
+    @Autowired
+    private SeatLockRepository seatLockRepository;
+
+    @Autowired
+    private TripOccupancyService tripOccupancyService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeatLockTestTrips trips;
+
+    @BeforeEach
+    void setUp() {
+        trips = new SeatLockTestTrips(em, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        trips.deleteAll();
+    }
+
+    @Test
+    void reclaimReportsWonAndLostSeatsPerTrip() {
+        Long bookingId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        Instant lapsed = Instant.now().minusSeconds(60);
+        Long won = trips.create();
+        Long lost = trips.create();
+        Long unchanged = trips.create();
+        insertLock(won, "booking", "R1", LockStatus.EXPIRED, lapsed, bookingId, false);
+        // rows written before is_deleted was populated are reclaimable too
+        insertLock(won, "booking", "R2", LockStatus.HELD, lapsed, bookingId, null);
+        insertLock(lost, "booking", "R1", LockStatus.EXPIRED, lapsed, bookingId, false);
+        insertLock(lost, "other", "R1", LockStatus.HELD, Instant.now().plusSeconds(600), null, false);
+        insertLock(unchanged, "booking", "R1", LockStatus.HELD, Instant.now().plusSeconds(600), bookingId, false);
+        trips.tx().executeWithoutResult(status -> tripOccupancyService.recompute(trips.ids()));
+
+        SeatReclaimResponseDTO response = seatLockService.reclaimExpiredSeats(new ConfirmGroupRequestDTO(bookingId, null));
+
+        assertThat(response.getStatus()).isEqualTo("RECLAIMED");
+        assertThat(response.getMessage()).isEqualTo("Reclaimed 2 expired seats, 1 lost to another booking");
+        assertThat(response.getTrips())
+            .extracting(SeatHoldLegResultDTO::getTripId, SeatHoldLegResultDTO::getStatus, SeatHoldLegResultDTO::getHeldSeats,
+                SeatHoldLegResultDTO::getUnavailableSeats)
+            .containsExactly(
+                tuple(won, "RECLAIMED", List.of("R1", "R2"), List.of()),
+                tuple(lost, "LOST", List.of(), List.of("R1")),
+                tuple(unchanged, "UNCHANGED", List.of(), List.of())
+            );
+        assertThat(statuses(won, bookingId)).containsExactly(Map.entry("R1", LockStatus.HELD), Map.entry("R2", LockStatus.HELD));
+        assertThat(statuses(lost, bookingId)).containsExactly(Map.entry("R1", LockStatus.EXPIRED));
+        // only the EXPIRED row won back adds to the held count; the lapsed HELD row was counted already
+        assertThat(trips.occupancy(won)).extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted).containsExactly(2, 0);
+        assertThat(trips.occupancy(lost)).extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted).containsExactly(1, 0);
+    }
+
+    @Test
+    void reclaimWithEverySeatLostIsNotFound() {
+        Long bookingId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        Long tripId = trips.create();
+        insertLock(tripId, "booking", "S1", LockStatus.EXPIRED, Instant.now().minusSeconds(60), bookingId, false);
+        insertLock(tripId, "other", "S1", LockStatus.COMMITTED, Instant.now().minusSeconds(60), null, false);
+
+        SeatReclaimResponseDTO response = seatLockService.reclaimExpiredSeats(new ConfirmGroupRequestDTO(bookingId, null));
+
+        assertThat(response.getStatus()).isEqualTo("NOT_FOUND");
+        assertThat(response.getMessage()).isEqualTo("No expired seats available to reclaim, 1 lost to another booking");
+        assertThat(response.getTrips())
+            .extracting(SeatHoldLegResultDTO::getStatus, SeatHoldLegResultDTO::getUnavailableSeats)
+            .containsExactly(tuple("LOST", List.of("S1")));
+        assertThat(seatLockService.reclaimExpiredSeats(new ConfirmGroupRequestDTO(null, null)).getStatus()).isEqualTo("BAD_REQUEST");
+    }
+
+    @Test
+    void seatsTheBookingCommittedAreNotLost() {
+        Long bookingId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        Long tripId = trips.create();
+        insertLock(tripId, "booking", "T1", LockStatus.COMMITTED, Instant.now().minusSeconds(60), bookingId, false);
+        insertLock(tripId, "booking", "T2", LockStatus.EXPIRED, Instant.now().minusSeconds(60), bookingId, false);
+        trips.tx().executeWithoutResult(status -> tripOccupancyService.recompute(trips.ids()));
+
+        SeatReclaimResponseDTO response = seatLockService.reclaimExpiredSeats(new ConfirmGroupRequestDTO(bookingId, null));
+
+        assertThat(response.getStatus()).isEqualTo("RECLAIMED");
+        assertThat(response.getMessage()).isEqualTo("Reclaimed 1 expired seats");
+        assertThat(response.getTrips())
+            .extracting(SeatHoldLegResultDTO::getStatus, SeatHoldLegResultDTO::getHeldSeats, SeatHoldLegResultDTO::getUnavailableSeats)
+            .containsExactly(tuple("RECLAIMED", List.of("T2"), List.of()));
+        assertThat(statuses(tripId, bookingId)).containsExactly(Map.entry("T1", LockStatus.COMMITTED), Map.entry("T2", LockStatus.HELD));
+        assertThat(trips.occupancy(tripId)).extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted).containsExactly(1, 1);
+    }
+
+    private void insertLock(Long tripId, String group, String seat, LockStatus status, Instant expiresAt, Long bookingId,
+            Boolean isDeleted) {
+        trips.tx().executeWithoutResult(s ->
+            seatLockRepository.save(
+                new SeatLock()
+                    .seatNo(seat)
+                    .status(status)
+                    .expiresAt(expiresAt)
+                    .idempotencyKey(group + "-" + tripId + ":" + seat + ":" + UUID.randomUUID())
+                    .lockGroupId(group + "-" + tripId)
+                    .bookingId(bookingId)
+                    .createdAt(Instant.now())
+                    .isDeleted(isDeleted)
+                    .trip(em.getReference(Trip.class, tripId))
+            )
+        );
+    }
+
+    // seat -> status of the booking's rows on a trip
+    private Map<String, LockStatus> statuses(Long tripId, Long bookingId) {
+        return trips
+            .locks(tripId)
+            .stream()
+            .filter(l -> bookingId.equals(l.getBookingId()))
+            .collect(Collectors.toMap(SeatLock::getSeatNo, SeatLock::getStatus, (a, b) -> a, TreeMap::new));
+    }
+}
@@ -56,6 +56,9 @@ class SeatLockResourceIT {
     private static final String DEFAULT_IDEMPOTENCY_KEY = "AAAAAAAAAA";
     private static final String UPDATED_IDEMPOTENCY_KEY = "BBBBBBBBBB";
 
+    private static final String DEFAULT_LOCK_GROUP_ID = "AAAAAAAAAA";
+    private static final String UPDATED_LOCK_GROUP_ID = "BBBBBBBBBB";
+
     private static final Long DEFAULT_BOOKING_ID = 1L;
     private static final Long UPDATED_BOOKING_ID = 2L;
     private static final Long SMALLER_BOOKING_ID = 1L - 1L;
@@ -113,6 +116,7 @@ class SeatLockResourceIT {
             .status(DEFAULT_STATUS)
             .expiresAt(DEFAULT_EXPIRES_AT)
             .idempotencyKey(DEFAULT_IDEMPOTENCY_KEY)
+            .lockGroupId(DEFAULT_LOCK_GROUP_ID)
             .bookingId(DEFAULT_BOOKING_ID)
             .createdAt(DEFAULT_CREATED_AT)
             .updatedAt(DEFAULT_UPDATED_AT)
@@ -145,6 +149,7 @@ class SeatLockResourceIT {
             .status(UPDATED_STATUS)
             .expiresAt(UPDATED_EXPIRES_AT)
             .idempotencyKey(UPDATED_IDEMPOTENCY_KEY)
+            .lockGroupId(UPDATED_LOCK_GROUP_ID)
             .bookingId(UPDATED_BOOKING_ID)
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT)
@@ -306,6 +311,7 @@ class SeatLockResourceIT {
             .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())))
             .andExpect(jsonPath("$.[*].expiresAt").value(hasItem(DEFAULT_EXPIRES_AT.toString())))
             .andExpect(jsonPath("$.[*].idempotencyKey").value(hasItem(DEFAULT_IDEMPOTENCY_KEY)))
+            .andExpect(jsonPath("$.[*].lockGroupId").value(hasItem(DEFAULT_LOCK_GROUP_ID)))
             .andExpect(jsonPath("$.[*].bookingId").value(hasItem(DEFAULT_BOOKING_ID.intValue())))
             .andExpect(jsonPath("$.[*].createdAt").value(hasItem(DEFAULT_CREATED_AT.toString())))
             .andExpect(jsonPath("$.[*].updatedAt").value(hasItem(DEFAULT_UPDATED_AT.toString())))
@@ -331,6 +337,7 @@ class SeatLockResourceIT {
             .andExpect(jsonPath("$.status").value(DEFAULT_STATUS.toString()))
             .andExpect(jsonPath("$.expiresAt").value(DEFAULT_EXPIRES_AT.toString()))
             .andExpect(jsonPath("$.idempotencyKey").value(DEFAULT_IDEMPOTENCY_KEY))
+            .andExpect(jsonPath("$.lockGroupId").value(DEFAULT_LOCK_GROUP_ID))
             .andExpect(jsonPath("$.bookingId").value(DEFAULT_BOOKING_ID.intValue()))
             .andExpect(jsonPath("$.createdAt").value(DEFAULT_CREATED_AT.toString()))
             .andExpect(jsonPath("$.updatedAt").value(DEFAULT_UPDATED_AT.toString()))
@@ -593,6 +600,65 @@ class SeatLockResourceIT {
         );
     }
 
+    @Test
+    @Transactional
+    void getAllSeatLocksByLockGroupIdIsEqualToSomething() throws Exception {
+        // Initialize the database
+        insertedSeatLock = seatLockRepository.saveAndFlush(seatLock);
+
+        // Get all the seatLockList where lockGroupId equals to
+        defaultSeatLockFiltering("lockGroupId.equals=" + DEFAULT_LOCK_GROUP_ID, "lockGroupId.equals=" + UPDATED_LOCK_GROUP_ID);
+    }
+
+    @Test
+    @Transactional
+    void getAllSeatLocksByLockGroupIdIsInShouldWork() throws Exception {
+        // Initialize the database
+        insertedSeatLock = seatLockRepository.saveAndFlush(seatLock);
+
+        // Get all the seatLockList where lockGroupId in
+        defaultSeatLockFiltering(
+            "lockGroupId.in=" + DEFAULT_LOCK_GROUP_ID + "," + UPDATED_LOCK_GROUP_ID,
+            "lockGroupId.in=" + UPDATED_LOCK_GROUP_ID
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllSeatLocksByLockGroupIdIsNullOrNotNull() throws Exception {
+        // Initialize the database
+        insertedSeatLock = seatLockRepository.saveAndFlush(seatLock);
+
+        // Get all the seatLockList where lockGroupId is not null
+        defaultSeatLockFiltering("lockGroupId.specified=true", "lockGroupId.specified=false");
+    }
+
+    @Test
+    @Transactional
+    void getAllSeatLocksByLockGroupIdContainsSomething() throws Exception {
+        // Initialize the database
+        insertedSeatLock = seatLockRepository.saveAndFlush(seatLock);
+
+        // Get all the seatLockList where lockGroupId contains
+        defaultSeatLockFiltering(
+            "lockGroupId.contains=" + DEFAULT_LOCK_GROUP_ID,
+            "lockGroupId.contains=" + UPDATED_LOCK_GROUP_ID
+        );
+    }
+
+    @Test
+    @Transactional
+    void getAllSeatLocksByLockGroupIdNotContainsSomething() throws Exception {
+        // Initialize the database
+        insertedSeatLock = seatLockRepository.saveAndFlush(seatLock);
+
+        // Get all the seatLockList where lockGroupId does not contain
+        defaultSeatLockFiltering(
+            "lockGroupId.doesNotContain=" + UPDATED_LOCK_GROUP_ID,
+            "lockGroupId.doesNotContain=" + DEFAULT_LOCK_GROUP_ID
+        );
+    }
+
     @Test
     @Transactional
     void getAllSeatLocksByBookingIdIsEqualToSomething() throws Exception {
@@ -857,6 +923,7 @@ class SeatLockResourceIT {
             .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())))
             .andExpect(jsonPath("$.[*].expiresAt").value(hasItem(DEFAULT_EXPIRES_AT.toString())))
             .andExpect(jsonPath("$.[*].idempotencyKey").value(hasItem(DEFAULT_IDEMPOTENCY_KEY)))
+            .andExpect(jsonPath("$.[*].lockGroupId").value(hasItem(DEFAULT_LOCK_GROUP_ID)))
             .andExpect(jsonPath("$.[*].bookingId").value(hasItem(DEFAULT_BOOKING_ID.intValue())))
             .andExpect(jsonPath("$.[*].createdAt").value(hasItem(DEFAULT_CREATED_AT.toString())))
             .andExpect(jsonPath("$.[*].updatedAt").value(hasItem(DEFAULT_UPDATED_AT.toString())))
@@ -916,6 +983,7 @@ class SeatLockResourceIT {
             .status(UPDATED_STATUS)
             .expiresAt(UPDATED_EXPIRES_AT)
             .idempotencyKey(UPDATED_IDEMPOTENCY_KEY)
+            .lockGroupId(UPDATED_LOCK_GROUP_ID)
             .bookingId(UPDATED_BOOKING_ID)
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT)
@@ -1056,6 +1124,7 @@ class SeatLockResourceIT {
             .status(UPDATED_STATUS)
             .expiresAt(UPDATED_EXPIRES_AT)
             .idempotencyKey(UPDATED_IDEMPOTENCY_KEY)
+            .lockGroupId(UPDATED_LOCK_GROUP_ID)
             .bookingId(UPDATED_BOOKING_ID)
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT)
@@ -0,0 +1,97 @@
+package com.ridehub.route.web.rest;
+
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.TripOccupancy;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Trips for the seat-lock integration tests, each created in its own transaction so that
+ * concurrent holds see it. {@link #deleteAll()} removes them with their seat locks.
+ */
+class SeatLockTestTrips {
+
+    private final EntityManager em;
+    private final TransactionTemplate tx;
+    private final List<Long> ids = new ArrayList<>();
+
+    SeatLockTestTrips(EntityManager em, PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    TransactionTemplate tx() {
+        return tx;
+    }
+
+    /**
+     * The trips created so far.
+     */
+    List<Long> ids() {
+        return List.copyOf(ids);
+    }
+
+    /**
+     * Create a trip departing tomorrow.
+     */
+    Long create() {
+        return create(Instant.now().plus(1, ChronoUnit.DAYS));
+    }
+
+    Long create(Instant departureTime) {
+        Long id = tx.execute(status -> {
+            Trip trip = TripResourceIT.createEntity(em)
+                .tripCode("IT-" + UUID.randomUUID().toString().substring(0, 8))
+                .departureTime(departureTime);
+            em.persist(trip);
+            em.flush();
+            return trip.getId();
+        });
+        ids.add(id);
+        return id;
+    }
+
+    /**
+     * The seat locks of a trip, deleted or not.
+     */
+    List<SeatLock> locks(Long tripId) {
+        return tx.execute(status ->
+            em.createQuery("SELECT l FROM SeatLock l WHERE l.trip.id = :tripId", SeatLock.class).setParameter("tripId", tripId).getResultList()
+        );
+    }
+
+    // seat -> status of the trip's locks
+    Map<String, LockStatus> statuses(Long tripId) {
+        return locks(tripId).stream().collect(Collectors.toMap(SeatLock::getSeatNo, SeatLock::getStatus, (a, b) -> a, TreeMap::new));
+    }
+
+    TripOccupancy occupancy(Long tripId) {
+        return tx.execute(status -> Optional.ofNullable(em.find(TripOccupancy.class, tripId)).orElseThrow());
+    }
+
+    /**
+     * Delete the trips created so far and their seat locks.
+     */
+    void deleteAll() {
+        if (ids.isEmpty()) {
+            return;
+        }
+        tx.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM SeatLock l WHERE l.trip.id IN :tripIds").setParameter("tripIds", ids).executeUpdate();
+            ids.forEach(id -> Optional.ofNullable(em.find(Trip.class, id)).ifPresent(em::remove));
+        });
+        ids.clear();
+    }
+}
@@ -0,0 +1,216 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.TripOccupancy;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.repository.SeatLockRepository;
+import com.ridehub.route.service.dto.request.AttachBookingRequestDTO;
+import com.ridehub.route.service.dto.request.CancelGroupRequestDTO;
+import com.ridehub.route.service.dto.request.ConfirmGroupRequestDTO;
+import com.ridehub.route.service.dto.request.SeatHoldRequestDTO;
+import com.ridehub.route.service.dto.response.SeatLockActionResponseDTO;
+import com.ridehub.route.service.impl.SeatLockServiceImpl;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Integration tests for the bulk conditional confirm, cancel and attach of {@link SeatLockServiceImpl}:
+ * only unexpired HELD rows move, and {@code trip_occupancy} follows them even when a bulk update
+ * touches fewer rows than were read.
+ */
+@IntegrationTest
+class SeatLockTransitionIT {
+
+    @Autowired
+    private SeatLockServiceImpl seatLockService;
+
+    @Autowired
+    private SeatLockRepository seatLockRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SeatLockTestTrips trips;
+
+    @BeforeEach
+    void setUp() {
+        trips = new SeatLockTestTrips(em, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        trips.deleteAll();
+    }
+
+    @Test
+    void confirmGroupCommitsOnlyItsUnexpiredHolds() {
+        Long tripId = trips.create();
+        String group = group(tripId);
+        hold(tripId, group, "A1", "A2");
+        insertLock(tripId, group, "A3", LockStatus.HELD, Instant.now().minusSeconds(60), null, false);
+
+        SeatLockActionResponseDTO response = seatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, group));
+
+        assertThat(response.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(response.getMessage()).isEqualTo("Committed 2 seats");
+        assertThat(trips.statuses(tripId)).containsExactly(
+            Map.entry("A1", LockStatus.COMMITTED),
+            Map.entry("A2", LockStatus.COMMITTED),
+            Map.entry("A3", LockStatus.HELD)
+        );
+        assertThat(trips.occupancy(tripId)).extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted).containsExactly(0, 2);
+    }
+
+    @Test
+    void attachedBookingCancelsItsHolds() {
+        Long tripId = trips.create();
+        String group = group(tripId);
+        Long bookingId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        hold(tripId, group, "B1", "B2");
+
+        assertThat(seatLockService.attachBooking(new AttachBookingRequestDTO(group, bookingId)).getMessage())
+            .isEqualTo("Attached bookingId to 2 locks");
+        // rows that already carry a booking are left alone
+        assertThat(seatLockService.attachBooking(new AttachBookingRequestDTO(group, bookingId + 1)).getMessage())
+            .isEqualTo("Attached bookingId to 0 locks");
+
+        SeatLockActionResponseDTO response = seatLockService.cancelGroup(new CancelGroupRequestDTO(null, bookingId));
+
+        assertThat(response.getStatus()).isEqualTo("RELEASED");
+        assertThat(response.getMessage()).isEqualTo("Cancelled 2 held seats");
+        assertThat(trips.statuses(tripId)).containsExactly(Map.entry("B1", LockStatus.EXPIRED), Map.entry("B2", LockStatus.EXPIRED));
+        assertThat(trips.locks(tripId)).allMatch(l -> bookingId.equals(l.getBookingId()) && !l.getExpiresAt().isAfter(Instant.now()));
+        assertThat(trips.occupancy(tripId)).extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted).containsExactly(0, 0);
+    }
+
+    @Test
+    void transitionsWithoutUnexpiredHoldsAreNotFound() {
+        Long tripId = trips.create();
+        String group = group(tripId);
+        insertLock(tripId, group, "C1", LockStatus.HELD, Instant.now().minusSeconds(60), null, false);
+
+        assertThat(seatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, group)).getStatus()).isEqualTo("NOT_FOUND");
+        assertThat(seatLockService.cancelGroup(new CancelGroupRequestDTO(group, null)).getStatus()).isEqualTo("NOT_FOUND");
+        assertThat(seatLockService.attachBooking(new AttachBookingRequestDTO(group, 1L)).getStatus()).isEqualTo("NOT_FOUND");
+        assertThat(seatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, null)).getStatus()).isEqualTo("BAD_REQUEST");
+        assertThat(trips.statuses(tripId)).containsExactly(Map.entry("C1", LockStatus.HELD));
+    }
+
+    @Test
+    void softDeletedHoldsAreLeftAloneByGroupTransitions() {
+        Long tripId = trips.create();
+        String group = group(tripId);
+        insertLock(tripId, group, "E1", LockStatus.HELD, Instant.now().plusSeconds(600), null, true);
+
+        assertThat(seatLockService.attachBooking(new AttachBookingRequestDTO(group, 1L)).getStatus()).isEqualTo("NOT_FOUND");
+        assertThat(seatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, group)).getStatus()).isEqualTo("NOT_FOUND");
+        assertThat(seatLockService.cancelGroup(new CancelGroupRequestDTO(group, null)).getStatus()).isEqualTo("NOT_FOUND");
+        assertThat(trips.statuses(tripId)).containsExactly(Map.entry("E1", LockStatus.HELD));
+    }
+
+    @Test
+    void overlappingBookingAndGroupTransitionsKeepCountsExact() throws Exception {
+        int rounds = 8;
+        List<Long> tripIds = new ArrayList<>();
+        List<Long> bookings = new ArrayList<>();
+        for (int i = 0; i < rounds; i++) {
+            Long tripId = trips.create();
+            hold(tripId, group(tripId), "D1", "D2", "D3");
+            // the booking covers one seat of the group, so either transition can find a row gone
+            Long bookingId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            trips.tx().executeWithoutResult(status ->
+                em.createQuery("UPDATE SeatLock l SET l.bookingId = :bookingId WHERE l.trip.id = :tripId AND l.seatNo = 'D1'")
+                    .setParameter("bookingId", bookingId)
+                    .setParameter("tripId", tripId)
+                    .executeUpdate()
+            );
+            tripIds.add(tripId);
+            bookings.add(bookingId);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(2 * rounds);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<SeatLockActionResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < rounds; i++) {
+                String group = group(tripIds.get(i));
+                Long bookingId = bookings.get(i);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return seatLockService.confirmGroup(new ConfirmGroupRequestDTO(null, group));
+                }));
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return seatLockService.cancelGroup(new CancelGroupRequestDTO(null, bookingId));
+                }));
+            }
+            start.countDown();
+            for (Future<SeatLockActionResponseDTO> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (Long tripId : tripIds) {
+            Map<String, LockStatus> statuses = trips.statuses(tripId);
+            assertThat(statuses).doesNotContainValue(LockStatus.HELD);
+            int committed = (int) statuses.values().stream().filter(s -> s == LockStatus.COMMITTED).count();
+            assertThat(trips.occupancy(tripId))
+                .extracting(TripOccupancy::getHeld, TripOccupancy::getCommitted)
+                .containsExactly(0, committed);
+        }
+    }
+
+    private void hold(Long tripId, String group, String... seats) {
+        SeatHoldRequestDTO req = new SeatHoldRequestDTO();
+        req.setTripId(tripId);
+        req.setSeatNumbers(List.of(seats));
+        req.setLockGroupId(group);
+        req.setHoldTtlSec(120);
+        assertThat(seatLockService.tryHold(req).getStatus()).isEqualTo("HELD");
+    }
+
+    private void insertLock(Long tripId, String group, String seat, LockStatus status, Instant expiresAt, Long bookingId,
+            Boolean isDeleted) {
+        trips.tx().executeWithoutResult(s ->
+            seatLockRepository.save(
+                new SeatLock()
+                    .seatNo(seat)
+                    .status(status)
+                    .expiresAt(expiresAt)
+                    .idempotencyKey(group + ":" + seat + ":" + UUID.randomUUID())
+                    .lockGroupId(group)
+                    .bookingId(bookingId)
+                    .createdAt(Instant.now())
+                    .isDeleted(isDeleted)
+                    .trip(em.getReference(Trip.class, tripId))
+            )
+        );
+    }
+
+    private static String group(Long tripId) {
+        return "g-" + tripId;
+    }
+}
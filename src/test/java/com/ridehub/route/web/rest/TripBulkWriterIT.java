@@ -0,0 +1,121 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.Vehicle;
+import com.ridehub.route.repository.TripRepository;
+import com.ridehub.route.repository.TripRepositoryWithBulkOperations.TripSlotDate;
+import com.ridehub.route.service.TripBulkWriter;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link TripBulkWriter}.
+ */
+@IntegrationTest
+@Transactional
+class TripBulkWriterIT {
+
+    @Autowired
+    private TripBulkWriter tripBulkWriter;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void insertsTransientTripsWithTheirRelations() {
+        Trip template = TripResourceIT.createEntity(em);
+        String prefix = "BULK-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        Instant departure = Instant.now().truncatedTo(ChronoUnit.SECONDS).plus(1, ChronoUnit.DAYS);
+        List<Trip> trips = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            trips.add(
+                new Trip()
+                    .tripCode(prefix + i)
+                    .departureTime(departure.plus(i, ChronoUnit.HOURS))
+                    .arrivalTime(departure.plus(i + 2, ChronoUnit.HOURS))
+                    .occasionFactor(template.getOccasionFactor())
+                    .createdAt(departure)
+                    .isDeleted(false)
+                    .route(template.getRoute())
+                    .vehicle(template.getVehicle())
+                    .slot(template.getSlot())
+                    .driver(template.getDriver())
+                    .attendant(template.getAttendant())
+            );
+        }
+
+        assertThat(tripBulkWriter.write(trips)).isEqualTo(3);
+
+        List<Trip> saved = tripRepository.findAll().stream().filter(t -> t.getTripCode().startsWith(prefix)).toList();
+        assertThat(saved).hasSize(3);
+        assertThat(saved).extracting(Trip::getDepartureTime).containsExactlyInAnyOrderElementsOf(trips.stream().map(Trip::getDepartureTime).toList());
+        assertThat(saved).allSatisfy(t -> {
+            assertThat(t.getRoute().getId()).isEqualTo(template.getRoute().getId());
+            assertThat(t.getSlot().getId()).isEqualTo(template.getSlot().getId());
+        });
+    }
+
+    @Test
+    void skipsTripsThatExistForTheirRouteSlotAndDate() {
+        Trip template = TripResourceIT.createEntity(em);
+        String prefix = "BULK-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        LocalDate date = LocalDate.of(2031, 1, 6);
+        Instant departure = Instant.parse("2031-01-06T08:00:00Z");
+        List<Trip> first = List.of(generated(template, prefix + "a", date, departure));
+        List<Trip> rerun = List.of(generated(template, prefix + "b", date, departure), generated(template, prefix + "c", date.plusDays(1), departure.plus(1, ChronoUnit.DAYS)));
+
+        assertThat(tripBulkWriter.write(first)).isEqualTo(1);
+        assertThat(tripBulkWriter.write(rerun)).isEqualTo(1);
+
+        assertThat(tripRepository.findAll().stream().filter(t -> t.getTripCode().startsWith(prefix)))
+            .extracting(Trip::getTripCode)
+            .containsExactlyInAnyOrder(prefix + "a", prefix + "c");
+        assertThat(rerun.get(0).getId()).isNull();
+        assertThat(tripRepository.findById(rerun.get(1).getId())).get().extracting(Trip::getTripCode).isEqualTo(prefix + "c");
+        assertThat(tripRepository.findSlotDates(List.of(template.getRoute().getId()), date, date.plusDays(1))).containsExactlyInAnyOrder(
+            new TripSlotDate(template.getRoute().getId(), template.getSlot().getId(), date),
+            new TripSlotDate(template.getRoute().getId(), template.getSlot().getId(), date.plusDays(1))
+        );
+    }
+
+    @Test
+    void failsOnErrorsOtherThanDuplicateKeys() {
+        Trip template = TripResourceIT.createEntity(em);
+        Trip missingVehicle = generated(template, "BULK-" + UUID.randomUUID().toString().substring(0, 8), LocalDate.of(2031, 1, 6),
+            Instant.parse("2031-01-06T08:00:00Z")).vehicle(new Vehicle().id(Long.MAX_VALUE));
+
+        assertThatThrownBy(() -> tripBulkWriter.write(List.of(missingVehicle))).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static Trip generated(Trip template, String tripCode, LocalDate date, Instant departure) {
+        return new Trip()
+            .tripCode(tripCode)
+            .departureTime(departure)
+            .departureDate(date)
+            .arrivalTime(departure.plus(2, ChronoUnit.HOURS))
+            .occasionFactor(template.getOccasionFactor())
+            .createdAt(departure)
+            .isDeleted(false)
+            .route(template.getRoute())
+            .vehicle(template.getVehicle())
+            .slot(template.getSlot())
+            .driver(template.getDriver())
+            .attendant(template.getAttendant());
+    }
+}
@@ -0,0 +1,96 @@
+package com.ridehub.route.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ridehub.route.IntegrationTest;
+import com.ridehub.route.domain.Floor;
+import com.ridehub.route.domain.SeatLock;
+import com.ridehub.route.domain.SeatMap;
+import com.ridehub.route.domain.Trip;
+import com.ridehub.route.domain.TripOccupancy;
+import com.ridehub.route.domain.Vehicle;
+import com.ridehub.route.domain.enumeration.LockStatus;
+import com.ridehub.route.repository.TripOccupancyRepository;
+import com.ridehub.route.service.TripOccupancyService;
+import com.ridehub.route.service.TripService;
+import com.ridehub.route.service.dto.TripDTO;
+import com.ridehub.route.service.dto.VehicleDTO;
+import com.ridehub.route.service.mapper.TripMapper;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the capacity kept in {@code trip_occupancy}: it follows the seat count
+ * of the trip's vehicle when the vehicle is changed.
+ */
+@IntegrationTest
+class TripOccupancyIT {
+
+    @Autowired
+    private TripService tripService;
+
+    @Autowired
+    private TripMapper tripMapper;
+
+    @Autowired
+    private TripOccupancyService tripOccupancyService;
+
+    @Autowired
+    private TripOccupancyRepository tripOccupancyRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @Transactional
+    void changingTheVehicleRecountsTheCapacity() {
+        Trip trip = TripResourceIT.createEntity(em).tripCode("IT-" + UUID.randomUUID().toString().substring(0, 8)).vehicle(vehicleWithSeats(2));
+        em.persist(trip);
+        em.flush();
+        VehicleDTO larger = new VehicleDTO();
+        larger.setId(vehicleWithSeats(3).getId());
+        TripDTO update = tripMapper.toDto(trip);
+        update.setVehicle(larger);
+        em.persist(
+            new SeatLock()
+                .seatNo("S1")
+                .status(LockStatus.HELD)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .idempotencyKey("occupancy:" + UUID.randomUUID())
+                .lockGroupId("occupancy-" + trip.getId())
+                .createdAt(Instant.now())
+                .isDeleted(false)
+                .trip(trip)
+        );
+        tripOccupancyService.recompute(List.of(trip.getId()));
+        assertThat(occupancy(trip.getId())).extracting(TripOccupancy::getCapacity, TripOccupancy::getHeld).containsExactly(2, 1);
+
+        tripService.update(update);
+
+        assertThat(occupancy(trip.getId())).extracting(TripOccupancy::getCapacity, TripOccupancy::getHeld).containsExactly(3, 1);
+    }
+
+    private TripOccupancy occupancy(Long tripId) {
+        em.clear();
+        return tripOccupancyRepository.findById(tripId).orElseThrow();
+    }
+
+    private Vehicle vehicleWithSeats(int seats) {
+        SeatMap seatMap = SeatMapResourceIT.createEntity();
+        em.persist(seatMap);
+        Floor floor = FloorResourceIT.createEntity(em).seatMap(seatMap);
+        em.persist(floor);
+        for (int i = 1; i <= seats; i++) {
+            em.persist(SeatResourceIT.createEntity(em).seatNo("S" + i).floor(floor));
+        }
+        Vehicle vehicle = VehicleResourceIT.createEntity(em).plateNumber("IT-" + UUID.randomUUID().toString().substring(0, 8)).seatMap(seatMap);
+        em.persist(vehicle);
+        em.flush();
+        return vehicle;
+    }
+}